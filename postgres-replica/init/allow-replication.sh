@@ -0,0 +1,4 @@
+#!/bin/sh
+# Allows the postgres-replica service to stream changes from this database.
+# Runs only when the database is initialised, i.e. when the postgres-data folder is empty.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,14 @@
+#!/bin/sh
+# Copies the postgres service into an empty data folder and keeps it as a read-only standby of that service.
+set -e
+mkdir -p "$PGDATA"
+chown postgres "$PGDATA"
+chmod 700 "$PGDATA"
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until su-exec postgres pg_basebackup -h postgres -U teammates -D "$PGDATA" -R -X stream; do
+        echo "Waiting for the primary database..."
+        rm -rf "${PGDATA:?}"/*
+        sleep 2
+    done
+fi
+exec su-exec postgres postgres
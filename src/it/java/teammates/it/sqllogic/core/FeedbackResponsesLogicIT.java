@@ -1,20 +1,35 @@
 package teammates.it.sqllogic.core;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsCursor;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Team;
+import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
 
 /**
  * SUT: {@link FeedbackResponsesLogic}.
@@ -22,6 +37,7 @@ import teammates.storage.sqlentity.Section;
 public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -95,6 +111,178 @@ public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess
         assertEquals(fr.getRecipientSection(), newRecipientSection);
     }
 
+    @Test
+    public void testGetSessionResultsForCourse_missingResponses() {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Instructor instructor = typicalDataBundle.instructors.get("instructor1OfCourse1");
+
+        SqlSessionResultsBundle bundle = frLogic.getSessionResultsForCourse(session, session.getCourseId(),
+                instructor.getEmail(), null, null, null);
+
+        int numberOfMissingResponses = 0;
+        for (Map.Entry<FeedbackQuestion, List<FeedbackResponse>> entry : bundle.getQuestionResponseMap().entrySet()) {
+            Set<String> existingPairs = new HashSet<>();
+            for (FeedbackResponse response : entry.getValue()) {
+                existingPairs.add(response.getGiver() + "->" + response.getRecipient());
+            }
+
+            ______TS("missing responses are generated in order of giver and recipient, and exclude existing responses");
+            List<FeedbackResponse> missingResponses = new ArrayList<>();
+            bundle.getQuestionMissingResponseMap().get(entry.getKey()).forEach(missingResponses::add);
+            for (int i = 0; i < missingResponses.size(); i++) {
+                FeedbackResponse missingResponse = missingResponses.get(i);
+                assertTrue(missingResponse instanceof FeedbackMissingResponse);
+                assertFalse(existingPairs.contains(missingResponse.getGiver() + "->" + missingResponse.getRecipient()));
+                if (i > 0) {
+                    FeedbackResponse previous = missingResponses.get(i - 1);
+                    int comparison = previous.getGiver().compareTo(missingResponse.getGiver());
+                    if (comparison == 0) {
+                        comparison = previous.getRecipient().compareTo(missingResponse.getRecipient());
+                    }
+                    assertTrue(comparison < 0);
+                }
+            }
+
+            ______TS("missing responses are generated again for every iteration");
+            List<FeedbackResponse> missingResponsesAgain = new ArrayList<>();
+            bundle.getQuestionMissingResponseMap().get(entry.getKey()).forEach(missingResponsesAgain::add);
+            assertEquals(missingResponses.size(), missingResponsesAgain.size());
+
+            numberOfMissingResponses += missingResponses.size();
+        }
+        assertTrue(numberOfMissingResponses > 0);
+    }
+
+    @Test
+    public void testGetSessionResultsPageForCourse() {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Instructor instructor = typicalDataBundle.instructors.get("instructor1OfCourse1");
+
+        SqlSessionResultsBundle fullBundle = frLogic.getSessionResultsForCourse(session, session.getCourseId(),
+                instructor.getEmail(), null, null, null);
+        List<String> expectedResponses = new ArrayList<>();
+        Set<String> expectedMissingResponses = new HashSet<>();
+        for (FeedbackQuestion question : fullBundle.getQuestionResponseMap().keySet()) {
+            for (FeedbackResponse response : fullBundle.getQuestionResponseMap().get(question)) {
+                expectedResponses.add(response.getId().toString());
+            }
+            for (FeedbackResponse missingResponse : fullBundle.getQuestionMissingResponseMap().get(question)) {
+                expectedMissingResponses.add(question.getQuestionNumber() + ":"
+                        + missingResponse.getGiver() + "->" + missingResponse.getRecipient());
+            }
+        }
+
+        ______TS("pages together contain every response exactly once");
+        List<String> pagedResponses = new ArrayList<>();
+        Set<String> pagedMissingResponses = new HashSet<>();
+        int numberOfMissingResponses = 0;
+        int numberOfPages = 0;
+        SessionResultsCursor cursor = null;
+        do {
+            SqlSessionResultsPage page = frLogic.getSessionResultsPageForCourse(session, session.getCourseId(),
+                    instructor.getEmail(), null, null, null, cursor, 2);
+            SqlSessionResultsBundle bundle = page.getBundle();
+            int numberOfResponsesInPage = 0;
+            for (FeedbackQuestion question : bundle.getQuestionResponseMap().keySet()) {
+                for (FeedbackResponse response : bundle.getQuestionResponseMap().get(question)) {
+                    pagedResponses.add(response.getId().toString());
+                    numberOfResponsesInPage++;
+                }
+                for (FeedbackResponse missingResponse : bundle.getQuestionMissingResponseMap().get(question)) {
+                    pagedMissingResponses.add(question.getQuestionNumber() + ":"
+                            + missingResponse.getGiver() + "->" + missingResponse.getRecipient());
+                    numberOfMissingResponses++;
+                    numberOfResponsesInPage++;
+                }
+            }
+            assertTrue(numberOfResponsesInPage <= 2);
+            cursor = page.getNextCursor();
+            numberOfPages++;
+        } while (cursor != null);
+
+        assertTrue(numberOfPages > 1);
+        assertEquals(new HashSet<>(expectedResponses), new HashSet<>(pagedResponses));
+        assertEquals(expectedResponses.size(), pagedResponses.size());
+
+        ______TS("missing responses are paged together with the existing responses, each exactly once");
+        assertEquals(expectedMissingResponses, pagedMissingResponses);
+        assertEquals(expectedMissingResponses.size(), numberOfMissingResponses);
+    }
+
+    @Test
+    public void testForEachSessionResultsPartForCourse() {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Instructor instructor = typicalDataBundle.instructors.get("instructor1OfCourse1");
+
+        SqlSessionResultsBundle fullBundle = frLogic.getSessionResultsForCourse(session, session.getCourseId(),
+                instructor.getEmail(), null, null, null);
+        Set<String> expectedResponses = new HashSet<>();
+        int numberOfExpectedMissingResponses = 0;
+        for (FeedbackQuestion question : fullBundle.getQuestionResponseMap().keySet()) {
+            for (FeedbackResponse response : fullBundle.getQuestionResponseMap().get(question)) {
+                expectedResponses.add(response.getId().toString());
+            }
+            for (FeedbackResponse missingResponse : fullBundle.getQuestionMissingResponseMap().get(question)) {
+                assertNotNull(missingResponse);
+                numberOfExpectedMissingResponses++;
+            }
+        }
+
+        ______TS("parts together contain every response once, and each part holds at most one existing response");
+        List<String> partResponses = new ArrayList<>();
+        int[] numberOfMissingResponses = new int[1];
+        frLogic.forEachSessionResultsPartForCourse(session, session.getCourseId(), instructor.getEmail(),
+                null, null, 1, bundle -> {
+                    assertEquals(1, bundle.getQuestionResponseMap().size());
+                    List<FeedbackResponse> responses = bundle.getQuestionResponseMap().values().iterator().next();
+                    assertTrue(responses.size() <= 1);
+                    responses.forEach(response -> partResponses.add(response.getId().toString()));
+                    bundle.getQuestionMissingResponseMap().values()
+                            .forEach(missingResponses -> missingResponses.forEach(
+                                    missingResponse -> numberOfMissingResponses[0]++));
+                });
+
+        assertEquals(expectedResponses.size(), partResponses.size());
+        assertEquals(expectedResponses, new HashSet<>(partResponses));
+        assertEquals(numberOfExpectedMissingResponses, numberOfMissingResponses[0]);
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingTeam() {
+        Course course = typicalDataBundle.courses.get("course1");
+        Team oldTeam = typicalDataBundle.teams.get("team1InCourse1");
+        Team newTeam = typicalDataBundle.teams.get("team2InCourse1");
+        String email = typicalDataBundle.students.get("student1InCourse1").getEmail();
+
+        FeedbackQuestion teamQuestion = fqLogic.getFeedbackQuestion(
+                typicalDataBundle.feedbackQuestions.get("qn3InSession1InCourse1").getId());
+        teamQuestion.setGiverType(FeedbackParticipantType.TEAMS);
+        FeedbackQuestion teamMembersQuestion = fqLogic.getFeedbackQuestion(
+                typicalDataBundle.feedbackQuestions.get("qn2InSession1InCourse1").getId());
+        teamMembersQuestion.setRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS);
+        HibernateUtil.flushSession();
+
+        FeedbackResponse fromStudentOnBehalfOfTeam = typicalDataBundle.feedbackResponses.get("response1ForQ3");
+        FeedbackResponse fromTeamMemberToStudent = typicalDataBundle.feedbackResponses.get("response1ForQ2");
+        FeedbackResponse betweenOtherTeamMembers = typicalDataBundle.feedbackResponses.get("response2ForQ2");
+        FeedbackResponse toSelf = typicalDataBundle.feedbackResponses.get("response1ForQ1");
+        FeedbackResponse toSelfInOtherSession = typicalDataBundle.feedbackResponses.get("response1ForQ1InSession2");
+
+        frLogic.updateFeedbackResponsesForChangingTeam(course, email, newTeam, oldTeam);
+
+        ______TS("responses given on behalf of the team or within the team are deleted with their comments");
+        assertNull(frLogic.getFeedbackResponse(fromStudentOnBehalfOfTeam.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentsForResponse(fromStudentOnBehalfOfTeam.getId()).isEmpty());
+        assertNull(frLogic.getFeedbackResponse(fromTeamMemberToStudent.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentsForResponse(fromTeamMemberToStudent.getId()).isEmpty());
+
+        ______TS("other responses survive the team change");
+        assertNotNull(frLogic.getFeedbackResponse(betweenOtherTeamMembers.getId()));
+        assertNotNull(frLogic.getFeedbackResponse(toSelf.getId()));
+        assertFalse(frcLogic.getFeedbackResponseCommentsForResponse(toSelf.getId()).isEmpty());
+        assertNotNull(frLogic.getFeedbackResponse(toSelfInOtherSession.getId()));
+    }
+
     // TODO: Enable test after fixing automatic persist cascade of feedbackResponse to feedbackResponseComments
     @Test(enabled = false)
     public void testUpdatedFeedbackResponsesAndCommentsCascade_noChangeToResponseSection_shouldNotUpdateComments()
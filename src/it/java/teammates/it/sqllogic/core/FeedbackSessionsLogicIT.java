@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -16,9 +17,11 @@ import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackSessionsLogic;
+import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
 
 /**
  * SUT: {@link FeedbackSessionsLogic}.
@@ -27,6 +30,7 @@ public class FeedbackSessionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private UsersLogic usersLogic = UsersLogic.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -60,6 +64,39 @@ public class FeedbackSessionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedGivers, givers);
     }
 
+    @Test
+    public void testGetUsersYetToAttemptFeedbackSession_typicalCase_matchesPerUserChecks() {
+        FeedbackSession fs = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = fs.getCourse().getId();
+        FeedbackSession session = fsLogic.getFeedbackSession(fs.getName(), courseId);
+
+        ______TS("students");
+        List<Student> students = usersLogic.getStudentsForCourse(courseId);
+        List<Student> expectedStudents = students.stream()
+                .filter(student -> !fsLogic.isFeedbackSessionAttemptedByStudent(
+                        session, student.getEmail(), student.getTeamName()))
+                .collect(Collectors.toList());
+
+        List<Student> actualStudents = fsLogic.getStudentsYetToAttemptFeedbackSession(session, students);
+
+        assertEquals(expectedStudents, actualStudents);
+        assertFalse(actualStudents.contains(typicalDataBundle.students.get("student1InCourse1")));
+
+        ______TS("instructors");
+        List<Instructor> instructors = usersLogic.getInstructorsForCourse(courseId);
+        List<Instructor> expectedInstructors = instructors.stream()
+                .filter(instructor -> !fsLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail()))
+                .collect(Collectors.toList());
+
+        List<Instructor> actualInstructors = fsLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors);
+
+        assertEquals(expectedInstructors, actualInstructors);
+
+        ______TS("no users");
+        assertTrue(fsLogic.getStudentsYetToAttemptFeedbackSession(session, List.of()).isEmpty());
+        assertTrue(fsLogic.getInstructorsYetToAttemptFeedbackSession(session, List.of()).isEmpty());
+    }
+
     @Test
     public void testPublishFeedbackSession()
             throws InvalidParametersException, EntityDoesNotExistException {
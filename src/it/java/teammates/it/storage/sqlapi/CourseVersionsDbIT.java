@@ -0,0 +1,36 @@
+package teammates.it.storage.sqlapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.HibernateUtil;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.CourseVersionsDb;
+
+/**
+ * SUT: {@link CourseVersionsDb}.
+ */
+public class CourseVersionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private final CourseVersionsDb courseVersionsDb = CourseVersionsDb.inst();
+
+    @Test
+    public void testIncreaseCourseVersion() {
+        String courseId = "course-versions-db-it";
+
+        ______TS("never increased: version is zero");
+        assertEquals(0L, courseVersionsDb.getCourseVersion(courseId));
+
+        ______TS("first increase: version created");
+        courseVersionsDb.increaseCourseVersion(courseId);
+        assertEquals(1L, courseVersionsDb.getCourseVersion(courseId));
+
+        ______TS("later increases: version increased without affecting other courses");
+        courseVersionsDb.increaseCourseVersion(courseId);
+        courseVersionsDb.increaseCourseVersion(courseId);
+        HibernateUtil.clearSession();
+
+        assertEquals(3L, courseVersionsDb.getCourseVersion(courseId));
+        assertEquals(0L, courseVersionsDb.getCourseVersion(courseId + "-other"));
+    }
+
+}
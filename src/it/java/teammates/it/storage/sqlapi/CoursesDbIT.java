@@ -3,11 +3,14 @@ package teammates.it.storage.sqlapi;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.PersistenceException;
+
 import org.testng.annotations.Test;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlentity.Course;
@@ -98,6 +101,34 @@ public class CoursesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(actualCourse);
     }
 
+    @Test
+    public void testGetCourse_readOnlyTransaction_changesNotFlushed() throws Exception {
+        Course course = new Course("read-only-course-id", "course-name", "Asia/Singapore", "institute");
+        coursesDb.createCourse(course);
+        HibernateUtil.commitTransaction();
+
+        ______TS("success: changes to loaded entities are not flushed on commit");
+        HibernateUtil.beginReadOnlyTransaction();
+        coursesDb.getCourse(course.getId()).setName("new-name");
+        HibernateUtil.commitTransaction();
+
+        HibernateUtil.beginTransaction();
+        assertEquals("course-name", coursesDb.getCourse(course.getId()).getName());
+        HibernateUtil.commitTransaction();
+
+        ______TS("failure: writes rejected by the database");
+        HibernateUtil.beginReadOnlyTransaction();
+        assertThrows(PersistenceException.class, () ->
+                HibernateUtil.createNativeMutationQuery("UPDATE courses SET name = 'new-name' WHERE id = :id")
+                        .setParameter("id", course.getId())
+                        .executeUpdate());
+        HibernateUtil.rollbackTransaction();
+
+        HibernateUtil.beginTransaction();
+        coursesDb.deleteCourse(coursesDb.getCourse(course.getId()));
+        HibernateUtil.commitTransaction();
+    }
+
     @Test
     public void testCreateSection() throws Exception {
         Course course = getTypicalCourse();
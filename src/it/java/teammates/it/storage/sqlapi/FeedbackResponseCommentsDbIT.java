@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.stat.Statistics;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -119,6 +120,31 @@ public class FeedbackResponseCommentsDbIT extends BaseTestCaseWithSqlDatabaseAcc
         checkSqlInjectionFailed(frc);
     }
 
+    @Test
+    public void testUpdateSectionsOfFeedbackResponseCommentsForCourse() {
+        Course course = testDataBundle.courses.get("course1");
+        Section newSection = testDataBundle.sections.get("section2InCourse1");
+        FeedbackResponseComment frc = testDataBundle.feedbackResponseComments.get("comment1ToResponse1ForQ1");
+        String email = testDataBundle.feedbackResponses.get("response1ForQ1").getGiver();
+
+        assertNotEquals(newSection, frcDb.getFeedbackResponseComment(frc.getId()).getGiverSection());
+
+        ______TS("comments on responses in other courses are not updated");
+        frcDb.updateGiverSectionOfFeedbackResponseCommentsForCourse("non-existent-course", email, newSection);
+
+        assertNotEquals(newSection, frcDb.getFeedbackResponseComment(frc.getId()).getGiverSection());
+
+        ______TS("comments already in the session are not stale after the bulk updates");
+        FeedbackResponseComment loaded = frcDb.getFeedbackResponseComment(frc.getId());
+        frcDb.updateGiverSectionOfFeedbackResponseCommentsForCourse(course.getId(), email, newSection);
+        frcDb.updateRecipientSectionOfFeedbackResponseCommentsForCourse(course.getId(), email, newSection);
+
+        FeedbackResponseComment actual = frcDb.getFeedbackResponseComment(frc.getId());
+        assertSame(loaded, actual);
+        assertEquals(newSection, actual.getGiverSection());
+        assertEquals(newSection, actual.getRecipientSection());
+    }
+
     @Test
     public void testGetFeedbackResponseCommentsForSession_matchFound_success() {
         Course course = testDataBundle.courses.get("course1");
@@ -138,6 +164,30 @@ public class FeedbackResponseCommentsDbIT extends BaseTestCaseWithSqlDatabaseAcc
         assertListCommentsEqual(expected, results);
     }
 
+    @Test
+    public void testGetFeedbackResponseCommentsForSession_associationsLoadedInOneStatement() {
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackSession session = testDataBundle.feedbackSessions.get("session1InCourse1");
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<FeedbackResponseComment> results =
+                    frcDb.getFeedbackResponseCommentsForSession(course.getId(), session.getName());
+            for (FeedbackResponseComment comment : results) {
+                FeedbackResponse response = comment.getFeedbackResponse();
+                response.getFeedbackQuestion().getFeedbackSession().getCourse().getName();
+                response.getGiverSection().getName();
+                response.getRecipientSection().getName();
+            }
+
+            assertFalse(results.isEmpty());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     public void testGetFeedbackResponseCommentsForSession_matchNotFound_shouldReturnEmptyList() {
         Course course = testDataBundle.courses.get("course1");
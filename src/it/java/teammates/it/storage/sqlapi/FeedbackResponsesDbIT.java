@@ -1,9 +1,13 @@
 package teammates.it.storage.sqlapi;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -82,6 +86,85 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(frcDb.getFeedbackResponseComment(frc1.getId()));
     }
 
+    @Test
+    public void testUpdateGiverAndRecipientOfFeedbackResponsesForCourse() {
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+        String oldEmail = "student1@teammates.tmt";
+        String newEmail = "student1.new@teammates.tmt";
+        int numResponsesFromUser = frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), oldEmail).size();
+        int numResponsesToUser = frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), oldEmail).size();
+
+        ______TS("responses already in the session are not stale after the bulk updates");
+        FeedbackResponse loaded = frDb.getFeedbackResponse(fr.getId());
+        assertEquals(oldEmail, loaded.getGiver());
+
+        frDb.updateGiverOfFeedbackResponsesForCourse(course.getId(), oldEmail, newEmail);
+        frDb.updateRecipientOfFeedbackResponsesForCourse(course.getId(), oldEmail, newEmail);
+
+        FeedbackResponse actual = frDb.getFeedbackResponse(fr.getId());
+        assertSame(loaded, actual);
+        assertEquals(newEmail, actual.getGiver());
+        assertEquals(newEmail, actual.getRecipient());
+        assertEquals(0, frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), oldEmail).size());
+        assertEquals(0, frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), oldEmail).size());
+        assertEquals(numResponsesFromUser,
+                frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail).size());
+        assertEquals(numResponsesToUser,
+                frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail).size());
+
+        ______TS("responses in other courses are not updated");
+        frDb.updateGiverOfFeedbackResponsesForCourse("non-existent-course", newEmail, oldEmail);
+
+        assertEquals(newEmail, frDb.getFeedbackResponse(fr.getId()).getGiver());
+
+        ______TS("responses not in the session are loaded with their own type after the bulk updates");
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+        frDb.updateGiverOfFeedbackResponsesForCourse(course.getId(), newEmail, oldEmail);
+
+        assertEquals(fr.getClass(), frDb.getFeedbackResponse(fr.getId()).getClass());
+    }
+
+    @Test
+    public void testUpdateSectionsOfFeedbackResponsesForCourse() {
+        Course course = testDataBundle.courses.get("course1");
+        Section newSection = testDataBundle.sections.get("section2InCourse1");
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+        String email = "student1@teammates.tmt";
+
+        assertNotEquals(newSection, frDb.getFeedbackResponse(fr.getId()).getGiverSection());
+
+        frDb.updateGiverSectionOfFeedbackResponsesForCourse(course.getId(), email, newSection);
+        frDb.updateRecipientSectionOfFeedbackResponsesForCourse(course.getId(), email, newSection);
+
+        FeedbackResponse actual = frDb.getFeedbackResponse(fr.getId());
+        assertEquals(newSection, actual.getGiverSection());
+        assertEquals(newSection, actual.getRecipientSection());
+        for (FeedbackResponse response : frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), email)) {
+            assertEquals(newSection, response.getGiverSection());
+        }
+        for (FeedbackResponse response : frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), email)) {
+            assertEquals(newSection, response.getRecipientSection());
+        }
+    }
+
+    @Test
+    public void testDeleteFeedbackResponsesFromOrToParticipantForCourse() {
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+        FeedbackResponseComment frc = testDataBundle.feedbackResponseComments.get("comment1ToResponse1ForQ1");
+        String email = "student1@teammates.tmt";
+
+        frDb.deleteFeedbackResponsesFromOrToParticipantForCourse(course.getId(), email);
+
+        assertNull(frDb.getFeedbackResponse(fr.getId()));
+        assertNull(frcDb.getFeedbackResponseComment(frc.getId()));
+        assertEquals(0, frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), email).size());
+        assertEquals(0, frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), email).size());
+        assertNotNull(frDb.getFeedbackResponse(testDataBundle.feedbackResponses.get("response2ForQ1").getId()));
+    }
+
     @Test
     public void testDeleteFeedback() {
         ______TS("success: typical case");
@@ -140,6 +223,90 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(actual);
     }
 
+    @Test
+    public void testHasResponsesFromGiverForQuestions() {
+        ______TS("success: typical case");
+        FeedbackQuestion fq1 = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestion fq2 = testDataBundle.feedbackQuestions.get("qn6InSession1InCourse1NoResponses");
+
+        assertTrue(frDb.hasResponsesFromGiverForQuestions("student1@teammates.tmt", List.of(fq1, fq2)));
+
+        ______TS("questions with no responses");
+        assertFalse(frDb.hasResponsesFromGiverForQuestions("student1@teammates.tmt", List.of(fq2)));
+
+        ______TS("giver with no responses");
+        assertFalse(frDb.hasResponsesFromGiverForQuestions("studentnorespones@teammates.tmt", List.of(fq1, fq2)));
+
+        ______TS("no questions");
+        assertFalse(frDb.hasResponsesFromGiverForQuestions("student1@teammates.tmt", List.of()));
+    }
+
+    @Test
+    public void testGetGiverSetThatAnsweredFeedbackSession() {
+        ______TS("success: typical case");
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        Set<String> expectedGivers = new HashSet<>();
+        frDb.getFeedbackResponsesForSession(fs, course.getId())
+                .forEach(response -> expectedGivers.add(response.getGiver()));
+
+        Set<String> actualGivers = frDb.getGiverSetThatAnsweredFeedbackSession(fs);
+
+        assertFalse(actualGivers.isEmpty());
+        assertEquals(expectedGivers, actualGivers);
+        assertTrue(actualGivers.contains("student1@teammates.tmt"));
+        assertFalse(actualGivers.contains("studentnorespones@teammates.tmt"));
+    }
+
+    @Test
+    public void testGetFeedbackResponsesForQuestions() {
+        ______TS("success: typical case");
+        FeedbackQuestion fq1 = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestion fq2 = testDataBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+
+        List<FeedbackResponse> expected = new ArrayList<>(frDb.getResponsesForQuestion(fq1.getId()));
+        expected.addAll(frDb.getResponsesForQuestion(fq2.getId()));
+
+        List<FeedbackResponse> actual = frDb.getFeedbackResponsesForQuestions(List.of(fq1, fq2));
+
+        assertEquals(7, actual.size());
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+
+        ______TS("no questions");
+        assertTrue(frDb.getFeedbackResponsesForQuestions(List.of()).isEmpty());
+    }
+
+    @Test
+    public void testGetFeedbackResponsesFromOrToParticipantsForQuestions() {
+        ______TS("success: responses given or received by participant");
+        FeedbackQuestion fq1 = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestion fq2 = testDataBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+
+        List<FeedbackResponse> expected = List.of(
+                testDataBundle.feedbackResponses.get("response3ForQ1"),
+                testDataBundle.feedbackResponses.get("response4ForQ1"),
+                testDataBundle.feedbackResponses.get("response3ForQ2"));
+
+        List<FeedbackResponse> actual = frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(
+                List.of(fq1, fq2), List.of("student4@teammates.tmt"));
+
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+
+        ______TS("success: responses of other questions are excluded");
+        actual = frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(
+                List.of(fq2), List.of("student4@teammates.tmt"));
+
+        assertEquals(List.of(testDataBundle.feedbackResponses.get("response3ForQ2")), actual);
+
+        ______TS("no participants or questions");
+        assertTrue(frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(List.of(fq1, fq2), List.of()).isEmpty());
+        assertTrue(frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(
+                List.of(), List.of("student4@teammates.tmt")).isEmpty());
+    }
+
     private FeedbackResponse prepareSqlInjectionTest() {
         FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
         assertNotNull(frDb.getFeedbackResponse(fr.getId()));
@@ -419,6 +586,91 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(0, actual.size());
     }
 
+    @Test
+    public void testGetFeedbackResponse_associationsNotLoaded() {
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            FeedbackResponse actual = frDb.getFeedbackResponse(fr.getId());
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertFalse(Hibernate.isInitialized(actual.getFeedbackQuestion()));
+            assertFalse(Hibernate.isInitialized(actual.getGiverSection()));
+            assertFalse(Hibernate.isInitialized(actual.getRecipientSection()));
+            assertEquals(fr.getFeedbackQuestion(), actual.getFeedbackQuestion());
+            assertEquals(fr.getGiverSection(), actual.getGiverSection());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void testGetFeedbackResponsesForSession_associationsLoadedInOneStatement() {
+        FeedbackSession session = testDataBundle.feedbackSessions.get("session1InCourse1");
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<FeedbackResponse> actual = frDb.getFeedbackResponsesForSession(session, session.getCourse().getId());
+            for (FeedbackResponse response : actual) {
+                response.getFeedbackQuestion().getFeedbackSession().getCourse().getName();
+                response.getGiverSection().getCourse().getName();
+                response.getRecipientSection().getCourse().getName();
+            }
+
+            assertEquals(8, actual.size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void testGetFeedbackResponsesForQuestionInSection_associationsLoadedInOneStatement() {
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<FeedbackResponse> actual = frDb.getFeedbackResponsesForQuestionInSection(
+                    fq.getId(), section.getName(), FeedbackResultFetchType.BOTH);
+            for (FeedbackResponse response : actual) {
+                response.getFeedbackQuestion().getQuestionNumber();
+                response.getGiverSection().getName();
+                response.getRecipientSection().getName();
+            }
+
+            assertFalse(actual.isEmpty());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void testGetFeedbackResponsesFromGiverForQuestion_questionLoadedInOneStatement() {
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<FeedbackResponse> actual =
+                    frDb.getFeedbackResponsesFromGiverForQuestion(fq.getId(), "student1@teammates.tmt");
+            for (FeedbackResponse response : actual) {
+                response.getFeedbackQuestion().getFeedbackSession().getCourse().getName();
+            }
+
+            assertEquals(2, actual.size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertFalse(Hibernate.isInitialized(actual.get(0).getGiverSection()));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     private void assertListResponsesEqual(List<FeedbackResponse> expected, List<FeedbackResponse> actual) {
         assertEquals("List size not equal.", expected.size(), actual.size());
         assertTrue(
@@ -0,0 +1,183 @@
+package teammates.it.storage.sqlapi;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.util.HibernateUtil;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.Section;
+
+/**
+ * SUT: secondary indexes of the FeedbackResponses, Users and FeedbackResponseComments tables.
+ *
+ * <p>Each test seeds about {@value #SEEDED_RESPONSES_COUNT} responses, with copies of the courses, sections,
+ * accounts, users and comments they belong to, then runs {@code EXPLAIN} on the SQL shape of a frequently used
+ * criteria query and verifies that the planner reaches the rows through the expected index.
+ */
+public class QueryPlanIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private static final int SEEDED_RESPONSES_COUNT = 100_000;
+
+    private SqlDataBundle testDataBundle;
+
+    @Override
+    @BeforeClass
+    public void setupClass() {
+        super.setupClass();
+        testDataBundle = loadSqlDataBundle("/FeedbackResponsesITBundle.json");
+    }
+
+    @Override
+    @BeforeMethod
+    protected void setUp() throws Exception {
+        super.setUp();
+        persistDataBundle(testDataBundle);
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+    }
+
+    @Test
+    public void testFeedbackResponsesQueries_seededDataset_useQuestionIndexes() {
+        seedDataset();
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+
+        ______TS("responses from giver for question");
+        verifyIndexUsed("idx_feedback_responses_question_id_giver",
+                "SELECT * FROM feedback_responses WHERE question_id = '%s' AND giver = '%s'",
+                fq.getId(), fr.getGiver());
+
+        ______TS("responses for recipient for question");
+        verifyIndexUsed("idx_feedback_responses_question_id_recipient",
+                "SELECT * FROM feedback_responses WHERE question_id = '%s' AND recipient = '%s'",
+                fq.getId(), fr.getRecipient());
+
+        ______TS("responses from giver for course");
+        verifyIndexUsed("idx_feedback_responses_question_id_giver",
+                "SELECT fr.* FROM feedback_responses fr JOIN feedback_questions fq ON fr.question_id = fq.id "
+                        + "JOIN feedback_sessions fs ON fq.session_id = fs.id "
+                        + "WHERE fs.course_id = '%s' AND fr.giver = '%s'",
+                "course-1", fr.getGiver());
+    }
+
+    @Test
+    public void testSectionQueries_seededDataset_useSectionIndexes() {
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        seedDataset();
+
+        ______TS("responses by giver section");
+        verifyIndexUsed("idx_feedback_responses_giver_section_id",
+                "SELECT * FROM feedback_responses WHERE giver_section_id = '%s'", section.getId());
+
+        ______TS("responses by recipient section");
+        verifyIndexUsed("idx_feedback_responses_recipient_section_id",
+                "SELECT * FROM feedback_responses WHERE recipient_section_id = '%s'", section.getId());
+
+        ______TS("comments by giver section");
+        verifyIndexUsed("idx_feedback_response_comments_giver_section_id",
+                "SELECT * FROM feedback_response_comments WHERE giver_section_id = '%s'", section.getId());
+
+        ______TS("comments by recipient section");
+        verifyIndexUsed("idx_feedback_response_comments_recipient_section_id",
+                "SELECT * FROM feedback_response_comments WHERE recipient_section_id = '%s'", section.getId());
+    }
+
+    @Test
+    public void testCommentsAndUsersQueries_seededDataset_useLookupIndexes() {
+        FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
+        seedDataset();
+
+        ______TS("comments for response");
+        verifyIndexUsed("idx_feedback_response_comments_response_id",
+                "SELECT * FROM feedback_response_comments WHERE response_id = '%s'", fr.getId());
+
+        ______TS("users for course");
+        verifyIndexUsed("idx_users_course_id",
+                "SELECT * FROM users WHERE course_id = '%s'", "course-1");
+
+        ______TS("users by google id");
+        verifyIndexUsed("idx_users_account_id",
+                "SELECT u.* FROM users u JOIN accounts a ON u.account_id = a.id WHERE a.google_id = '%s'",
+                "instructor1");
+
+        ______TS("user by registration key");
+        verifyIndexUsed("idx_users_reg_key",
+                "SELECT * FROM users WHERE reg_key = '%s'", UUID.randomUUID());
+    }
+
+    /**
+     * Copies the persisted data until the responses table holds about {@value SEEDED_RESPONSES_COUNT} rows,
+     * and refreshes the planner statistics.
+     *
+     * <p>Copy {@code i} of a row gets its own course, section, account and response, so that the rows of
+     * the persisted course stay as selective as they would be in a production database.
+     * Identifiers of copied rows are derived from the original identifier and {@code i},
+     * which lets the copies of dependent rows reference them.
+     */
+    private void seedDataset() {
+        long existingCount = HibernateUtil.createNativeQuery("SELECT count(*) FROM feedback_responses", Long.class)
+                .getSingleResult();
+        long copies = (SEEDED_RESPONSES_COUNT + existingCount - 1) / existingCount;
+
+        seedCopies("INSERT INTO courses (id, created_at, updated_at, deleted_at, name, institute, time_zone) "
+                + "SELECT c.id || '.' || s.i, c.created_at, c.updated_at, c.deleted_at, c.name, c.institute, "
+                + "c.time_zone FROM courses c", copies);
+        seedCopies("INSERT INTO accounts (id, created_at, updated_at, email, google_id, name) "
+                + "SELECT md5(a.id || '.' || s.i)::uuid, a.created_at, a.updated_at, a.email, "
+                + "a.google_id || '.' || s.i, a.name FROM accounts a", copies);
+        seedCopies("INSERT INTO sections (id, created_at, updated_at, course_id, name) "
+                + "SELECT md5(sec.id || '.' || s.i)::uuid, sec.created_at, sec.updated_at, "
+                + "sec.course_id || '.' || s.i, sec.name FROM sections sec", copies);
+        seedCopies("INSERT INTO users (id, created_at, updated_at, course_id, email, name, reg_key, "
+                + "account_id, team_id) "
+                + "SELECT gen_random_uuid(), u.created_at, u.updated_at, u.course_id || '.' || s.i, u.email, "
+                + "u.name, u.reg_key || '.' || s.i, md5(u.account_id || '.' || s.i)::uuid, u.team_id "
+                + "FROM users u", copies);
+        seedCopies("INSERT INTO feedback_responses (dtype, id, created_at, updated_at, giver, recipient, answer, "
+                + "question_id, giver_section_id, recipient_section_id) "
+                + "SELECT fr.dtype, md5(fr.id || '.' || s.i)::uuid, fr.created_at, fr.updated_at, "
+                + "fr.giver || '.' || s.i, fr.recipient || '.' || s.i, fr.answer, fr.question_id, "
+                + "md5(fr.giver_section_id || '.' || s.i)::uuid, md5(fr.recipient_section_id || '.' || s.i)::uuid "
+                + "FROM feedback_responses fr", copies);
+        seedCopies("INSERT INTO feedback_response_comments (id, created_at, updated_at, response_id, giver, "
+                + "giver_type, comment_text, is_comment_from_feedback_participant, "
+                + "is_visibility_following_feedback_question, show_comment_to, show_giver_name_to, "
+                + "last_editor_email, giver_section_id, recipient_section_id) "
+                + "SELECT (SELECT coalesce(max(id), 0) FROM feedback_response_comments) + row_number() OVER (), "
+                + "frc.created_at, frc.updated_at, md5(frc.response_id || '.' || s.i)::uuid, frc.giver, "
+                + "frc.giver_type, frc.comment_text, frc.is_comment_from_feedback_participant, "
+                + "frc.is_visibility_following_feedback_question, frc.show_comment_to, frc.show_giver_name_to, "
+                + "frc.last_editor_email, md5(frc.giver_section_id || '.' || s.i)::uuid, "
+                + "md5(frc.recipient_section_id || '.' || s.i)::uuid FROM feedback_response_comments frc", copies);
+
+        HibernateUtil.createNativeMutationQuery(
+                "ANALYZE courses, accounts, sections, users, feedback_responses, feedback_response_comments")
+                .executeUpdate();
+    }
+
+    /**
+     * Runs the given {@code INSERT ... SELECT ... FROM <table>} once for each copy index {@code s.i}.
+     */
+    private void seedCopies(String insertSelectSql, long copies) {
+        HibernateUtil.createNativeMutationQuery(insertSelectSql + " CROSS JOIN generate_series(1, :copies) AS s(i)")
+                .setParameter("copies", copies)
+                .executeUpdate();
+    }
+
+    private void verifyIndexUsed(String indexName, String sqlFormat, Object... args) {
+        List<String> plan = HibernateUtil.createNativeQuery("EXPLAIN " + String.format(sqlFormat, args), String.class)
+                .getResultList();
+        String planText = String.join(System.lineSeparator(), plan);
+
+        assertTrue("Expected " + indexName + " in plan:" + System.lineSeparator() + planText,
+                planText.contains(indexName));
+    }
+
+}
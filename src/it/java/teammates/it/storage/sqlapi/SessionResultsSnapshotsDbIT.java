@@ -0,0 +1,89 @@
+package teammates.it.storage.sqlapi;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.util.HibernateUtil;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.SessionResultsSnapshotsDb;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
+import teammates.storage.sqlentity.Student;
+
+/**
+ * SUT: {@link SessionResultsSnapshotsDb}.
+ */
+public class SessionResultsSnapshotsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private final SessionResultsSnapshotsDb snapshotsDb = SessionResultsSnapshotsDb.inst();
+
+    private SqlDataBundle typicalDataBundle;
+
+    @Override
+    @BeforeClass
+    public void setupClass() {
+        super.setupClass();
+        typicalDataBundle = getTypicalSqlDataBundle();
+    }
+
+    @Override
+    @BeforeMethod
+    protected void setUp() throws Exception {
+        super.setUp();
+        persistDataBundle(typicalDataBundle);
+        HibernateUtil.flushSession();
+    }
+
+    @Test
+    public void testCreateSessionResultsSnapshot() {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Student student = typicalDataBundle.students.get("student1InCourse1");
+
+        ______TS("success: snapshot created");
+        snapshotsDb.createSessionResultsSnapshot(new SessionResultsSnapshot(session, student.getEmail(), 3, new byte[] {1}));
+
+        SessionResultsSnapshot actual = snapshotsDb.getSessionResultsSnapshot(session.getId(), student.getEmail());
+        assertNotNull(actual);
+        assertEquals(3, actual.getCourseVersion());
+        assertTrue(Arrays.equals(new byte[] {1}, actual.getData()));
+        assertEquals(Set.of(student.getEmail()), snapshotsDb.getStudentEmailsWithSessionResultsSnapshots(session.getId()));
+
+        ______TS("duplicate snapshot: existing snapshot kept");
+        snapshotsDb.createSessionResultsSnapshot(new SessionResultsSnapshot(session, student.getEmail(), 4, new byte[] {2}));
+        HibernateUtil.clearSession();
+
+        actual = snapshotsDb.getSessionResultsSnapshot(session.getId(), student.getEmail());
+        assertEquals(3, actual.getCourseVersion());
+        assertTrue(Arrays.equals(new byte[] {1}, actual.getData()));
+
+        ______TS("snapshot of another student does not exist");
+        assertNull(snapshotsDb.getSessionResultsSnapshot(session.getId(), "unknown@teammates.tmt"));
+    }
+
+    @Test
+    public void testDeleteSessionResultsSnapshotsForCourse() {
+        Course course = typicalDataBundle.courses.get("course1");
+        FeedbackSession session1 = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSession session2 = typicalDataBundle.feedbackSessions.get("session2InTypicalCourse");
+        Student student = typicalDataBundle.students.get("student1InCourse1");
+        snapshotsDb.createSessionResultsSnapshot(
+                new SessionResultsSnapshot(session1, student.getEmail(), 0, new byte[] {1}));
+        snapshotsDb.createSessionResultsSnapshot(
+                new SessionResultsSnapshot(session2, student.getEmail(), 0, new byte[] {1}));
+
+        ______TS("snapshots of other courses are kept");
+        snapshotsDb.deleteSessionResultsSnapshotsForCourse("other-course");
+        assertEquals(1, snapshotsDb.getStudentEmailsWithSessionResultsSnapshots(session1.getId()).size());
+
+        ______TS("snapshots of all sessions of the course are deleted");
+        snapshotsDb.deleteSessionResultsSnapshotsForCourse(course.getId());
+        assertTrue(snapshotsDb.getStudentEmailsWithSessionResultsSnapshots(session1.getId()).isEmpty());
+        assertTrue(snapshotsDb.getStudentEmailsWithSessionResultsSnapshots(session2.getId()).isEmpty());
+    }
+}
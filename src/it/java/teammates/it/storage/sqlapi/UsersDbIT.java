@@ -142,6 +142,27 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(actualStudent);
     }
 
+    @Test
+    public void testGetUsersForCoursesAndEmails() {
+        ______TS("success: gets students by courseIds and emails");
+        List<Student> actualStudents = usersDb.getStudentsForCoursesAndEmails(
+                List.of(student.getCourseId(), "other-course-id"),
+                List.of(student.getEmail(), "does-not-exist@teammates.tmt"));
+        assertEquals(1, actualStudents.size());
+        verifyEquals(student, actualStudents.get(0));
+
+        ______TS("success: gets instructors by courseIds and emails");
+        List<Instructor> actualInstructors = usersDb.getInstructorsForCoursesAndEmails(
+                List.of(instructor.getCourseId()), List.of(instructor.getEmail(), student.getEmail()));
+        assertEquals(1, actualInstructors.size());
+        verifyEquals(instructor, actualInstructors.get(0));
+
+        ______TS("success: no match");
+        assertTrue(usersDb.getStudentsForCoursesAndEmails(
+                List.of("other-course-id"), List.of(student.getEmail())).isEmpty());
+        assertTrue(usersDb.getInstructorsForCoursesAndEmails(List.of(), List.of(instructor.getEmail())).isEmpty());
+    }
+
     @Test
     public void testGetAllUsersByGoogleId() throws InvalidParametersException, EntityAlreadyExistsException {
         ______TS("success: gets all instructors and students by googleId");
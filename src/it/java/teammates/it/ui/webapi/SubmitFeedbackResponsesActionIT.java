@@ -700,6 +700,18 @@ public class SubmitFeedbackResponsesActionIT extends BaseActionIT<SubmitFeedback
         validateOutputForStudentRecipientsByEmail(outputResponses, studentGiver.getEmail(), studentRecipients);
         validateStudentDatabaseByEmail(session, question, studentGiver.getEmail(), studentRecipients);
 
+        ______TS("Success: resubmitting unchanged responses keeps them as they are");
+        List<String> existingResponseIds = outputResponses.stream()
+                .map(FeedbackResponseData::getFeedbackResponseId)
+                .collect(Collectors.toList());
+
+        outputResponses = callExecute(requestBody, submissionParams);
+        validateOutputForStudentRecipientsByEmail(outputResponses, studentGiver.getEmail(), studentRecipients);
+        validateStudentDatabaseByEmail(session, question, studentGiver.getEmail(), studentRecipients);
+        assertEquals(existingResponseIds, outputResponses.stream()
+                .map(FeedbackResponseData::getFeedbackResponseId)
+                .collect(Collectors.toList()));
+
         ______TS("Failure: student is a invalid giver of the question");
         questionNumber = 6;
         question = getQuestion(session, questionNumber);
@@ -0,0 +1,80 @@
+package teammates.common.datatransfer;
+
+import com.google.gson.JsonParseException;
+
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelper;
+
+/**
+ * Position in the session results ordered by question number, giver and recipient,
+ * after which the next page of results starts.
+ *
+ * <p>The missing responses of a question follow its existing responses, so the position is either among
+ * the existing responses or among the missing responses of the question.
+ *
+ * <p>The cursor is passed to clients as an opaque token, see {@link #toToken()} and {@link #fromToken(String)}.
+ */
+public class SessionResultsCursor {
+
+    private final int questionNumber;
+    private final String giver;
+    private final String recipient;
+    private final boolean isInMissingResponses;
+
+    public SessionResultsCursor(int questionNumber, String giver, String recipient) {
+        this(questionNumber, giver, recipient, false);
+    }
+
+    public SessionResultsCursor(int questionNumber, String giver, String recipient, boolean isInMissingResponses) {
+        this.questionNumber = questionNumber;
+        this.giver = giver;
+        this.recipient = recipient;
+        this.isInMissingResponses = isInMissingResponses;
+    }
+
+    /**
+     * Parses a cursor from a token created by {@link #toToken()}.
+     *
+     * @throws InvalidParametersException if the token is not a valid cursor token
+     */
+    public static SessionResultsCursor fromToken(String token) throws InvalidParametersException {
+        try {
+            SessionResultsCursor cursor = JsonUtils.fromJson(StringHelper.decrypt(token), SessionResultsCursor.class);
+            if (cursor == null || cursor.giver == null || cursor.recipient == null) {
+                throw new InvalidParametersException("Invalid session results cursor");
+            }
+            return cursor;
+        } catch (JsonParseException e) {
+            throw new InvalidParametersException(e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque token which cannot be altered by clients.
+     */
+    public String toToken() {
+        return StringHelper.encrypt(JsonUtils.toCompactJson(this));
+    }
+
+    public int getQuestionNumber() {
+        return questionNumber;
+    }
+
+    public String getGiver() {
+        return giver;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    /**
+     * Returns true if the position is among the missing responses of the question,
+     * after all of its existing responses.
+     */
+    public boolean isInMissingResponses() {
+        return isInMissingResponses;
+    }
+
+}
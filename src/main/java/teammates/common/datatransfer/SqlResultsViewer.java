@@ -0,0 +1,117 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.annotation.Nullable;
+
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+
+/**
+ * Contains the information of a user viewing feedback session results, including the user's
+ * membership in the course, so that the visibility of each response can be checked without
+ * looking the user up in the {@link SqlCourseRoster} again.
+ */
+public class SqlResultsViewer {
+
+    private final String email;
+    private final boolean isInstructor;
+    private final boolean isInstructorInCourse;
+    private final boolean isStudentInCourse;
+    private final Student student;
+    private final Team teamInCourse;
+    private final Set<String> teamMemberEmails;
+    private final SqlCourseRoster roster;
+
+    /**
+     * Creates the viewer.
+     *
+     * @param email the email of the user
+     * @param isInstructor true if the user is viewing the results as an instructor
+     * @param student the user as a student, or null if the user is viewing the results as an instructor
+     * @param roster the roster of the course
+     */
+    public SqlResultsViewer(String email, boolean isInstructor, @Nullable Student student, SqlCourseRoster roster) {
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.isInstructorInCourse = isInstructor && roster.getInstructorForEmail(email) != null;
+        this.isStudentInCourse = roster.isStudentInCourse(email);
+        this.student = student;
+        this.roster = roster;
+
+        Student studentInCourse = roster.getStudentForEmail(email);
+        this.teamInCourse = studentInCourse == null ? null : studentInCourse.getTeam();
+
+        if (student == null) {
+            this.teamMemberEmails = Collections.emptySet();
+        } else {
+            Set<String> emails = new HashSet<>();
+            List<Student> teamMembers = roster.getTeamToMembersTable()
+                    .getOrDefault(student.getTeam().getName(), Collections.emptyList());
+            for (Student teamMember : teamMembers) {
+                emails.add(teamMember.getEmail());
+            }
+            this.teamMemberEmails = Collections.unmodifiableSet(emails);
+        }
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    /**
+     * Returns true if the user is viewing the results as an instructor and is an instructor of the course.
+     */
+    public boolean isInstructorInCourse() {
+        return isInstructorInCourse;
+    }
+
+    public boolean isStudentInCourse() {
+        return isStudentInCourse;
+    }
+
+    /**
+     * Returns the user as a student, or null if the user is viewing the results as an instructor.
+     */
+    @Nullable
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Returns the emails of the students in the team of {@link #getStudent()}, including the student.
+     */
+    public Set<String> getTeamMemberEmails() {
+        return teamMemberEmails;
+    }
+
+    /**
+     * Checks whether the user is a student of the course in the given team.
+     *
+     * @see SqlCourseRoster#isStudentInTeam(String, String)
+     */
+    public boolean isInTeam(String teamName) {
+        return teamInCourse != null && teamInCourse.getName().equals(teamName);
+    }
+
+    /**
+     * Checks whether the user and the given student are students of the course in the same team.
+     *
+     * @see SqlCourseRoster#isStudentsInSameTeam(String, String)
+     */
+    public boolean isInSameTeamAs(String studentEmail) {
+        if (teamInCourse == null) {
+            return false;
+        }
+        Student otherStudent = roster.getStudentForEmail(studentEmail);
+        return otherStudent != null && teamInCourse.equals(otherStudent.getTeam());
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,7 @@ import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
 
 /**
  * Represents detailed results for a feedback session.
@@ -21,7 +23,7 @@ public class SqlSessionResultsBundle {
     private final Set<FeedbackQuestion> questionsNotVisibleForPreviewSet;
     private final Set<FeedbackQuestion> questionsWithCommentNotVisibleForPreviewSet;
     private final Map<FeedbackQuestion, List<FeedbackResponse>> questionResponseMap;
-    private final Map<FeedbackQuestion, List<FeedbackResponse>> questionMissingResponseMap;
+    private final Map<FeedbackQuestion, Iterable<FeedbackResponse>> questionMissingResponseMap;
     private final Map<FeedbackResponse, List<FeedbackResponseComment>> responseCommentsMap;
     private final Map<FeedbackResponse, Boolean> responseGiverVisibilityTable;
     private final Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable;
@@ -48,7 +50,41 @@ public class SqlSessionResultsBundle {
         this.commentGiverVisibilityTable = commentGiverVisibilityTable;
         this.roster = roster;
         this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.questionMissingResponseMap = new LinkedHashMap<>(buildQuestionToResponseMap(missingResponses));
+    }
+
+    /**
+     * Creates the bundle with missing responses that are generated for each question only when they are iterated over,
+     * so that the missing responses of all questions need not be held in memory at the same time.
+     *
+     * <p>The giver and recipient visibility of generated {@link FeedbackMissingResponse}s are taken from
+     * the responses themselves instead of the visibility tables.
+     */
+    public SqlSessionResultsBundle(List<FeedbackQuestion> questions,
+                                Set<FeedbackQuestion> questionsNotVisibleForPreviewSet,
+                                Set<FeedbackQuestion> questionsWithCommentNotVisibleForPreviewSet,
+                                List<FeedbackResponse> responses,
+                                Map<FeedbackQuestion, Iterable<FeedbackResponse>> questionMissingResponses,
+                                Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
+                                Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable,
+                                Map<FeedbackResponse, List<FeedbackResponseComment>> responseCommentsMap,
+                                Map<Long, Boolean> commentGiverVisibilityTable,
+                                SqlCourseRoster roster) {
+
+        this.questions = questions;
+        this.questionsNotVisibleForPreviewSet = questionsNotVisibleForPreviewSet;
+        this.questionsWithCommentNotVisibleForPreviewSet = questionsWithCommentNotVisibleForPreviewSet;
+        this.responseCommentsMap = responseCommentsMap;
+        this.responseGiverVisibilityTable = responseGiverVisibilityTable;
+        this.responseRecipientVisibilityTable = responseRecipientVisibilityTable;
+        this.commentGiverVisibilityTable = commentGiverVisibilityTable;
+        this.roster = roster;
+        this.questionResponseMap = buildQuestionToResponseMap(responses);
+        this.questionMissingResponseMap = new LinkedHashMap<>();
+        for (FeedbackQuestion question : questions) {
+            this.questionMissingResponseMap.put(question,
+                    questionMissingResponses.getOrDefault(question, Collections.emptyList()));
+        }
     }
 
     private Map<FeedbackQuestion, List<FeedbackResponse>> buildQuestionToResponseMap(
@@ -90,7 +126,11 @@ public class SqlSessionResultsBundle {
         FeedbackParticipantType participantType;
 
         boolean isVisible;
-        if (isGiver) {
+        if (response instanceof FeedbackMissingResponse) {
+            FeedbackMissingResponse missingResponse = (FeedbackMissingResponse) response;
+            isVisible = isGiver ? missingResponse.isGiverVisible() : missingResponse.isRecipientVisible();
+            participantType = isGiver ? question.getGiverType() : question.getRecipientType();
+        } else if (isGiver) {
             isVisible = responseGiverVisibilityTable.get(response);
             participantType = question.getGiverType();
         } else {
@@ -126,7 +166,12 @@ public class SqlSessionResultsBundle {
         return questionResponseMap;
     }
 
-    public Map<FeedbackQuestion, List<FeedbackResponse>> getQuestionMissingResponseMap() {
+    /**
+     * Gets the missing responses of each question.
+     *
+     * <p>The missing responses may be generated every time they are iterated over.
+     */
+    public Map<FeedbackQuestion, Iterable<FeedbackResponse>> getQuestionMissingResponseMap() {
         return questionMissingResponseMap;
     }
 
@@ -0,0 +1,30 @@
+package teammates.common.datatransfer;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A page of session results, ordered by question number, giver and recipient.
+ */
+public class SqlSessionResultsPage {
+
+    private final SqlSessionResultsBundle bundle;
+    private final SessionResultsCursor nextCursor;
+
+    public SqlSessionResultsPage(SqlSessionResultsBundle bundle, @Nullable SessionResultsCursor nextCursor) {
+        this.bundle = bundle;
+        this.nextCursor = nextCursor;
+    }
+
+    public SqlSessionResultsBundle getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Gets the cursor of the next page, or null if this is the last page.
+     */
+    @Nullable
+    public SessionResultsCursor getNextCursor() {
+        return nextCursor;
+    }
+
+}
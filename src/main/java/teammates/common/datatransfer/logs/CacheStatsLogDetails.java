@@ -0,0 +1,72 @@
+package teammates.common.datatransfer.logs;
+
+/**
+ * Contains specific structure and processing logic for the statistics of an in-memory cache of an instance.
+ */
+public class CacheStatsLogDetails extends LogDetails {
+
+    private String cacheName;
+    private long requestCount;
+    private long hitCount;
+    private double hitRate;
+    private long evictionCount;
+    private long entryCount;
+
+    public CacheStatsLogDetails() {
+        super(LogEvent.CACHE_STATS);
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public void setRequestCount(long requestCount) {
+        this.requestCount = requestCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    @Override
+    public void hideSensitiveInformation() {
+        // no fields need to be hidden
+    }
+
+}
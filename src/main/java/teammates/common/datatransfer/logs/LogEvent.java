@@ -10,6 +10,7 @@ public enum LogEvent {
     INSTANCE_LOG(InstanceLogDetails.class),
     EMAIL_SENT(EmailSentLogDetails.class),
     FEEDBACK_SESSION_AUDIT(FeedbackSessionAuditLogDetails.class),
+    CACHE_STATS(CacheStatsLogDetails.class),
     DEFAULT_LOG(DefaultLogDetails.class);
 
     private final Class<? extends LogDetails> detailsClass;
@@ -76,6 +76,21 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         this.minPoint = null;
     }
 
+    @Override
+    public FeedbackConstantSumQuestionDetails getDeepCopy() {
+        FeedbackConstantSumQuestionDetails copy = new FeedbackConstantSumQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.constSumOptions = copyList(constSumOptions);
+        copy.distributeToRecipients = distributeToRecipients;
+        copy.pointsPerOption = pointsPerOption;
+        copy.forceUnevenDistribution = forceUnevenDistribution;
+        copy.distributePointsFor = distributePointsFor;
+        copy.points = points;
+        copy.minPoint = minPoint;
+        copy.maxPoint = maxPoint;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -14,6 +14,14 @@ public class FeedbackConstantSumResponseDetails extends FeedbackResponseDetails
         answers = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackConstantSumResponseDetails getDeepCopy() {
+        FeedbackConstantSumResponseDetails copy = new FeedbackConstantSumResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answers = answers == null ? null : new ArrayList<>(answers);
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         String listString = answers.toString(); //[1, 2, 3] format
@@ -58,6 +58,15 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         isNotSureAllowed = false;
     }
 
+    @Override
+    public FeedbackContributionQuestionDetails getDeepCopy() {
+        FeedbackContributionQuestionDetails copy = new FeedbackContributionQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.isZeroSum = isZeroSum;
+        copy.isNotSureAllowed = isNotSureAllowed;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackContributionQuestionDetails newContribDetails = (FeedbackContributionQuestionDetails) newDetails;
@@ -17,6 +17,14 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    @Override
+    public FeedbackContributionResponseDetails getDeepCopy() {
+        FeedbackContributionResponseDetails copy = new FeedbackContributionResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answer = answer;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return Integer.toString(answer);
@@ -48,6 +48,20 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         this.generateOptionsFor = FeedbackParticipantType.NONE;
     }
 
+    @Override
+    public FeedbackMcqQuestionDetails getDeepCopy() {
+        FeedbackMcqQuestionDetails copy = new FeedbackMcqQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.mcqWeights = copyList(mcqWeights);
+        copy.mcqOtherWeight = mcqOtherWeight;
+        copy.mcqChoices = copyList(mcqChoices);
+        copy.otherEnabled = otherEnabled;
+        copy.questionDropdownEnabled = questionDropdownEnabled;
+        copy.generateOptionsFor = generateOptionsFor;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMcqQuestionDetails newMcqDetails = (FeedbackMcqQuestionDetails) newDetails;
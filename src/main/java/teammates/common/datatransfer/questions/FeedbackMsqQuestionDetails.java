@@ -40,7 +40,7 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
     static final String MSQ_ERROR_INVALID_WEIGHT =
             "The weights for the choices of a " + QUESTION_TYPE_NAME
                     + " must be valid numbers with precision up to 2 decimal places.";
-    static final String MSQ_ANSWER_NONE_OF_THE_ABOVE = "";
+    public static final String MSQ_ANSWER_NONE_OF_THE_ABOVE = "";
     static final String MSQ_ERROR_DUPLICATE_MSQ_OPTION = "The MSQ options cannot be duplicate";
 
     private List<String> msqChoices;
@@ -68,6 +68,21 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         this.msqOtherWeight = 0;
     }
 
+    @Override
+    public FeedbackMsqQuestionDetails getDeepCopy() {
+        FeedbackMsqQuestionDetails copy = new FeedbackMsqQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.msqChoices = copyList(msqChoices);
+        copy.otherEnabled = otherEnabled;
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.msqWeights = copyList(msqWeights);
+        copy.msqOtherWeight = msqOtherWeight;
+        copy.generateOptionsFor = generateOptionsFor;
+        copy.maxSelectableChoices = maxSelectableChoices;
+        copy.minSelectableChoices = minSelectableChoices;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMsqQuestionDetails newMsqDetails = (FeedbackMsqQuestionDetails) newDetails;
@@ -20,6 +20,16 @@ public class FeedbackMsqResponseDetails extends FeedbackResponseDetails {
         otherFieldContent = "";
     }
 
+    @Override
+    public FeedbackMsqResponseDetails getDeepCopy() {
+        FeedbackMsqResponseDetails copy = new FeedbackMsqResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answers = answers == null ? null : new ArrayList<>(answers);
+        copy.isOther = isOther;
+        copy.otherFieldContent = otherFieldContent;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toString(answers, ", ");
@@ -33,6 +33,16 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         this.step = 0.5;
     }
 
+    @Override
+    public FeedbackNumericalScaleQuestionDetails getDeepCopy() {
+        FeedbackNumericalScaleQuestionDetails copy = new FeedbackNumericalScaleQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.minScale = minScale;
+        copy.maxScale = maxScale;
+        copy.step = step;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -15,6 +15,14 @@ public class FeedbackNumericalScaleResponseDetails extends FeedbackResponseDetai
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    @Override
+    public FeedbackNumericalScaleResponseDetails getDeepCopy() {
+        FeedbackNumericalScaleResponseDetails copy = new FeedbackNumericalScaleResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answer = answer;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toDecimalFormatString(answer);
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -162,11 +163,34 @@ public abstract class FeedbackQuestionDetails {
 
     /**
      * Returns a deep copy of the question details.
+     *
+     * <p>The copy is built field by field instead of through a JSON round trip,
+     * as question details are copied on every access to them.
      */
-    public FeedbackQuestionDetails getDeepCopy() {
-        assert questionType != null;
-        String serializedDetails = getJsonString();
-        return JsonUtils.fromJson(serializedDetails, questionType.getQuestionDetailsClass());
+    public abstract FeedbackQuestionDetails getDeepCopy();
+
+    /**
+     * Returns a copy of {@code list}, or null if {@code list} is null.
+     * The elements are not copied, which is sufficient for lists of immutable elements.
+     */
+    static <T> List<T> copyList(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    /**
+     * Returns a copy of {@code nestedList} in which every inner list is copied as well.
+     *
+     * @see #copyList(List)
+     */
+    static <T> List<List<T>> copyNestedList(List<List<T>> nestedList) {
+        if (nestedList == null) {
+            return null;
+        }
+        List<List<T>> copy = new ArrayList<>(nestedList.size());
+        for (List<T> list : nestedList) {
+            copy.add(copyList(list));
+        }
+        return copy;
     }
 
     public FeedbackQuestionType getQuestionType() {
@@ -37,6 +37,15 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         this.options = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRankOptionsQuestionDetails getDeepCopy() {
+        FeedbackRankOptionsQuestionDetails copy = new FeedbackRankOptionsQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copyRankSettingsTo(copy);
+        copy.options = copyList(options);
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRankOptionsQuestionDetails newRankQuestionDetails = (FeedbackRankOptionsQuestionDetails) newDetails;
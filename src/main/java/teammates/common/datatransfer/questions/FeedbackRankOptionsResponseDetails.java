@@ -16,6 +16,14 @@ public class FeedbackRankOptionsResponseDetails extends FeedbackResponseDetails
         answers = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRankOptionsResponseDetails getDeepCopy() {
+        FeedbackRankOptionsResponseDetails copy = new FeedbackRankOptionsResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answers = answers == null ? null : new ArrayList<>(answers);
+        return copy;
+    }
+
     /**
      * Returns List of sorted answers, with uninitialised values filtered out.
      */
@@ -17,6 +17,15 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
         maxOptionsToBeRanked = Const.POINTS_NO_VALUE;
     }
 
+    /**
+     * Copies the settings common to rank questions to {@code copy}.
+     */
+    void copyRankSettingsTo(FeedbackRankQuestionDetails copy) {
+        copy.minOptionsToBeRanked = minOptionsToBeRanked;
+        copy.maxOptionsToBeRanked = maxOptionsToBeRanked;
+        copy.areDuplicatesAllowed = areDuplicatesAllowed;
+    }
+
     public int getMinOptionsToBeRanked() {
         return minOptionsToBeRanked;
     }
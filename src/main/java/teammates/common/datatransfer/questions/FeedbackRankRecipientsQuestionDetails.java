@@ -22,6 +22,14 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         super(FeedbackQuestionType.RANK_RECIPIENTS, questionText);
     }
 
+    @Override
+    public FeedbackRankRecipientsQuestionDetails getDeepCopy() {
+        FeedbackRankRecipientsQuestionDetails copy = new FeedbackRankRecipientsQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copyRankSettingsTo(copy);
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         return false;
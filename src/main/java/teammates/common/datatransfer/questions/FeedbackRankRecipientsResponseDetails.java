@@ -19,6 +19,14 @@ public class FeedbackRankRecipientsResponseDetails extends FeedbackResponseDetai
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    @Override
+    public FeedbackRankRecipientsResponseDetails getDeepCopy() {
+        FeedbackRankRecipientsResponseDetails copy = new FeedbackRankRecipientsResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answer = answer;
+        return copy;
+    }
+
     /**
      * Provides updates of responses for 'rank recipient question', such that the ranks in the responses are consistent.
      * @param responses responses to one feedback question, from one giver
@@ -36,15 +36,11 @@ public abstract class FeedbackResponseDetails {
 
     /**
      * Returns a deep copy of the response details.
+     *
+     * <p>The copy is built field by field instead of through a JSON round trip,
+     * as response details are copied on every access to them.
      */
-    public FeedbackResponseDetails getDeepCopy() {
-        assert questionType != null;
-        if (questionType == FeedbackQuestionType.TEXT) {
-            return new FeedbackTextResponseDetails(getAnswerString());
-        }
-        String serializedResponseDetails = getJsonString();
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
-    }
+    public abstract FeedbackResponseDetails getDeepCopy();
 
     public void setQuestionType(FeedbackQuestionType questionType) {
         this.questionType = questionType;
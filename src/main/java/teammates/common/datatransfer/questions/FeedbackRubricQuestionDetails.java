@@ -12,7 +12,7 @@ import teammates.storage.sqlentity.FeedbackQuestion;
 public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
     static final String QUESTION_TYPE_NAME = "Rubric question";
-    static final int RUBRIC_ANSWER_NOT_CHOSEN = -1;
+    public static final int RUBRIC_ANSWER_NOT_CHOSEN = -1;
     static final int RUBRIC_MIN_NUM_OF_CHOICES = 2;
     static final String RUBRIC_ERROR_NOT_ENOUGH_CHOICES =
             "Too little choices for " + QUESTION_TYPE_NAME + ". Minimum number of options is: ";
@@ -48,6 +48,18 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         this.rubricWeightsForEachCell = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRubricQuestionDetails getDeepCopy() {
+        FeedbackRubricQuestionDetails copy = new FeedbackRubricQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.rubricWeightsForEachCell = copyNestedList(rubricWeightsForEachCell);
+        copy.rubricChoices = copyList(rubricChoices);
+        copy.rubricSubQuestions = copyList(rubricSubQuestions);
+        copy.rubricDescriptions = copyNestedList(rubricDescriptions);
+        return copy;
+    }
+
     /**
      * Checks if the dimensions of rubricDescription is valid according
      * to size of rubricSubQuestions and size of rubricChoices.
@@ -19,6 +19,14 @@ public class FeedbackRubricResponseDetails extends FeedbackResponseDetails {
         answer = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRubricResponseDetails getDeepCopy() {
+        FeedbackRubricResponseDetails copy = new FeedbackRubricResponseDetails();
+        copy.setQuestionType(getQuestionType());
+        copy.answer = answer == null ? null : new ArrayList<>(answer);
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return this.answer.toString();
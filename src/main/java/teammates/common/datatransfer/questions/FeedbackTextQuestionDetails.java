@@ -30,6 +30,15 @@ public class FeedbackTextQuestionDetails extends FeedbackQuestionDetails {
         shouldAllowRichText = true;
     }
 
+    @Override
+    public FeedbackTextQuestionDetails getDeepCopy() {
+        FeedbackTextQuestionDetails copy = new FeedbackTextQuestionDetails(getQuestionText());
+        copy.setQuestionType(getQuestionType());
+        copy.recommendedLength = recommendedLength;
+        copy.shouldAllowRichText = shouldAllowRichText;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         assert newDetails instanceof FeedbackTextQuestionDetails;
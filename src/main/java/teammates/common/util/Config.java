@@ -40,6 +40,39 @@ public final class Config {
     /** The value of the "app.postgres.password" in build.properties file. */
     public static final String POSTGRES_PASSWORD;
 
+    /** The value of the "app.postgres.replica.host" in build.properties file. */
+    public static final String POSTGRES_REPLICA_HOST;
+
+    /** The value of the "app.postgres.replica.port" in build.properties file. */
+    public static final String POSTGRES_REPLICA_PORT;
+
+    /** The value of the "app.postgres.replica.staleness.seconds" in build.properties file. */
+    public static final int POSTGRES_REPLICA_STALENESS_SECONDS;
+
+    /** The value of the "app.postgres.pool.interactive.size" in build.properties file. */
+    public static final int POSTGRES_INTERACTIVE_POOL_SIZE;
+
+    /** The value of the "app.postgres.pool.interactive.timeoutmillis" in build.properties file. */
+    public static final long POSTGRES_INTERACTIVE_POOL_TIMEOUT_MILLIS;
+
+    /** The value of the "app.postgres.pool.background.size" in build.properties file. */
+    public static final int POSTGRES_BACKGROUND_POOL_SIZE;
+
+    /** The value of the "app.postgres.pool.background.timeoutmillis" in build.properties file. */
+    public static final long POSTGRES_BACKGROUND_POOL_TIMEOUT_MILLIS;
+
+    /** The value of the "app.postgres.secondlevelcache.enabled" in build.properties file. */
+    public static final boolean POSTGRES_SECOND_LEVEL_CACHE_ENABLED;
+
+    /** The value of the "app.postgres.parallelqueries.threads" in build.properties file. */
+    public static final int POSTGRES_PARALLEL_QUERIES_THREADS;
+
+    /** The value of the "app.results.cache.maxresponses" in build.properties file. */
+    public static final long RESULTS_CACHE_MAX_RESPONSES;
+
+    /** The value of the "app.results.snapshots.enabled" in build.properties file. */
+    public static final boolean RESULTS_SNAPSHOTS_ENABLED;
+
     /** The value of the "app.production.gcs.bucketname" in build.properties file. */
     public static final String PRODUCTION_GCS_BUCKETNAME;
 
@@ -166,6 +199,26 @@ public final class Config {
         POSTGRES_DATABASENAME = getProperty(properties, devProperties, "app.postgres.databasename");
         POSTGRES_USERNAME = getProperty(properties, devProperties, "app.postgres.username");
         POSTGRES_PASSWORD = getProperty(properties, devProperties, "app.postgres.password");
+        POSTGRES_REPLICA_HOST = getProperty(properties, devProperties, "app.postgres.replica.host");
+        POSTGRES_REPLICA_PORT = getProperty(properties, devProperties, "app.postgres.replica.port", POSTGRES_PORT);
+        POSTGRES_REPLICA_STALENESS_SECONDS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.replica.staleness.seconds", "10"));
+        POSTGRES_INTERACTIVE_POOL_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.pool.interactive.size", "30"));
+        POSTGRES_INTERACTIVE_POOL_TIMEOUT_MILLIS = Long.parseLong(
+                getProperty(properties, devProperties, "app.postgres.pool.interactive.timeoutmillis", "30000"));
+        POSTGRES_BACKGROUND_POOL_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.pool.background.size", "10"));
+        POSTGRES_BACKGROUND_POOL_TIMEOUT_MILLIS = Long.parseLong(
+                getProperty(properties, devProperties, "app.postgres.pool.background.timeoutmillis", "60000"));
+        POSTGRES_SECOND_LEVEL_CACHE_ENABLED = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.postgres.secondlevelcache.enabled", "false"));
+        POSTGRES_PARALLEL_QUERIES_THREADS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.parallelqueries.threads", "0"));
+        RESULTS_CACHE_MAX_RESPONSES = Long.parseLong(
+                getProperty(properties, devProperties, "app.results.cache.maxresponses", "0"));
+        RESULTS_SNAPSHOTS_ENABLED = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.results.snapshots.enabled", "false"));
         BACKUP_GCS_BUCKETNAME = getProperty(properties, devProperties, "app.backup.gcs.bucketname");
         ENCRYPTION_KEY = getProperty(properties, devProperties, "app.encryption.key");
         AUTH_TYPE = getProperty(properties, devProperties, "app.auth.type");
@@ -309,6 +362,17 @@ public final class Config {
         return String.format("jdbc:postgresql://%s:%s/%s", POSTGRES_HOST, POSTGRES_PORT, POSTGRES_DATABASENAME);
     }
 
+    /**
+     * Returns the connection URL of the read replica of the database, or null if no replica is configured.
+     */
+    public static String getReplicaDbConnectionUrl() {
+        if (POSTGRES_REPLICA_HOST == null || POSTGRES_REPLICA_HOST.isEmpty()) {
+            return null;
+        }
+        return String.format("jdbc:postgresql://%s:%s/%s",
+                POSTGRES_REPLICA_HOST, POSTGRES_REPLICA_PORT, POSTGRES_DATABASENAME);
+    }
+
     public static boolean isUsingSendgrid() {
         return "sendgrid".equalsIgnoreCase(EMAIL_SERVICE) && SENDGRID_APIKEY != null && !SENDGRID_APIKEY.isEmpty();
     }
@@ -149,6 +149,12 @@ public final class Const {
 
         public static final String FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER = "frsessionbygiverreceiver";
 
+        public static final String FEEDBACK_RESULTS_IS_STREAMING = "frisstreaming";
+
+        public static final String FEEDBACK_RESULTS_CURSOR = "frcursor";
+
+        public static final String FEEDBACK_RESULTS_PAGE_SIZE = "frpagesize";
+
         public static final String PREVIEWAS = "previewas";
 
         public static final String STUDENT_SQL_ID = "studentid";
@@ -214,6 +220,8 @@ public final class Const {
         public static final String CSRF_KEY = "CSRF-Key";
         public static final String WEB_VERSION = "X-WEB-VERSION";
         public static final String CSRF_TOKEN = "X-CSRF-TOKEN";
+        public static final String ETAG = "ETag";
+        public static final String IF_NONE_MATCH = "If-None-Match";
     }
 
     /**
@@ -245,6 +253,7 @@ public final class Const {
 
         public static final String CSRF_COOKIE_NAME = "CSRF-TOKEN";
         public static final String AUTH_COOKIE_NAME = "AUTH-TOKEN";
+        public static final String PRIMARY_DB_COOKIE_NAME = "PRIMARY-DB";
 
     }
 
@@ -357,6 +366,8 @@ public final class Const {
         public static final String INSTRUCTOR_PRIVILEGE = URI_PREFIX + "/instructor/privilege";
         public static final String INSTRUCTOR_KEY = URI_PREFIX + "/instructor/key";
         public static final String RESULT = URI_PREFIX + "/result";
+        public static final String RESULT_STATISTICS = URI_PREFIX + "/result/statistics";
+        public static final String RESULT_CSV = URI_PREFIX + "/result/csv";
         public static final String STUDENTS = URI_PREFIX + "/students";
         public static final String STUDENT = URI_PREFIX + "/student";
         public static final String STUDENT_KEY = URI_PREFIX + "/student/key";
@@ -446,6 +457,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL =
                 URI_PREFIX + "/feedbackSessionUnpublishedEmail";
 
+        public static final String FEEDBACK_SESSION_RESULTS_SNAPSHOTS_QUEUE_NAME =
+                "feedback-session-results-snapshots-queue";
+        public static final String FEEDBACK_SESSION_RESULTS_SNAPSHOTS_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionResultsSnapshots";
+
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/instructorCourseJoinEmail";
 
@@ -1,24 +1,38 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.transaction.Synchronization;
 
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.Statistics;
 
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.BaseEntity;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.CourseVersion;
 import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
@@ -29,6 +43,7 @@ import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Notification;
 import teammates.storage.sqlentity.ReadNotification;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
 import teammates.storage.sqlentity.UsageStatistics;
@@ -57,10 +72,22 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  */
 public final class HibernateUtil {
     private static SessionFactory sessionFactory;
+    private static SessionFactory replicaSessionFactory;
+
+    /**
+     * Whether the transaction of the current thread is run against the read replica.
+     */
+    private static final ThreadLocal<Boolean> IS_USING_REPLICA = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * The workload of the current thread, which decides the pool its connections are taken from.
+     */
+    private static final ThreadLocal<Workload> WORKLOAD = ThreadLocal.withInitial(() -> Workload.INTERACTIVE);
 
     private static final List<Class<? extends BaseEntity>> ANNOTATED_CLASSES = List.of(
             AccountRequest.class,
             Course.class,
+            CourseVersion.class,
             FeedbackSession.class,
             Account.class,
             Notification.class,
@@ -93,7 +120,8 @@ public final class HibernateUtil {
             FeedbackRubricResponse.class,
             FeedbackTextResponse.class,
             FeedbackResponseComment.class,
-            FeedbackSessionLog.class);
+            FeedbackSessionLog.class,
+            SessionResultsSnapshot.class);
 
     private HibernateUtil() {
         // Utility class
@@ -101,58 +129,144 @@ public final class HibernateUtil {
     }
 
     /**
-     * Builds a session factory if it does not already exist.
+     * Builds a session factory without second-level cache if it does not already exist.
      */
     public static void buildSessionFactory(String dbUrl, String username, String password) {
+        buildSessionFactory(dbUrl, username, password, false);
+    }
+
+    /**
+     * Builds a session factory if it does not already exist.
+     * Connections are taken from a separate pool for every {@link Workload}.
+     *
+     * @param isSecondLevelCacheEnabled whether entities annotated with {@link org.hibernate.annotations.Cache}
+     *                                  are cached across sessions, with regions configured in application.conf
+     */
+    public static void buildSessionFactory(String dbUrl, String username, String password,
+            boolean isSecondLevelCacheEnabled) {
         synchronized (HibernateUtil.class) {
             if (sessionFactory != null) {
                 return;
             }
         }
 
+        Configuration config = createConfiguration(dbUrl, username, password)
+                .setProperty("hibernate.connection.provider_class", WorkloadConnectionProvider.class.getName())
+                .setProperty("hibernate.hbm2ddl.auto", Config.IS_DEV_SERVER ? "update" : "validate");
+
+        if (isSecondLevelCacheEnabled) {
+            config.setProperty("hibernate.cache.use_second_level_cache", "true")
+                    .setProperty("hibernate.cache.region.factory_class", "jcache")
+                    .setProperty("hibernate.javax.cache.provider",
+                            "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                    .setProperty("hibernate.javax.cache.missing_cache_strategy", "create");
+        } else {
+            config.setProperty("hibernate.cache.use_second_level_cache", "false");
+        }
+
+        setSessionFactory(config.buildSessionFactory());
+    }
+
+    /**
+     * Builds a session factory for a read replica of the database if it does not already exist.
+     *
+     * <p>Connections are taken from a separate pool for every {@link Workload}, as for the primary database.
+     * The schema is neither validated nor updated as the replica cannot be written to, and there is
+     * no second-level cache so that entities read from the replica are never served to the primary or vice versa.
+     * @see #beginReadOnlyTransactionOnReplica()
+     */
+    public static void buildReplicaSessionFactory(String dbUrl, String username, String password) {
+        synchronized (HibernateUtil.class) {
+            if (replicaSessionFactory != null) {
+                return;
+            }
+        }
+
+        Configuration config = createConfiguration(dbUrl, username, password)
+                .setProperty("hibernate.connection.provider_class", WorkloadConnectionProvider.class.getName())
+                .setProperty(WorkloadConnectionProvider.IS_REPLICA, "true")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .setProperty("hibernate.cache.use_second_level_cache", "false");
+
+        replicaSessionFactory = config.buildSessionFactory();
+    }
+
+    private static Configuration createConfiguration(String dbUrl, String username, String password) {
         Configuration config = new Configuration()
                 .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
                 .setProperty("hibernate.connection.driver_class", "org.postgresql.Driver")
-                .setProperty("hibernate.connection.provider_class",
-                        "org.hibernate.hikaricp.internal.HikariCPConnectionProvider")
                 .setProperty("hibernate.connection.username", username)
                 .setProperty("hibernate.connection.password", password)
                 .setProperty("hibernate.connection.url", dbUrl)
-                .setProperty("hibernate.hbm2ddl.auto", "validate")
                 .setProperty("show_sql", "true")
                 .setProperty("hibernate.current_session_context_class", "thread")
-                .setProperty("hibernate.hikari.minimumIdle", "10")
-                .setProperty("hibernate.hikari.maximumPoolSize", "30")
-                .setProperty("hibernate.hikari.idleTimeout", "300000")
-                .setProperty("hibernate.hikari.connectionTimeout", "30000")
-                // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
-                // .setProperty("hibernate.jdbc.batch_size", "50")
-                // .setProperty("hibernate.order_updates", "true")
-                // .setProperty("hibernate.batch_versioned_data", "true")
+                // Group inserts and updates of the same entity type into JDBC batches when flushing.
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .setProperty("hibernate.batch_versioned_data", "true")
+                // Uncomment only during migration for optimized batch-fetch.
                 // .setProperty("hibernate.jdbc.fetch_size", "50")
                 .addPackage("teammates.storage.sqlentity");
 
-        if (Config.IS_DEV_SERVER) {
-            config.setProperty("hibernate.hbm2ddl.auto", "update");
-        }
-
         for (Class<? extends BaseEntity> cls : ANNOTATED_CLASSES) {
             config = config.addAnnotatedClass(cls);
         }
         config.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
-
-        setSessionFactory(config.buildSessionFactory());
+        return config;
     }
 
     /**
-     * Returns the SessionFactory.
+     * Returns the SessionFactory of the database the transaction of the current thread is run against.
      */
     private static SessionFactory getSessionFactory() {
+        if (IS_USING_REPLICA.get()) {
+            return replicaSessionFactory;
+        }
+
         assert sessionFactory != null;
 
         return sessionFactory;
     }
 
+    /**
+     * Sets the workload of the current thread, whose transactions then take connections from the pool of that workload.
+     * Must be set before a transaction is started.
+     * @see WorkloadConnectionProvider
+     */
+    public static void setWorkload(Workload workload) {
+        WORKLOAD.set(workload);
+    }
+
+    /**
+     * Returns the workload of the current thread, which is {@link Workload#INTERACTIVE} unless set otherwise.
+     */
+    public static Workload getWorkload() {
+        return WORKLOAD.get();
+    }
+
+    /**
+     * Returns true if a read replica of the database is configured.
+     */
+    public static boolean isReplicaAvailable() {
+        return replicaSessionFactory != null;
+    }
+
+    /**
+     * Returns true if the transaction of the current thread is run against the read replica.
+     */
+    public static boolean isUsingReplica() {
+        return IS_USING_REPLICA.get();
+    }
+
+    /**
+     * Returns the statistics of the session factory, which are only collected while they are enabled.
+     * @see SessionFactory#getStatistics()
+     */
+    public static Statistics getStatistics() {
+        return getSessionFactory().getStatistics();
+    }
+
     /**
      * Returns the current hibernate session.
      * @see SessionFactory#getCurrentSession()
@@ -177,6 +291,30 @@ public final class HibernateUtil {
         return getCurrentSession().createQuery(cr);
     }
 
+    /**
+     * Returns a generic typed TypedQuery object which loads the associations in the named entity graph
+     * together with the results, in addition to the associations which are always loaded eagerly.
+     * @see SpecHints#HINT_SPEC_LOAD_GRAPH
+     */
+    public static <T> TypedQuery<T> createQuery(CriteriaQuery<T> cr, String entityGraphName) {
+        return getCurrentSession().createQuery(cr)
+                .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, getCurrentSession().getEntityGraph(entityGraphName));
+    }
+
+    /**
+     * Executes the query and returns its results as read-only entities which are fetched from the database
+     * {@code fetchSize} rows at a time, as they are scrolled through. The results must be closed after use.
+     * The associations in the named entity graph are loaded together with the results.
+     * @see org.hibernate.query.Query#scroll(ScrollMode)
+     */
+    public static <T> ScrollableResults<T> scroll(CriteriaQuery<T> cr, String entityGraphName, int fetchSize) {
+        return getCurrentSession().createQuery(cr)
+                .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, getCurrentSession().getEntityGraph(entityGraphName))
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
     /**
      * Returns a MutationQuery object.
      * @see Session#createMutationQuery(CriteriaDelete)
@@ -185,6 +323,30 @@ public final class HibernateUtil {
         return getCurrentSession().createMutationQuery(cd);
     }
 
+    /**
+     * Returns a MutationQuery object.
+     * @see Session#createMutationQuery(CriteriaUpdate)
+     */
+    public static <T> MutationQuery createMutationQuery(CriteriaUpdate<T> cu) {
+        return getCurrentSession().createMutationQuery(cu);
+    }
+
+    /**
+     * Returns a NativeQuery object for a SQL query with the given result type.
+     * @see Session#createNativeQuery(String, Class)
+     */
+    public static <T> NativeQuery<T> createNativeQuery(String sqlString, Class<T> resultClass) {
+        return getCurrentSession().createNativeQuery(sqlString, resultClass);
+    }
+
+    /**
+     * Returns a MutationQuery object for a SQL statement that does not return results.
+     * @see Session#createNativeMutationQuery(String)
+     */
+    public static MutationQuery createNativeMutationQuery(String sqlString) {
+        return getCurrentSession().createNativeMutationQuery(sqlString);
+    }
+
     public static void setSessionFactory(SessionFactory sessionFactory) {
         HibernateUtil.sessionFactory = sessionFactory;
     }
@@ -198,15 +360,51 @@ public final class HibernateUtil {
         transaction.begin();
     }
 
+    /**
+     * Start a resource transaction in which loaded entities are read-only and the session is never flushed.
+     *
+     * <p>The JDBC transaction is read-only as well, so any write made with a query is rejected by the database.
+     * The connection pool restores the read-write mode of the connection once it is released.
+     * @see Session#setDefaultReadOnly(boolean)
+     * @see Session#setHibernateFlushMode(FlushMode)
+     */
+    public static void beginReadOnlyTransaction() {
+        Session session = getCurrentSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        session.getTransaction().begin();
+        session.doWork(connection -> connection.setReadOnly(true));
+    }
+
+    /**
+     * Start a read-only resource transaction against the read replica of the database, which may lag behind
+     * the primary database, until the transaction completes.
+     * If no replica is configured, the transaction is run against the primary database instead.
+     * @see #beginReadOnlyTransaction()
+     */
+    public static void beginReadOnlyTransactionOnReplica() {
+        IS_USING_REPLICA.set(isReplicaAvailable());
+        try {
+            beginReadOnlyTransaction();
+        } catch (RuntimeException e) {
+            IS_USING_REPLICA.remove();
+            throw e;
+        }
+    }
+
     /**
      * Roll back the current resource transaction if needed.
      * @see Transaction#rollback()
      */
     public static void rollbackTransaction() {
-        Session session = getCurrentSession();
-        if (session.getTransaction().getStatus() == TransactionStatus.ACTIVE
-                || session.getTransaction().getStatus() == TransactionStatus.MARKED_ROLLBACK) {
-            session.getTransaction().rollback();
+        try {
+            Session session = getCurrentSession();
+            if (session.getTransaction().getStatus() == TransactionStatus.ACTIVE
+                    || session.getTransaction().getStatus() == TransactionStatus.MARKED_ROLLBACK) {
+                session.getTransaction().rollback();
+            }
+        } finally {
+            IS_USING_REPLICA.remove();
         }
     }
 
@@ -217,6 +415,57 @@ public final class HibernateUtil {
     public static void commitTransaction() {
         Transaction transaction = getCurrentSession().getTransaction();
         transaction.commit();
+        // if the commit fails, the transaction is expected to be rolled back against the same database
+        IS_USING_REPLICA.remove();
+    }
+
+    /**
+     * Run the given task right before the current resource transaction is committed, after the session is flushed.
+     * The task is not run if the transaction is rolled back, and fails the commit if it throws.
+     * If there is no active transaction, the task is run immediately.
+     * @see Synchronization#beforeCompletion()
+     */
+    public static void runBeforeCommit(Runnable task) {
+        Transaction transaction = getCurrentSession().getTransaction();
+        if (!transaction.isActive()) {
+            task.run();
+            return;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                task.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // nothing to do after completion
+            }
+        });
+    }
+
+    /**
+     * Run the given task once the current resource transaction completes, whether it is committed or rolled back.
+     * If there is no active transaction, the task is run immediately.
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static void runAfterTransaction(Runnable task) {
+        Transaction transaction = getCurrentSession().getTransaction();
+        if (!transaction.isActive()) {
+            task.run();
+            return;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
     }
 
     /**
@@ -294,6 +543,14 @@ public final class HibernateUtil {
         return getCurrentSession().getReference(entityType, id);
     }
 
+    /**
+     * Evict the given entity from the session without flushing it, so that it can be garbage collected.
+     * @see Session#evict(Object)
+     */
+    public static <T> void evict(T entity) {
+        getCurrentSession().evict(entity);
+    }
+
     /**
      * Flush the current session and evict the given entity from the session.
      * @see Session#evict(Object)
@@ -303,4 +560,52 @@ public final class HibernateUtil {
         getCurrentSession().evict(entity);
     }
 
+    /**
+     * Reloads from the database the entities with the given type and identifiers which are loaded in the session.
+     *
+     * <p>Used after a bulk mutation query, which changes the database but not the entities already in the session.
+     * Entities which are not loaded in the session are neither loaded nor referenced by this method.
+     * @see Session#refresh(Object)
+     */
+    public static void refreshIfLoaded(Class<?> entityType, Collection<?> ids) {
+        Session session = getCurrentSession();
+        for (Object entity : getLoadedEntities(entityType, ids)) {
+            session.refresh(entity);
+        }
+    }
+
+    /**
+     * Evicts from the session the entities with the given type and identifiers which are loaded in it.
+     *
+     * <p>Used after a bulk delete query, which deletes the rows of entities which may still be loaded in the session.
+     * @see Session#evict(Object)
+     */
+    public static void evictIfLoaded(Class<?> entityType, Collection<?> ids) {
+        Session session = getCurrentSession();
+        for (Object entity : getLoadedEntities(entityType, ids)) {
+            session.evict(entity);
+        }
+    }
+
+    /**
+     * Looks the identifiers up in the persistence context of the current session.
+     *
+     * <p>Unlike {@link Session#getReference(Class, Object)}, this does not add a proxy to the session
+     * for identifiers of entities which are not loaded.
+     */
+    private static List<Object> getLoadedEntities(Class<?> entityType, Collection<?> ids) {
+        SessionImplementor session = getCurrentSession().unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityType);
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+        List<Object> entities = new ArrayList<>();
+        for (Object id : ids) {
+            Object entity = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
 }
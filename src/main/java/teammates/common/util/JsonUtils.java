@@ -20,6 +20,7 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonWriter;
 
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -55,6 +56,9 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  */
 public final class JsonUtils {
 
+    private static final Gson PRETTY_GSON = createGsonInstance(true);
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+
     private JsonUtils() {
         // utility class
     }
@@ -62,8 +66,11 @@ public final class JsonUtils {
     /**
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
+     *
+     * <p>Gson instances are immutable and thread-safe, and they cache the type adapters they resolve.
+     * As such, only one compact and one pretty-print instance are created and shared by all callers.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
                 .setExclusionStrategies(new HibernateExclusionStrategy())
                 .registerTypeAdapter(User.class, new UserAdapter())
@@ -79,7 +86,27 @@ public final class JsonUtils {
         if (prettyPrint) {
             builder.setPrettyPrinting();
         }
-        return builder.create();
+        Gson gson = builder.create();
+        warmUpAdapters(gson);
+        return gson;
+    }
+
+    /**
+     * Resolves the reflective adapters of the polymorphic details classes up front,
+     * so that the first requests served do not pay for the reflection.
+     */
+    private static void warmUpAdapters(Gson gson) {
+        for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+            gson.getAdapter(questionType.getQuestionDetailsClass());
+            gson.getAdapter(questionType.getResponseDetailsClass());
+        }
+        for (LogEvent logEvent : LogEvent.values()) {
+            gson.getAdapter(logEvent.getDetailsClass());
+        }
+    }
+
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_GSON : COMPACT_GSON;
     }
 
     /**
@@ -126,6 +153,16 @@ public final class JsonUtils {
         getGsonInstance(false).toJson(src, writer);
     }
 
+    /**
+     * Serializes the specified object into its equivalent JSON and writes it to a {@link JsonWriter}.
+     * This allows a large JSON document to be written piece by piece without materializing it as a whole.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, Type typeOfSrc, JsonWriter writer) {
+        getGsonInstance(false).toJson(src, typeOfSrc, writer);
+    }
+
     /**
      * Deserializes the specified JSON string into an object of the specified type.
      *
@@ -0,0 +1,101 @@
+package teammates.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only queries concurrently, each in its own read-only transaction and connection.
+ *
+ * <p>The number of threads is configured by {@link Config#POSTGRES_PARALLEL_QUERIES_THREADS}.
+ * If it is not positive, queries are run immediately in the transaction of the calling thread.
+ *
+ * <p>Entities returned by a query run on another thread are detached; only their eagerly fetched
+ * associations can be accessed. The query is run against the read replica if the transaction of the calling thread is.
+ *
+ * <p>The connections are taken from the pool of {@link Workload#PARALLEL_QUERY}, which has one connection per thread,
+ * and not from the pool of the calling thread, which may be used up by requests waiting for their queries.
+ *
+ * <p>As every query runs in its own transaction, the queries of a request do not see the same snapshot
+ * of the database: a change committed while they run may be seen by some of them but not by the others.
+ */
+public final class ParallelQueryRunner {
+
+    private static final ExecutorService EXECUTOR = createExecutor(Config.POSTGRES_PARALLEL_QUERIES_THREADS);
+
+    private ParallelQueryRunner() {
+        // utility class
+    }
+
+    private static ExecutorService createExecutor(int numberOfThreads) {
+        if (numberOfThreads <= 0) {
+            return null;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "parallel-query-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts running the given read-only query.
+     *
+     * <p>The query runs with the deadline of the current request and is skipped if the request has timed out
+     * by the time a thread is available.
+     */
+    public static <T> Future<T> submit(Supplier<T> query) {
+        if (EXECUTOR == null) {
+            return CompletableFuture.completedFuture(query.get());
+        }
+        boolean isUsingReplica = HibernateUtil.isUsingReplica();
+        return EXECUTOR.submit(RequestTracer.withCurrentRequest(() -> {
+            RequestTracer.checkRemainingTime();
+            HibernateUtil.setWorkload(Workload.PARALLEL_QUERY);
+            if (isUsingReplica) {
+                HibernateUtil.beginReadOnlyTransactionOnReplica();
+            } else {
+                HibernateUtil.beginReadOnlyTransaction();
+            }
+            try {
+                T result = query.get();
+                HibernateUtil.commitTransaction();
+                return result;
+            } catch (RuntimeException e) {
+                HibernateUtil.rollbackTransaction();
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Waits for the result of a query started with {@link #submit(Supplier)},
+     * for at most the remaining time of the current request.
+     *
+     * <p>Exceptions thrown by the query are rethrown as they are.
+     */
+    public static <T> T getResult(Future<T> future) {
+        try {
+            return RequestTracer.waitForResult(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for query result", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+}
@@ -2,6 +2,11 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -60,6 +65,39 @@ public final class RequestTracer {
         }
     }
 
+    /**
+     * Returns a task which runs the given task with the information of the current request,
+     * so that {@link #checkRemainingTime()} in the task applies the deadline of the current request.
+     */
+    public static <T> Callable<T> withCurrentRequest(Callable<T> task) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return () -> {
+            THREAD_LOCAL.set(trace);
+            try {
+                return task.call();
+            } finally {
+                THREAD_LOCAL.remove();
+            }
+        };
+    }
+
+    /**
+     * Waits for the result of the given task, for at most the remaining time of the current request.
+     *
+     * @throws DeadlineExceededException if the current request times out before the task completes
+     */
+    public static <T> T waitForResult(Future<T> future) throws InterruptedException, ExecutionException {
+        if (THREAD_LOCAL.get() == null) {
+            return future.get();
+        }
+        try {
+            return future.get(Math.max(getRemainingTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DeadlineExceededException();
+        }
+    }
+
     /**
      * Returns the remaining time (in millis) until the current request times out.
      */
@@ -0,0 +1,24 @@
+package teammates.common.util;
+
+/**
+ * The class of work a request belongs to, each of which is served by its own pool of database connections,
+ * so that a burst of one class of work cannot use up the connections needed by the other.
+ *
+ * @see WorkloadConnectionProvider
+ */
+public enum Workload {
+    /**
+     * Requests made by users who are waiting for the response, e.g. submitting responses.
+     */
+    INTERACTIVE,
+    /**
+     * Cron jobs and task queue workers, e.g. sending reminder emails.
+     */
+    BACKGROUND,
+    /**
+     * Read-only queries run on behalf of a request of another workload by {@link ParallelQueryRunner}.
+     * Their pool has a connection for every thread running them, so they never wait for the connections
+     * held by the requests waiting for them.
+     */
+    PARALLEL_QUERY
+}
@@ -0,0 +1,127 @@
+package teammates.common.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Provides database connections from a separate pool for every {@link Workload},
+ * chosen by the workload of the current thread.
+ *
+ * <p>Every pool has its own maximum number of connections and its own timeout for waiting for a connection
+ * when all of them are in use, as configured in {@link Config}.
+ * The pools are registered as JMX MBeans named {@code com.zaxxer.hikari:type=Pool (teammates-<workload>)},
+ * or {@code (teammates-replica-<workload>)} for the read replica, which expose the number of active,
+ * idle and total connections and of threads waiting for a connection.
+ * @see HibernateUtil#setWorkload(Workload)
+ */
+public class WorkloadConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The configuration property which marks the provider as the one of the read replica.
+     */
+    static final String IS_REPLICA = "teammates.connection.is_replica";
+
+    private static final Logger log = Logger.getLogger();
+
+    private final transient Map<Workload, HikariDataSource> dataSources = new EnumMap<>(Workload.class);
+
+    private String poolNamePrefix = "teammates-";
+
+    @Override
+    public void configure(Map<String, Object> configurationValues) {
+        if (Boolean.parseBoolean(String.valueOf(configurationValues.get(IS_REPLICA)))) {
+            poolNamePrefix = "teammates-replica-";
+        }
+        dataSources.put(Workload.INTERACTIVE, createDataSource(configurationValues, Workload.INTERACTIVE,
+                Config.POSTGRES_INTERACTIVE_POOL_SIZE, 10, Config.POSTGRES_INTERACTIVE_POOL_TIMEOUT_MILLIS));
+        // background work is run occasionally, so connections are not kept open in between
+        dataSources.put(Workload.BACKGROUND, createDataSource(configurationValues, Workload.BACKGROUND,
+                Config.POSTGRES_BACKGROUND_POOL_SIZE, 0, Config.POSTGRES_BACKGROUND_POOL_TIMEOUT_MILLIS));
+        if (Config.POSTGRES_PARALLEL_QUERIES_THREADS > 0) {
+            // every thread holds at most one connection at a time, so a connection is always available
+            dataSources.put(Workload.PARALLEL_QUERY, createDataSource(configurationValues, Workload.PARALLEL_QUERY,
+                    Config.POSTGRES_PARALLEL_QUERIES_THREADS, 0, Config.POSTGRES_INTERACTIVE_POOL_TIMEOUT_MILLIS));
+        }
+    }
+
+    private HikariDataSource createDataSource(Map<String, Object> configurationValues, Workload workload,
+            int maximumPoolSize, int minimumIdle, long connectionTimeoutMillis) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(getPoolName(workload));
+        config.setDriverClassName(String.valueOf(configurationValues.get(AvailableSettings.DRIVER)));
+        config.setJdbcUrl(String.valueOf(configurationValues.get(AvailableSettings.URL)));
+        config.setUsername(String.valueOf(configurationValues.get(AvailableSettings.USER)));
+        config.setPassword(String.valueOf(configurationValues.get(AvailableSettings.PASS)));
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(Math.min(minimumIdle, maximumPoolSize));
+        config.setIdleTimeout(300000);
+        config.setConnectionTimeout(connectionTimeoutMillis);
+        config.setRegisterMbeans(true);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Returns the name of the pool of the given workload.
+     */
+    public String getPoolName(Workload workload) {
+        return poolNamePrefix + workload.name().toLowerCase();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Workload workload = HibernateUtil.getWorkload();
+        try {
+            return dataSources.get(workload).getConnection();
+        } catch (SQLTransientConnectionException e) {
+            // thrown when no connection of the pool becomes available in time
+            log.warning("No connection of the " + getPoolName(workload) + " pool is available: " + e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return ConnectionProvider.class.equals(unwrapType) || WorkloadConnectionProvider.class.equals(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return (T) this;
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        for (HikariDataSource dataSource : dataSources.values()) {
+            dataSource.close();
+        }
+    }
+
+}
@@ -142,6 +142,21 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, paramMap, null);
     }
 
+    /**
+     * Schedules for the results of a published feedback session to be stored for every student.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleFeedbackSessionResultsSnapshots(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOTS_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOTS_WORKER_URL, paramMap, null);
+    }
+
     /**
      * Schedules for course registration to be sent to the specified instructor.
      *
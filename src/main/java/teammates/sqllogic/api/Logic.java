@@ -1,10 +1,12 @@
 package teammates.sqllogic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import jakarta.annotation.Nullable;
 
@@ -13,8 +15,10 @@ import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.SessionResultsCursor;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -25,6 +29,7 @@ import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
 import teammates.sqllogic.core.AccountRequestsLogic;
 import teammates.sqllogic.core.AccountsLogic;
+import teammates.sqllogic.core.CourseVersionsLogic;
 import teammates.sqllogic.core.CoursesLogic;
 import teammates.sqllogic.core.DataBundleLogic;
 import teammates.sqllogic.core.DeadlineExtensionsLogic;
@@ -34,6 +39,7 @@ import teammates.sqllogic.core.FeedbackResponsesLogic;
 import teammates.sqllogic.core.FeedbackSessionLogsLogic;
 import teammates.sqllogic.core.FeedbackSessionsLogic;
 import teammates.sqllogic.core.NotificationsLogic;
+import teammates.sqllogic.core.SessionResultsSnapshotsLogic;
 import teammates.sqllogic.core.UsageStatisticsLogic;
 import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Account;
@@ -48,6 +54,7 @@ import teammates.storage.sqlentity.FeedbackSessionLog;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Notification;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
 import teammates.storage.sqlentity.UsageStatistics;
@@ -67,6 +74,7 @@ public class Logic {
     final AccountsLogic accountsLogic = AccountsLogic.inst();
     final AccountRequestsLogic accountRequestLogic = AccountRequestsLogic.inst();
     final CoursesLogic coursesLogic = CoursesLogic.inst();
+    final CourseVersionsLogic courseVersionsLogic = CourseVersionsLogic.inst();
     final DeadlineExtensionsLogic deadlineExtensionsLogic = DeadlineExtensionsLogic.inst();
     final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
     final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
@@ -76,6 +84,7 @@ public class Logic {
     final UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
     final UsersLogic usersLogic = UsersLogic.inst();
     final NotificationsLogic notificationsLogic = NotificationsLogic.inst();
+    final SessionResultsSnapshotsLogic sessionResultsSnapshotsLogic = SessionResultsSnapshotsLogic.inst();
     final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
 
     Logic() {
@@ -302,6 +311,35 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Gets the current version of the data of a course, which changes whenever
+     * responses, comments, questions or users of the course are changed.
+     */
+    public long getCourseVersion(String courseId) {
+        return courseVersionsLogic.getCourseVersion(courseId);
+    }
+
+    /**
+     * Gets the results snapshot of a session for a student, or null if it does not exist.
+     */
+    public SessionResultsSnapshot getSessionResultsSnapshot(FeedbackSession feedbackSession, String studentEmail) {
+        return sessionResultsSnapshotsLogic.getSessionResultsSnapshot(feedbackSession, studentEmail);
+    }
+
+    /**
+     * Gets the emails of the students of a session whose results snapshots exist.
+     */
+    public Set<String> getStudentEmailsWithSessionResultsSnapshots(FeedbackSession feedbackSession) {
+        return sessionResultsSnapshotsLogic.getStudentEmailsWithSessionResultsSnapshots(feedbackSession);
+    }
+
+    /**
+     * Creates a results snapshot, unless a snapshot of the same session and student already exists.
+     */
+    public void createSessionResultsSnapshot(SessionResultsSnapshot snapshot) {
+        sessionResultsSnapshotsLogic.createSessionResultsSnapshot(snapshot);
+    }
+
     /**
      * Gets a section from a course by section name.
      */
@@ -442,6 +480,13 @@ public class Logic {
         return coursesLogic.getSectionByCourseIdAndTeam(courseId, teamName);
     }
 
+    /**
+     * Gets the sections of the teams with the given {@code teamNames} in a course, keyed by team name.
+     */
+    public Map<String, Section> getSectionsByCourseIdAndTeams(String courseId, Collection<String> teamNames) {
+        return coursesLogic.getSectionsByCourseIdAndTeams(courseId, teamNames);
+    }
+
     /**
      * Creates a deadline extension.
      *
@@ -675,6 +720,25 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByInstructor(session, userEmail);
     }
 
+    /**
+     * Gets the students, out of the given {@code students}, who have not attempted a feedback session.
+     *
+     * @see #isFeedbackSessionAttemptedByStudent(FeedbackSession, String, String)
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        return feedbackSessionsLogic.getStudentsYetToAttemptFeedbackSession(session, students);
+    }
+
+    /**
+     * Gets the instructors, out of the given {@code instructors}, who have not attempted a feedback session.
+     *
+     * @see #isFeedbackSessionAttemptedByInstructor(FeedbackSession, String)
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        return feedbackSessionsLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors);
+    }
+
     /**
      * Deletes a feedback session cascade to its associated questions, responses, deadline extensions and comments.
      *
@@ -1035,6 +1099,13 @@ public class Logic {
         return usersLogic.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Gets the students of a course with any of the given emails, together with their team and section.
+     */
+    public List<Student> getStudentsForEmails(String courseId, Collection<String> emails) {
+        return usersLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -1368,6 +1439,43 @@ public class Logic {
                 feedbackSession, courseId, userEmail, questionId, sectionName, fetchType);
     }
 
+    /**
+     * Gets a page of the session result for a feedback session.
+     *
+     * @see FeedbackResponsesLogic#getSessionResultsPageForCourse(FeedbackSession, String, String, UUID, String,
+     * FeedbackResultFetchType, SessionResultsCursor, int)
+     */
+    public SqlSessionResultsPage getSessionResultsPageForCourse(
+            FeedbackSession feedbackSession, String courseId, String userEmail,
+            @Nullable UUID questionId, @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType,
+            @Nullable SessionResultsCursor cursor, int pageSize) {
+        assert feedbackSession != null;
+        assert courseId != null;
+        assert userEmail != null;
+
+        return feedbackResponsesLogic.getSessionResultsPageForCourse(
+                feedbackSession, courseId, userEmail, questionId, sectionName, fetchType, cursor, pageSize);
+    }
+
+    /**
+     * Passes the session result for a feedback session to {@code consumer} in parts.
+     *
+     * @see FeedbackResponsesLogic#forEachSessionResultsPartForCourse(FeedbackSession, String, String, String,
+     * FeedbackResultFetchType, int, Consumer)
+     */
+    public void forEachSessionResultsPartForCourse(
+            FeedbackSession feedbackSession, String courseId, String userEmail,
+            @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType,
+            int partSize, Consumer<SqlSessionResultsBundle> consumer) {
+        assert feedbackSession != null;
+        assert courseId != null;
+        assert userEmail != null;
+        assert consumer != null;
+
+        feedbackResponsesLogic.forEachSessionResultsPartForCourse(
+                feedbackSession, courseId, userEmail, sectionName, fetchType, partSize, consumer);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1408,6 +1516,15 @@ public class Logic {
         usersLogic.putInstructorDocument(instructor);
     }
 
+    /**
+     * Creates or updates search document for the given instructor, leaving the commit to the search service.
+     *
+     * @see UsersLogic#putInstructorDocumentWithDeferredCommit(Instructor)
+     */
+    public void putInstructorDocumentWithDeferredCommit(Instructor instructor) throws SearchServiceException {
+        usersLogic.putInstructorDocumentWithDeferredCommit(instructor);
+    }
+
     /**
      * Creates or updates search document for the given account request.
      *
@@ -1417,6 +1534,16 @@ public class Logic {
         accountRequestLogic.putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search document for the given account request, leaving the commit to the search service.
+     *
+     * @see AccountRequestsLogic#putDocumentWithDeferredCommit(AccountRequest)
+     */
+    public void putAccountRequestDocumentWithDeferredCommit(AccountRequest accountRequest)
+            throws SearchServiceException {
+        accountRequestLogic.putDocumentWithDeferredCommit(accountRequest);
+    }
+
     /**
      * Removes the given data bundle from the database.
      */
@@ -1707,6 +1834,15 @@ public class Logic {
         usersLogic.putStudentDocument(student);
     }
 
+    /**
+     * Creates or updates search document for the given student, leaving the commit to the search service.
+     *
+     * @see UsersLogic#putStudentDocumentWithDeferredCommit(Student)
+     */
+    public void putStudentDocumentWithDeferredCommit(Student student) throws SearchServiceException {
+        usersLogic.putStudentDocumentWithDeferredCommit(student);
+    }
+
     /**
      * This is used by admin to search account requests in the whole system.
      *
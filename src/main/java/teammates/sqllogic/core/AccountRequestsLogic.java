@@ -1,5 +1,6 @@
 package teammates.sqllogic.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -50,6 +51,22 @@ public final class AccountRequestsLogic {
         getSearchManager().putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search document for the given account request, leaving the commit to the search service.
+     *
+     * <p>The document becomes searchable shortly after, rather than immediately.
+     */
+    public void putDocumentWithDeferredCommit(AccountRequest accountRequest) throws SearchServiceException {
+        getSearchManager().putDocumentWithDeferredCommit(accountRequest);
+    }
+
+    /**
+     * Creates or updates search documents for the given account requests.
+     */
+    public void putDocuments(Collection<AccountRequest> accountRequests) throws SearchServiceException {
+        getSearchManager().putDocuments(accountRequests);
+    }
+
     /**
      * Creates an account request.
      */
@@ -36,16 +36,19 @@ public final class AccountsLogic {
 
     private CoursesLogic coursesLogic;
 
+    private CourseVersionsLogic courseVersionsLogic;
+
     private AccountsLogic() {
         // prevent initialization
     }
 
     void initLogicDependencies(AccountsDb accountsDb, NotificationsLogic notificationsLogic,
-            UsersLogic usersLogic, CoursesLogic coursesLogic) {
+            UsersLogic usersLogic, CoursesLogic coursesLogic, CourseVersionsLogic courseVersionsLogic) {
         this.accountsDb = accountsDb;
         this.notificationsLogic = notificationsLogic;
         this.usersLogic = usersLogic;
         this.coursesLogic = coursesLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     public static AccountsLogic inst() {
@@ -215,6 +218,7 @@ public final class AccountsLogic {
             student.setAccount(account);
         }
 
+        courseVersionsLogic.bumpCourseVersion(student.getCourseId());
         return student;
     }
 
@@ -244,6 +248,7 @@ public final class AccountsLogic {
             usersLogic.updateStudentCascade(student);
         }
 
+        courseVersionsLogic.bumpCourseVersion(instructor.getCourseId());
         return instructor;
     }
 
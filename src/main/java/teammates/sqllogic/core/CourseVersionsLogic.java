@@ -0,0 +1,88 @@
+package teammates.sqllogic.core;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import teammates.common.util.Config;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlapi.CourseVersionsDb;
+
+/**
+ * Keeps a version number for the data of each course, which is increased whenever
+ * sessions, questions, responses, comments, deadline extensions or users of the course are changed.
+ *
+ * <p>Data derived from a course (e.g. session results) can be cached together with the version
+ * of the course, and is outdated once the version has changed.
+ *
+ * <p>The versions are stored in the database, so they are shared by all instances. A version is increased
+ * in the same transaction as the changes, and so becomes visible to other requests together with them.
+ * The increase is deferred to right before the commit, so that the row of the version is locked only
+ * for the duration of the commit, and not while the rest of the transaction runs.
+ */
+public final class CourseVersionsLogic {
+
+    private static final CourseVersionsLogic instance = new CourseVersionsLogic();
+
+    /**
+     * Courses whose versions are to be increased when the current transaction of the thread is committed,
+     * sorted so that concurrent transactions changing the same courses lock their versions in the same order.
+     */
+    private final ThreadLocal<Set<String>> coursesBumpedInTransaction = ThreadLocal.withInitial(TreeSet::new);
+
+    boolean isSnapshotsEnabled = Config.RESULTS_SNAPSHOTS_ENABLED;
+
+    private CourseVersionsDb courseVersionsDb;
+
+    private SessionResultsSnapshotsLogic snapshotsLogic;
+
+    private CourseVersionsLogic() {
+        // prevent initialization
+    }
+
+    public static CourseVersionsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies(CourseVersionsDb courseVersionsDb, SessionResultsSnapshotsLogic snapshotsLogic) {
+        this.courseVersionsDb = courseVersionsDb;
+        this.snapshotsLogic = snapshotsLogic;
+    }
+
+    /**
+     * Gets the current version of the data of a course.
+     */
+    public long getCourseVersion(String courseId) {
+        assert courseId != null;
+
+        return courseVersionsDb.getCourseVersion(courseId);
+    }
+
+    /**
+     * Increases the version of the data of a course and, if snapshots are enabled,
+     * deletes the session results snapshots of the course, right before the current transaction is committed.
+     *
+     * <p>This is done only once per course in a transaction, however many changes are made to the course in it.
+     * Nothing is done if the transaction is rolled back.
+     */
+    public void bumpCourseVersion(String courseId) {
+        assert courseId != null;
+
+        Set<String> bumpedCourses = coursesBumpedInTransaction.get();
+        if (!bumpedCourses.add(courseId)) {
+            return;
+        }
+        if (bumpedCourses.size() == 1) {
+            // registered first, as both tasks are run immediately if there is no active transaction
+            HibernateUtil.runBeforeCommit(() -> bumpedCourses.forEach(this::increaseCourseVersion));
+            HibernateUtil.runAfterTransaction(bumpedCourses::clear);
+        }
+    }
+
+    private void increaseCourseVersion(String courseId) {
+        courseVersionsDb.increaseCourseVersion(courseId);
+        if (isSnapshotsEnabled) {
+            snapshotsLogic.deleteSessionResultsSnapshotsForCourse(courseId);
+        }
+    }
+
+}
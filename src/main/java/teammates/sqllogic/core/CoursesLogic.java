@@ -3,8 +3,10 @@ package teammates.sqllogic.core;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -34,6 +36,8 @@ public final class CoursesLogic {
 
     private UsersLogic usersLogic;
 
+    private CourseVersionsLogic courseVersionsLogic;
+
     private CoursesLogic() {
         // prevent initialization
     }
@@ -42,10 +46,12 @@ public final class CoursesLogic {
         return instance;
     }
 
-    void initLogicDependencies(CoursesDb coursesDb, FeedbackSessionsLogic fsLogic, UsersLogic usersLogic) {
+    void initLogicDependencies(CoursesDb coursesDb, FeedbackSessionsLogic fsLogic, UsersLogic usersLogic,
+            CourseVersionsLogic courseVersionsLogic) {
         this.coursesDb = coursesDb;
         this.fsLogic = fsLogic;
         this.usersLogic = usersLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -134,6 +140,7 @@ public final class CoursesLogic {
         });
 
         coursesDb.deleteCourse(course);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -149,6 +156,7 @@ public final class CoursesLogic {
 
         Instant now = Instant.now();
         course.setDeletedAt(now);
+        courseVersionsLogic.bumpCourseVersion(courseId);
         return course;
     }
 
@@ -162,6 +170,7 @@ public final class CoursesLogic {
         }
 
         course.setDeletedAt(null);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -184,6 +193,7 @@ public final class CoursesLogic {
             throw new InvalidParametersException(course.getInvalidityInfo());
         }
 
+        courseVersionsLogic.bumpCourseVersion(courseId);
         return course;
     }
 
@@ -204,6 +214,16 @@ public final class CoursesLogic {
         return coursesDb.getSectionByCourseIdAndTeam(courseId, teamName);
     }
 
+    /**
+     * Gets the sections of the teams with the given {@code teamNames} in a course, keyed by team name.
+     */
+    public Map<String, Section> getSectionsByCourseIdAndTeams(String courseId, Collection<String> teamNames) {
+        assert courseId != null;
+        assert teamNames != null;
+
+        return coursesDb.getSectionsByCourseIdAndTeams(courseId, teamNames);
+    }
+
     /**
      * Gets a list of section names for the given {@code courseId}.
      */
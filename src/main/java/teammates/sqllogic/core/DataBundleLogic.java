@@ -373,20 +373,9 @@ public final class DataBundleLogic {
      * Creates document for entities that have document, i.e. searchable.
      */
     public void putDocuments(SqlDataBundle dataBundle) throws SearchServiceException {
-        Map<String, Student> students = dataBundle.students;
-        for (Student student : students.values()) {
-            usersLogic.putStudentDocument(student);
-        }
-
-        Map<String, Instructor> instructors = dataBundle.instructors;
-        for (Instructor instructor : instructors.values()) {
-            usersLogic.putInstructorDocument(instructor);
-        }
-
-        Map<String, AccountRequest> accountRequests = dataBundle.accountRequests;
-        for (AccountRequest accountRequest : accountRequests.values()) {
-            accountRequestsLogic.putDocument(accountRequest);
-        }
+        usersLogic.putStudentDocuments(dataBundle.students.values());
+        usersLogic.putInstructorDocuments(dataBundle.instructors.values());
+        accountRequestsLogic.putDocuments(dataBundle.accountRequests.values());
     }
 
     private static void linkEntities(SqlDataBundle dataBundle) {
@@ -26,6 +26,8 @@ public final class DeadlineExtensionsLogic {
 
     private FeedbackSessionsLogic feedbackSessionsLogic;
 
+    private CourseVersionsLogic courseVersionsLogic;
+
     private DeadlineExtensionsLogic() {
         // prevent initialization
     }
@@ -34,9 +36,11 @@ public final class DeadlineExtensionsLogic {
         return instance;
     }
 
-    void initLogicDependencies(DeadlineExtensionsDb deadlineExtensionsDb, FeedbackSessionsLogic feedbackSessionsLogic) {
+    void initLogicDependencies(DeadlineExtensionsDb deadlineExtensionsDb, FeedbackSessionsLogic feedbackSessionsLogic,
+            CourseVersionsLogic courseVersionsLogic) {
         this.deadlineExtensionsDb = deadlineExtensionsDb;
         this.feedbackSessionsLogic = feedbackSessionsLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -83,7 +87,9 @@ public final class DeadlineExtensionsLogic {
     public DeadlineExtension createDeadlineExtension(DeadlineExtension deadlineExtension)
             throws InvalidParametersException, EntityAlreadyExistsException {
         assert deadlineExtension != null;
-        return deadlineExtensionsDb.createDeadlineExtension(deadlineExtension);
+        DeadlineExtension createdDeadlineExtension = deadlineExtensionsDb.createDeadlineExtension(deadlineExtension);
+        courseVersionsLogic.bumpCourseVersion(deadlineExtension.getFeedbackSession().getCourseId());
+        return createdDeadlineExtension;
     }
 
     /**
@@ -91,6 +97,9 @@ public final class DeadlineExtensionsLogic {
      */
     public void deleteDeadlineExtension(DeadlineExtension de) {
         deadlineExtensionsDb.deleteDeadlineExtension(de);
+        if (de != null) {
+            courseVersionsLogic.bumpCourseVersion(de.getFeedbackSession().getCourseId());
+        }
     }
 
     /**
@@ -101,7 +110,9 @@ public final class DeadlineExtensionsLogic {
      */
     public DeadlineExtension updateDeadlineExtension(DeadlineExtension de)
             throws InvalidParametersException, EntityDoesNotExistException {
-        return deadlineExtensionsDb.updateDeadlineExtension(de);
+        DeadlineExtension updatedDeadlineExtension = deadlineExtensionsDb.updateDeadlineExtension(de);
+        courseVersionsLogic.bumpCourseVersion(de.getFeedbackSession().getCourseId());
+        return updatedDeadlineExtension;
     }
 
     /**
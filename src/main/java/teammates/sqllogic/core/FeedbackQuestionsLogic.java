@@ -51,6 +51,7 @@ public final class FeedbackQuestionsLogic {
     private FeedbackResponsesLogic frLogic;
     private UsersLogic usersLogic;
     private FeedbackSessionsLogic feedbackSessionsLogic;
+    private CourseVersionsLogic courseVersionsLogic;
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -61,12 +62,14 @@ public final class FeedbackQuestionsLogic {
     }
 
     void initLogicDependencies(FeedbackQuestionsDb fqDb, CoursesLogic coursesLogic, FeedbackResponsesLogic frLogic,
-                               UsersLogic usersLogic, FeedbackSessionsLogic feedbackSessionsLogic) {
+                               UsersLogic usersLogic, FeedbackSessionsLogic feedbackSessionsLogic,
+                               CourseVersionsLogic courseVersionsLogic) {
         this.fqDb = fqDb;
         this.coursesLogic = coursesLogic;
         this.frLogic = frLogic;
         this.usersLogic = usersLogic;
         this.feedbackSessionsLogic = feedbackSessionsLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -84,6 +87,7 @@ public final class FeedbackQuestionsLogic {
         questionsBefore.remove(createdQuestion);
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
+        courseVersionsLogic.bumpCourseVersion(createdQuestion.getCourseId());
         return createdQuestion;
     }
 
@@ -230,6 +234,7 @@ public final class FeedbackQuestionsLogic {
             frLogic.deleteFeedbackResponsesForQuestionCascade(question.getId());
         }
 
+        courseVersionsLogic.bumpCourseVersion(question.getCourseId());
         return question;
     }
 
@@ -628,7 +633,11 @@ public final class FeedbackQuestionsLogic {
      * <p>Silently fail if question does not exist.
      */
     public void deleteFeedbackQuestionCascade(UUID feedbackQuestionId) {
+        FeedbackQuestion question = fqDb.getFeedbackQuestion(feedbackQuestionId);
         fqDb.deleteFeedbackQuestion(feedbackQuestionId);
+        if (question != null) {
+            courseVersionsLogic.bumpCourseVersion(question.getCourseId());
+        }
     }
 
     /**
@@ -653,63 +662,45 @@ public final class FeedbackQuestionsLogic {
     }
 
     /**
-     * Builds a complete giver to recipient map for a {@code relatedQuestion}.
+     * Gets the identifiers of the possible recipients of a giver of a feedback question.
      *
-     * @param relatedQuestion The question to be considered
+     * @param question the feedback question
+     * @param giverIdentifier the identifier of the giver, as returned by {@link #getPossibleGivers}
      * @param courseRoster the roster in the course
-     * @return a map from giver to recipient for the question.
+     * @return the identifiers of the possible recipients
      */
-    public Map<String, Set<String>> buildCompleteGiverRecipientMap(
-            FeedbackQuestion relatedQuestion, SqlCourseRoster courseRoster) {
-        Map<String, Set<String>> completeGiverRecipientMap = new HashMap<>();
-
-        List<String> possibleGiverEmails = getPossibleGivers(relatedQuestion, courseRoster);
-        for (String possibleGiverEmail : possibleGiverEmails) {
-            switch (relatedQuestion.getGiverType()) {
-            case STUDENTS:
-                Student studentGiver = courseRoster.getStudentForEmail(possibleGiverEmail);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
-                break;
-            case TEAMS:
-                Student oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiverEmail).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
-                break;
-            case INSTRUCTORS:
-            case SELF:
-                Instructor instructorGiver = courseRoster.getInstructorForEmail(possibleGiverEmail);
-
-                // only happens when a session creator quits their course
-                if (instructorGiver == null) {
-                    instructorGiver = new Instructor(
-                            relatedQuestion.getCourse(),
-                            USER_NAME_FOR_SELF,
-                            possibleGiverEmail,
-                            false,
-                            USER_NAME_FOR_SELF,
-                            null,
-                            null
-                            );
-                }
-
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
-                break;
-            default:
-                log.severe("Invalid giver type specified");
-                break;
+    public Set<String> getPossibleRecipients(
+            FeedbackQuestion question, String giverIdentifier, SqlCourseRoster courseRoster) {
+        switch (question.getGiverType()) {
+        case STUDENTS:
+            Student studentGiver = courseRoster.getStudentForEmail(giverIdentifier);
+            return getRecipientsOfQuestion(question, null, studentGiver, courseRoster).keySet();
+        case TEAMS:
+            Student oneTeamMember =
+                    courseRoster.getTeamToMembersTable().get(giverIdentifier).iterator().next();
+            return getRecipientsOfQuestion(question, null, oneTeamMember, courseRoster).keySet();
+        case INSTRUCTORS:
+        case SELF:
+            Instructor instructorGiver = courseRoster.getInstructorForEmail(giverIdentifier);
+
+            // only happens when a session creator quits their course
+            if (instructorGiver == null) {
+                instructorGiver = new Instructor(
+                        question.getCourse(),
+                        USER_NAME_FOR_SELF,
+                        giverIdentifier,
+                        false,
+                        USER_NAME_FOR_SELF,
+                        null,
+                        null
+                        );
             }
-        }
 
-        return completeGiverRecipientMap;
+            return getRecipientsOfQuestion(question, instructorGiver, null, courseRoster).keySet();
+        default:
+            log.severe("Invalid giver type specified");
+            return Collections.emptySet();
+        }
     }
 
     /**
@@ -719,7 +710,7 @@ public final class FeedbackQuestionsLogic {
      * @param courseRoster roster of all students and instructors
      * @return a list of giver identifier
      */
-    private List<String> getPossibleGivers(
+    public List<String> getPossibleGivers(
             FeedbackQuestion fq, SqlCourseRoster courseRoster) {
         FeedbackParticipantType giverType = fq.getGiverType();
         List<String> possibleGivers = new ArrayList<>();
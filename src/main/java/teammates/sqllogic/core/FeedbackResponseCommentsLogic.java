@@ -1,5 +1,6 @@
 package teammates.sqllogic.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.ui.request.FeedbackResponseCommentUpdateRequest;
 
@@ -28,6 +30,7 @@ public final class FeedbackResponseCommentsLogic {
 
     private static final FeedbackResponseCommentsLogic instance = new FeedbackResponseCommentsLogic();
     private FeedbackResponseCommentsDb frcDb;
+    private CourseVersionsLogic courseVersionsLogic;
 
     private FeedbackResponseCommentsLogic() {
         // prevent initialization
@@ -40,8 +43,9 @@ public final class FeedbackResponseCommentsLogic {
     /**
      * Initialize dependencies for {@code FeedbackResponseCommentsLogic}.
      */
-    void initLogicDependencies(FeedbackResponseCommentsDb frcDb) {
+    void initLogicDependencies(FeedbackResponseCommentsDb frcDb, CourseVersionsLogic courseVersionsLogic) {
         this.frcDb = frcDb;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -69,6 +73,14 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    /**
+     * Gets all response comments for any of the given responses.
+     */
+    public List<FeedbackResponseComment> getFeedbackResponseCommentsForResponses(
+            Collection<FeedbackResponse> feedbackResponses) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponses);
+    }
+
     /**
      * Gets the comment associated with the response.
      */
@@ -84,14 +96,20 @@ public final class FeedbackResponseCommentsLogic {
      */
     public FeedbackResponseComment createFeedbackResponseComment(FeedbackResponseComment frc)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frcDb.createFeedbackResponseComment(frc);
+        FeedbackResponseComment createdComment = frcDb.createFeedbackResponseComment(frc);
+        bumpCourseVersion(frc);
+        return createdComment;
     }
 
     /**
      * Deletes a feedbackResponseComment.
      */
     public void deleteFeedbackResponseComment(Long frcId) {
+        FeedbackResponseComment comment = frcDb.getFeedbackResponseComment(frcId);
         frcDb.deleteFeedbackResponseComment(frcId);
+        if (comment != null) {
+            bumpCourseVersion(comment);
+        }
     }
 
     /**
@@ -104,7 +122,9 @@ public final class FeedbackResponseCommentsLogic {
     public FeedbackResponseComment updateFeedbackResponseComment(FeedbackResponseComment feedbackResponseComment)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        return frcDb.updateFeedbackResponseComment(feedbackResponseComment);
+        FeedbackResponseComment updatedComment = frcDb.updateFeedbackResponseComment(feedbackResponseComment);
+        bumpCourseVersion(updatedComment);
+        return updatedComment;
     }
 
     /**
@@ -124,6 +144,7 @@ public final class FeedbackResponseCommentsLogic {
         comment.setShowGiverNameTo(updateRequest.getShowGiverNameTo());
         comment.setLastEditorEmail(updaterEmail);
 
+        bumpCourseVersion(comment);
         return comment;
     }
 
@@ -133,19 +154,16 @@ public final class FeedbackResponseCommentsLogic {
     public void updateFeedbackResponseCommentsEmails(String courseId, String oldEmail, String updatedEmail) {
         frcDb.updateGiverEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
         frcDb.updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
-     * Updates all feedback response comments with new sections.
+     * Updates the sections of all comments on the responses from and to a student whose section changes.
      */
-    public void updateFeedbackResponseCommentsForResponse(FeedbackResponse response)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseComment> comments = getFeedbackResponseCommentForResponse(response.getId());
-        for (FeedbackResponseComment comment : comments) {
-            comment.setGiverSection(response.getGiverSection());
-            comment.setRecipientSection(response.getRecipientSection());
-            frcDb.updateFeedbackResponseComment(comment);
-        }
+    public void updateFeedbackResponseCommentsForChangingSection(String courseId, String email, Section newSection) {
+        frcDb.updateGiverSectionOfFeedbackResponseCommentsForCourse(courseId, email, newSection);
+        frcDb.updateRecipientSectionOfFeedbackResponseCommentsForCourse(courseId, email, newSection);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -340,4 +358,8 @@ public final class FeedbackResponseCommentsLogic {
         }
         return false;
     }
+
+    private void bumpCourseVersion(FeedbackResponseComment comment) {
+        courseVersionsLogic.bumpCourseVersion(comment.getFeedbackResponse().getFeedbackQuestion().getCourseId());
+    }
 }
@@ -4,23 +4,37 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import jakarta.annotation.Nullable;
 
+import org.hibernate.ScrollableResults;
+
+import com.google.common.collect.AbstractIterator;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.SessionResultsCursor;
 import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlResultsViewer;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.ParallelQueryRunner;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlentity.Course;
@@ -49,6 +63,7 @@ public final class FeedbackResponsesLogic {
     private UsersLogic usersLogic;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private CourseVersionsLogic courseVersionsLogic;
 
     private FeedbackResponsesLogic() {
         // prevent initialization
@@ -61,12 +76,13 @@ public final class FeedbackResponsesLogic {
     /**
      * Initialize dependencies for {@code FeedbackResponsesLogic}.
      */
-    void initLogicDependencies(FeedbackResponsesDb frDb,
-            UsersLogic usersLogic, FeedbackQuestionsLogic fqLogic, FeedbackResponseCommentsLogic frcLogic) {
+    void initLogicDependencies(FeedbackResponsesDb frDb, UsersLogic usersLogic, FeedbackQuestionsLogic fqLogic,
+            FeedbackResponseCommentsLogic frcLogic, CourseVersionsLogic courseVersionsLogic) {
         this.frDb = frDb;
         this.usersLogic = usersLogic;
         this.fqLogic = fqLogic;
         this.frcLogic = frcLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -116,17 +132,7 @@ public final class FeedbackResponsesLogic {
     public boolean hasGiverRespondedForSession(String giverIdentifier, List<FeedbackQuestion> questions) {
         assert questions != null;
 
-        for (FeedbackQuestion question : questions) {
-            boolean hasResponse = question
-                    .getFeedbackResponses()
-                    .stream()
-                    .anyMatch(response -> response.getGiver().equals(giverIdentifier));
-            if (hasResponse) {
-                return true;
-            }
-        }
-
-        return false;
+        return frDb.hasResponsesFromGiverForQuestions(giverIdentifier, questions);
     }
 
     /**
@@ -137,6 +143,15 @@ public final class FeedbackResponsesLogic {
         return frDb.hasResponsesFromGiverInSession(giver, feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the set of identifiers of givers who have at least one response in a feedback session.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return frDb.getGiverSetThatAnsweredFeedbackSession(feedbackSession);
+    }
+
     /**
      * Creates a feedback response.
      * @return the created response
@@ -145,7 +160,9 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponse createFeedbackResponse(FeedbackResponse feedbackResponse)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createFeedbackResponse(feedbackResponse);
+        FeedbackResponse createdResponse = frDb.createFeedbackResponse(feedbackResponse);
+        courseVersionsLogic.bumpCourseVersion(feedbackResponse.getFeedbackQuestion().getCourseId());
+        return createdResponse;
     }
 
     /**
@@ -216,6 +233,7 @@ public final class FeedbackResponsesLogic {
             frcLogic.updateFeedbackResponseComment(oldResponseComment);
         }
 
+        courseVersionsLogic.bumpCourseVersion(newResponse.getFeedbackQuestion().getCourseId());
         return newResponse;
     }
 
@@ -225,6 +243,7 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponsesAndCommentsCascade(FeedbackResponse feedbackResponse) {
         frDb.deleteFeedbackResponse(feedbackResponse);
+        courseVersionsLogic.bumpCourseVersion(feedbackResponse.getFeedbackQuestion().getCourseId());
     }
 
     /**
@@ -269,6 +288,8 @@ public final class FeedbackResponsesLogic {
         for (FeedbackResponse response : responsesToStudent) {
             frDb.deleteFeedbackResponse(response);
         }
+
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -335,6 +356,8 @@ public final class FeedbackResponsesLogic {
         for (FeedbackQuestion question : filteredQuestions) {
             makeRankRecipientQuestionResponsesConsistent(question, roster);
         }
+
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -462,87 +485,43 @@ public final class FeedbackResponsesLogic {
     /**
      * Updates responses for a student when his team changes.
      * <p>
-     *     This is done by deleting responses that are no longer relevant to him in his new team.
+     *     This is done by deleting responses that are no longer relevant to him in his new team,
+     *     i.e. the responses he gave on behalf of his team, and those he gave to or received from his team members.
+     *     The responses are deleted without being loaded.
      * </p>
      */
-    public void updateFeedbackResponsesForChangingTeam(Course course, String newEmail, Team newTeam, Team oldTeam)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestion qn;
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
-            }
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
-            }
-        }
+    public void updateFeedbackResponsesForChangingTeam(Course course, String newEmail, Team newTeam, Team oldTeam) {
+        frDb.deleteFeedbackResponsesWithinTeamOfStudentForCourse(course.getId(), newEmail);
 
         boolean isOldTeamEmpty = usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId()).isEmpty();
 
         if (isOldTeamEmpty) {
-            deleteFeedbackResponsesForCourseCascade(course.getId(), oldTeam.getName());
+            frDb.deleteFeedbackResponsesFromOrToParticipantForCourse(course.getId(), oldTeam.getName());
         }
+
+        courseVersionsLogic.bumpCourseVersion(course.getId());
     }
 
     /**
-     * Updates responses for a student when his section changes.
+     * Updates responses and their comments for a student when his section changes,
+     * without loading the responses or comments.
      */
-    public void updateFeedbackResponsesForChangingSection(Course course, String newEmail, Section newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiverSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
+    public void updateFeedbackResponsesForChangingSection(Course course, String newEmail, Section newSection) {
+        frDb.updateGiverSectionOfFeedbackResponsesForCourse(course.getId(), newEmail, newSection);
+        frDb.updateRecipientSectionOfFeedbackResponsesForCourse(course.getId(), newEmail, newSection);
+        frcLogic.updateFeedbackResponseCommentsForChangingSection(course.getId(), newEmail, newSection);
 
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipientSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
+        courseVersionsLogic.bumpCourseVersion(course.getId());
     }
 
     /**
-     * Updates a student's email in their given/received responses.
+     * Updates a student's email in their given/received responses, without loading the responses.
      */
-    public void updateFeedbackResponsesForChangingEmail(String courseId, String oldEmail, String newEmail)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+    public void updateFeedbackResponsesForChangingEmail(String courseId, String oldEmail, String newEmail) {
+        frDb.updateGiverOfFeedbackResponsesForCourse(courseId, oldEmail, newEmail);
+        frDb.updateRecipientOfFeedbackResponsesForCourse(courseId, oldEmail, newEmail);
 
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiver(newEmail);
-            frDb.updateFeedbackResponse(response);
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipient(newEmail);
-            frDb.updateFeedbackResponse(response);
-        }
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     private List<FeedbackQuestion> getQuestionsForSession(
@@ -558,7 +537,7 @@ public final class FeedbackResponsesLogic {
             boolean isCourseWide, FeedbackSession feedbackSession, String courseId, String sectionName, UUID questionId,
             boolean isInstructor, String userEmail, Instructor instructor, Student student,
             SqlCourseRoster roster, List<FeedbackQuestion> allQuestions,
-            List<FeedbackResponse> allResponses, boolean isPreviewResults) {
+            List<FeedbackResponse> allResponses, List<FeedbackResponseComment> allComments, boolean isPreviewResults) {
 
         Set<FeedbackQuestion> questionsNotVisibleToInstructors = new HashSet<>();
         for (FeedbackQuestion qn : allQuestions) {
@@ -569,16 +548,6 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        // load comment(s)
-        List<FeedbackResponseComment> allComments;
-        if (questionId == null) {
-            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(
-                    courseId, feedbackSession.getName(), sectionName);
-        } else {
-            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, sectionName);
-        }
-        RequestTracer.checkRemainingTime();
-
         // related questions, responses, and comment
         List<FeedbackQuestion> relatedQuestions = new ArrayList<>();
         List<FeedbackResponse> relatedResponses = new ArrayList<>();
@@ -592,13 +561,8 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        Set<String> studentsEmailInTeam = new HashSet<>();
-        if (student != null) {
-            for (Student studentInTeam
-                    : roster.getTeamToMembersTable().getOrDefault(student.getTeam().getName(), Collections.emptyList())) {
-                studentsEmailInTeam.add(studentInTeam.getEmail());
-            }
-        }
+        // membership of the viewing user is computed once for all visibility checks below
+        SqlResultsViewer viewer = new SqlResultsViewer(userEmail, isInstructor, student, roster);
 
         // visibility table for each response and comment
         Map<FeedbackResponse, Boolean> responseGiverVisibilityTable = new HashMap<>();
@@ -618,8 +582,7 @@ public final class FeedbackResponsesLogic {
                 continue;
             }
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            boolean isVisibleResponse = isResponseVisibleForUser(viewer, response, correspondingQuestion, instructor);
             if (!isVisibleResponse) {
                 continue;
             }
@@ -637,9 +600,9 @@ public final class FeedbackResponsesLogic {
 
             // generate giver/recipient name visibility table
             responseGiverVisibilityTable.put(response,
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
+                    isNameVisibleToUser(correspondingQuestion, response, viewer, true));
             responseRecipientVisibilityTable.put(response,
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+                    isNameVisibleToUser(correspondingQuestion, response, viewer, false));
         }
         RequestTracer.checkRemainingTime();
 
@@ -656,7 +619,7 @@ public final class FeedbackResponsesLogic {
             }
             // check visibility of comment
             boolean isVisibleResponseComment = frcLogic.checkIsResponseCommentVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+                    userEmail, isInstructor, student, viewer.getTeamMemberEmails(), relatedResponse, relatedQuestion, frc);
             if (!isVisibleResponseComment) {
                 continue;
             }
@@ -676,11 +639,10 @@ public final class FeedbackResponsesLogic {
         RequestTracer.checkRemainingTime();
 
         List<FeedbackResponse> existingResponses = new ArrayList<>(relatedResponses);
-        List<FeedbackResponse> missingResponses = Collections.emptyList();
+        Map<FeedbackQuestion, Iterable<FeedbackResponse>> missingResponses = Collections.emptyMap();
         if (isCourseWide) {
             missingResponses = buildMissingResponses(
-                    instructor, responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedQuestions,
-                    existingResponses, roster, sectionName);
+                    instructor, viewer, relatedQuestions, existingResponses, roster, sectionName);
         }
         RequestTracer.checkRemainingTime();
 
@@ -705,29 +667,225 @@ public final class FeedbackResponsesLogic {
             FeedbackSession feedbackSession, String courseId, String instructorEmail,
             @Nullable UUID questionId, @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType) {
 
-        SqlCourseRoster roster = new SqlCourseRoster(
-                usersLogic.getStudentsForCourse(courseId),
-                usersLogic.getInstructorsForCourse(courseId));
+        // the roster, question(s), response(s) and comment(s) are independent of one another,
+        // so they are loaded concurrently when parallel queries are enabled,
+        // in separate transactions which may see changes committed in between differently
+        Future<List<Student>> students = ParallelQueryRunner.submit(() -> usersLogic.getStudentsForCourse(courseId));
+        Future<List<Instructor>> instructors =
+                ParallelQueryRunner.submit(() -> usersLogic.getInstructorsForCourse(courseId));
 
         // load question(s)
-        List<FeedbackQuestion> allQuestions = getQuestionsForSession(feedbackSession, questionId);
-        RequestTracer.checkRemainingTime();
+        Future<List<FeedbackQuestion>> questions =
+                ParallelQueryRunner.submit(() -> getQuestionsForSession(feedbackSession, questionId));
 
         // load response(s)
-        List<FeedbackResponse> allResponses;
         // load all response for instructors and passively filter them later
-        if (questionId == null) {
-            allResponses = getFeedbackResponsesForSessionInSection(feedbackSession, courseId, sectionName, fetchType);
-        } else {
-            allResponses = getFeedbackResponsesForQuestionInSection(questionId, sectionName, fetchType);
-        }
-        RequestTracer.checkRemainingTime();
+        Future<List<FeedbackResponse>> responses = ParallelQueryRunner.submit(() -> questionId == null
+                ? getFeedbackResponsesForSessionInSection(feedbackSession, courseId, sectionName, fetchType)
+                : getFeedbackResponsesForQuestionInSection(questionId, sectionName, fetchType));
+
+        // load comment(s)
+        Future<List<FeedbackResponseComment>> comments = ParallelQueryRunner.submit(
+                () -> getFeedbackResponseCommentsForSession(feedbackSession, courseId, questionId, sectionName));
 
         // consider the current viewing user
         Instructor instructor = usersLogic.getInstructorForEmail(courseId, instructorEmail);
 
+        SqlCourseRoster roster = new SqlCourseRoster(
+                ParallelQueryRunner.getResult(students), ParallelQueryRunner.getResult(instructors));
+        List<FeedbackQuestion> allQuestions = ParallelQueryRunner.getResult(questions);
+        List<FeedbackResponse> allResponses = ParallelQueryRunner.getResult(responses);
+        List<FeedbackResponseComment> allComments = ParallelQueryRunner.getResult(comments);
+        RequestTracer.checkRemainingTime();
+
         return buildResultsBundle(true, feedbackSession, courseId, sectionName, questionId, true, instructorEmail,
-                instructor, null, roster, allQuestions, allResponses, false);
+                instructor, null, roster, allQuestions, allResponses, allComments, false);
+    }
+
+    /**
+     * Gets a page of the session result for a feedback session, ordered by question number, giver and recipient.
+     *
+     * <p>The page contains at most {@code pageSize} responses, existing and missing ones together.
+     * The missing responses of a question follow its existing responses, and are paged in the same way.
+     *
+     * @param feedbackSession the feedback session
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId if not null, will only return partial bundle for the question
+     * @param sectionName if not null, will only return partial bundle for the section
+     * @param fetchType if not null, will fetch responses by giver, receiver sections, or both
+     * @param cursor if not null, the page starts after the cursor
+     * @param pageSize the maximum number of existing and missing responses in the page
+     * @return the page of the session result
+     */
+    public SqlSessionResultsPage getSessionResultsPageForCourse(
+            FeedbackSession feedbackSession, String courseId, String instructorEmail,
+            @Nullable UUID questionId, @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType,
+            @Nullable SessionResultsCursor cursor, int pageSize) {
+        assert pageSize > 0;
+
+        SqlCourseRoster roster = new SqlCourseRoster(
+                usersLogic.getStudentsForCourse(courseId),
+                usersLogic.getInstructorsForCourse(courseId));
+        Instructor instructor = usersLogic.getInstructorForEmail(courseId, instructorEmail);
+        SqlResultsViewer viewer = new SqlResultsViewer(instructorEmail, true, null, roster);
+
+        List<FeedbackQuestion> pageQuestions = new ArrayList<>();
+        List<FeedbackResponse> pageResponses = new ArrayList<>();
+        Map<FeedbackQuestion, Iterable<FeedbackResponse>> pageMissingResponses = new HashMap<>();
+        int numberOfResponsesInPage = 0;
+        SessionResultsCursor nextCursor = null;
+        for (FeedbackQuestion question : getQuestionsForSession(feedbackSession, questionId)) {
+            boolean isCursorQuestion = cursor != null && question.getQuestionNumber() == cursor.getQuestionNumber();
+            if (cursor != null && question.getQuestionNumber() < cursor.getQuestionNumber()) {
+                continue;
+            }
+            boolean isCursorInMissingResponses = isCursorQuestion && cursor.isInMissingResponses();
+
+            if (!isCursorInMissingResponses) {
+                // fetch one more response than needed to find out whether the question continues in the next page
+                int remaining = pageSize - numberOfResponsesInPage;
+                List<FeedbackResponse> responses = frDb.getFeedbackResponsesPageForQuestionInSection(question.getId(),
+                        isCursorQuestion ? cursor.getGiver() : null, isCursorQuestion ? cursor.getRecipient() : null,
+                        sectionName, fetchType, remaining + 1);
+                if (responses.size() > remaining) {
+                    if (remaining == 0) {
+                        // the page is filled up by the previous questions, so the next page starts from this question
+                        nextCursor = new SessionResultsCursor(question.getQuestionNumber(), "", "");
+                        break;
+                    }
+                    FeedbackResponse lastResponse = responses.get(remaining - 1);
+                    pageQuestions.add(question);
+                    pageResponses.addAll(responses.subList(0, remaining));
+                    nextCursor = new SessionResultsCursor(question.getQuestionNumber(),
+                            lastResponse.getGiver(), lastResponse.getRecipient());
+                    break;
+                }
+                pageResponses.addAll(responses);
+                numberOfResponsesInPage += responses.size();
+            }
+            pageQuestions.add(question);
+
+            // the existing responses of the question are all in the page, so its missing responses follow
+            int remaining = pageSize - numberOfResponsesInPage;
+            Iterator<FeedbackResponse> missingResponses = buildMissingResponsesAfter(instructor, viewer, question,
+                    roster, sectionName, isCursorInMissingResponses ? cursor.getGiver() : null,
+                    isCursorInMissingResponses ? cursor.getRecipient() : null);
+            List<FeedbackResponse> questionMissingResponses = new ArrayList<>();
+            while (questionMissingResponses.size() < remaining && missingResponses.hasNext()) {
+                questionMissingResponses.add(missingResponses.next());
+            }
+            pageMissingResponses.put(question, questionMissingResponses);
+            numberOfResponsesInPage += questionMissingResponses.size();
+            if (missingResponses.hasNext()) {
+                nextCursor = questionMissingResponses.isEmpty()
+                        ? new SessionResultsCursor(question.getQuestionNumber(), "", "", true)
+                        : new SessionResultsCursor(question.getQuestionNumber(),
+                                questionMissingResponses.get(questionMissingResponses.size() - 1).getGiver(),
+                                questionMissingResponses.get(questionMissingResponses.size() - 1).getRecipient(), true);
+                break;
+            }
+            RequestTracer.checkRemainingTime();
+        }
+
+        List<FeedbackResponseComment> pageComments = frcLogic.getFeedbackResponseCommentsForResponses(pageResponses);
+        RequestTracer.checkRemainingTime();
+
+        SqlSessionResultsBundle bundle = buildPartialResultsBundleForInstructor(feedbackSession, courseId,
+                sectionName, instructorEmail, instructor, roster, pageQuestions, pageMissingResponses,
+                pageResponses, pageComments);
+        return new SqlSessionResultsPage(bundle, nextCursor);
+    }
+
+    /**
+     * Passes the session result for a feedback session to {@code consumer} in parts, ordered by question number,
+     * giver and recipient, so that the whole result is never held in memory at once.
+     *
+     * <p>Each part contains at most {@code partSize} existing responses of a single question. The missing responses
+     * of a question are included in the last part of the question.
+     *
+     * <p>Responses are scrolled through with a database cursor and evicted from the session once their part has
+     * been consumed, so this must be run in a read-only transaction.
+     *
+     * @param feedbackSession the feedback session
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param sectionName if not null, will only return partial bundles for the section
+     * @param fetchType if not null, will fetch responses by giver, receiver sections, or both
+     * @param partSize the maximum number of existing responses in each part
+     * @param consumer the consumer of the parts of the session result
+     */
+    public void forEachSessionResultsPartForCourse(
+            FeedbackSession feedbackSession, String courseId, String instructorEmail,
+            @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType,
+            int partSize, Consumer<SqlSessionResultsBundle> consumer) {
+        assert partSize > 0;
+
+        SqlCourseRoster roster = new SqlCourseRoster(
+                usersLogic.getStudentsForCourse(courseId),
+                usersLogic.getInstructorsForCourse(courseId));
+        Instructor instructor = usersLogic.getInstructorForEmail(courseId, instructorEmail);
+
+        for (FeedbackQuestion question : getQuestionsForSession(feedbackSession, null)) {
+            List<FeedbackQuestion> questions = Collections.singletonList(question);
+            List<FeedbackResponse> partResponses = new ArrayList<>();
+            try (ScrollableResults<FeedbackResponse> responses = frDb.scrollFeedbackResponsesForQuestionInSection(
+                    question.getId(), sectionName, fetchType, partSize)) {
+                while (responses.next()) {
+                    partResponses.add(responses.get());
+                    if (partResponses.size() == partSize) {
+                        consumeResultsPartForInstructor(feedbackSession, courseId, sectionName, instructorEmail,
+                                instructor, roster, questions, Collections.emptyList(), partResponses, consumer);
+                        partResponses.clear();
+                    }
+                }
+            }
+            consumeResultsPartForInstructor(feedbackSession, courseId, sectionName, instructorEmail,
+                    instructor, roster, questions, questions, partResponses, consumer);
+        }
+    }
+
+    private void consumeResultsPartForInstructor(FeedbackSession feedbackSession, String courseId,
+            @Nullable String sectionName, String instructorEmail, Instructor instructor, SqlCourseRoster roster,
+            List<FeedbackQuestion> questions, List<FeedbackQuestion> completedQuestions,
+            List<FeedbackResponse> partResponses, Consumer<SqlSessionResultsBundle> consumer) {
+        List<FeedbackResponseComment> partComments = frcLogic.getFeedbackResponseCommentsForResponses(partResponses);
+
+        // as the other existing responses of a question may be in other parts, the missing responses are only built
+        // for the completed questions, whose existing responses are looked up from the database
+        SqlResultsViewer viewer = new SqlResultsViewer(instructorEmail, true, null, roster);
+        Map<FeedbackQuestion, Iterable<FeedbackResponse>> missingResponses = buildMissingResponses(instructor, viewer,
+                completedQuestions, question -> frDb.getRecipientsByGiverForQuestion(question.getId()),
+                roster, sectionName);
+        RequestTracer.checkRemainingTime();
+
+        consumer.accept(buildPartialResultsBundleForInstructor(feedbackSession, courseId, sectionName,
+                instructorEmail, instructor, roster, questions, missingResponses, partResponses, partComments));
+        RequestTracer.checkRemainingTime();
+
+        // the consumed responses and comments are not needed anymore
+        partResponses.forEach(HibernateUtil::evict);
+        partComments.forEach(HibernateUtil::evict);
+    }
+
+    /**
+     * Builds the session result bundle for instructor from part of the existing and missing responses of the questions.
+     */
+    private SqlSessionResultsBundle buildPartialResultsBundleForInstructor(FeedbackSession feedbackSession,
+            String courseId, @Nullable String sectionName, String instructorEmail, Instructor instructor,
+            SqlCourseRoster roster, List<FeedbackQuestion> questions,
+            Map<FeedbackQuestion, Iterable<FeedbackResponse>> missingResponses,
+            List<FeedbackResponse> responses, List<FeedbackResponseComment> comments) {
+        SqlSessionResultsBundle bundle = buildResultsBundle(false, feedbackSession, courseId, sectionName, null,
+                true, instructorEmail, instructor, null, roster, questions, responses, comments, false);
+
+        List<FeedbackResponse> existingResponses = new ArrayList<>();
+        bundle.getQuestionResponseMap().values().forEach(existingResponses::addAll);
+        return new SqlSessionResultsBundle(questions,
+                bundle.getQuestionsNotVisibleForPreviewSet(), bundle.getQuestionsWithCommentNotVisibleForPreviewSet(),
+                existingResponses, missingResponses, bundle.getResponseGiverVisibilityTable(),
+                bundle.getResponseRecipientVisibilityTable(), bundle.getResponseCommentsMap(),
+                bundle.getCommentGiverVisibilityTable(), roster);
     }
 
     /**
@@ -755,110 +913,105 @@ public final class FeedbackResponsesLogic {
         // load response(s)
         Student student = isInstructor ? null : usersLogic.getStudentForEmail(courseId, userEmail);
         Instructor instructor = isInstructor ? usersLogic.getInstructorForEmail(courseId, userEmail) : null;
-        List<FeedbackResponse> allResponses = new ArrayList<>();
-        for (FeedbackQuestion question : allQuestions) {
-            // load viewable responses for students/instructors proactively
-            // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
-            List<FeedbackResponse> viewableResponses = isInstructor
-                    ? getFeedbackResponsesToOrFromInstructorForQuestion(question, instructor)
-                    : getViewableFeedbackResponsesForStudentForQuestion(question, student, roster);
-            allResponses.addAll(viewableResponses);
-        }
+        // load viewable responses for students/instructors proactively
+        // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
+        List<FeedbackResponse> allResponses = isInstructor
+                ? getFeedbackResponsesToOrFromInstructorForQuestions(allQuestions, instructor)
+                : getViewableFeedbackResponsesForStudentForQuestions(allQuestions, student, roster);
+        RequestTracer.checkRemainingTime();
+
+        // load comment(s)
+        List<FeedbackResponseComment> allComments =
+                getFeedbackResponseCommentsForSession(feedbackSession, courseId, questionId, null);
         RequestTracer.checkRemainingTime();
 
         return buildResultsBundle(false, feedbackSession, courseId, null, questionId, isInstructor, userEmail,
-                instructor, student, roster, allQuestions, allResponses, isPreviewResults);
+                instructor, student, roster, allQuestions, allResponses, allComments, isPreviewResults);
+    }
+
+    private List<FeedbackResponseComment> getFeedbackResponseCommentsForSession(
+            FeedbackSession feedbackSession, String courseId, @Nullable UUID questionId, @Nullable String sectionName) {
+        if (questionId == null) {
+            return frcLogic.getFeedbackResponseCommentForSessionInSection(
+                    courseId, feedbackSession.getName(), sectionName);
+        }
+        return frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, sectionName);
     }
 
     /**
      * Builds viewable missing responses for the session for instructor.
      *
+     * <p>The missing responses of each question are generated only when they are iterated over, by walking
+     * the possible giver and recipient pairs of the question in sorted order and skipping the pairs with
+     * existing responses. The complete giver to recipient map is therefore never held in memory.
+     *
      * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
+     * @param viewer the instructor as the user viewing the results
      * @param relatedQuestions the relevant questions
      * @param existingResponses existing responses
      * @param courseRoster the course roster
      * @param sectionName if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
+     * @return the missing responses of each question for the session.
      */
-    private List<FeedbackResponse> buildMissingResponses(
-            Instructor instructor, Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
-            Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable, List<FeedbackQuestion> relatedQuestions,
+    private Map<FeedbackQuestion, Iterable<FeedbackResponse>> buildMissingResponses(
+            Instructor instructor, SqlResultsViewer viewer, List<FeedbackQuestion> relatedQuestions,
             List<FeedbackResponse> existingResponses, SqlCourseRoster courseRoster, @Nullable String sectionName) {
-
-        // first get all possible giver recipient pairs
-        Map<FeedbackQuestion, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestion feedbackQuestion : relatedQuestions) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion,
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion, new HashMap<>());
-            }
+        Map<FeedbackQuestion, Map<String, Set<String>>> questionExistingRecipientsMap = new HashMap<>();
+        for (FeedbackResponse existingResponse : existingResponses) {
+            questionExistingRecipientsMap.computeIfAbsent(existingResponse.getFeedbackQuestion(), key -> new HashMap<>())
+                    .computeIfAbsent(existingResponse.getGiver(), key -> new HashSet<>())
+                    .add(existingResponse.getRecipient());
         }
+        return buildMissingResponses(instructor, viewer, relatedQuestions,
+                question -> questionExistingRecipientsMap.getOrDefault(question, Collections.emptyMap()),
+                courseRoster, sectionName);
+    }
 
-        // remove the existing responses in those pairs
-        for (FeedbackResponse existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestion());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
+    /**
+     * Builds viewable missing responses of the questions for instructor.
+     *
+     * @param existingRecipientsGetter gets the recipients of the existing responses of a question, by giver
+     */
+    private Map<FeedbackQuestion, Iterable<FeedbackResponse>> buildMissingResponses(
+            Instructor instructor, SqlResultsViewer viewer, List<FeedbackQuestion> questions,
+            Function<FeedbackQuestion, Map<String, Set<String>>> existingRecipientsGetter,
+            SqlCourseRoster courseRoster, @Nullable String sectionName) {
+        Map<FeedbackQuestion, Iterable<FeedbackResponse>> questionMissingResponsesMap = new HashMap<>();
+        for (FeedbackQuestion feedbackQuestion : questions) {
+            if (!feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
                 continue;
             }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
-        }
 
-        List<FeedbackResponse> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<FeedbackQuestion, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestion correspondingQuestion = currGiverRecipientMapEntry.getKey();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                SqlCourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    SqlCourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (sectionName != null
-                            && !giverInfo.getSectionName().equals(sectionName)
-                            && !recipientInfo.getSectionName().equals(sectionName)) {
-                        continue;
-                    }
+            // the possible givers and existing recipients are resolved here, as they may need to be loaded
+            // from the database
+            List<String> possibleGivers = new ArrayList<>(fqLogic.getPossibleGivers(feedbackQuestion, courseRoster));
+            Collections.sort(possibleGivers);
+            Map<String, Set<String>> existingRecipients = existingRecipientsGetter.apply(feedbackQuestion);
 
-                    FeedbackResponse missingResponse = new FeedbackMissingResponse(
-                            correspondingQuestion,
-                            giverIdentifier, giverInfo.getSectionName(),
-                            recipientIdentifier, recipientInfo.getSectionName());
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
-                    }
+            questionMissingResponsesMap.put(feedbackQuestion, () -> new MissingResponsesIterator(feedbackQuestion,
+                    possibleGivers, existingRecipients, instructor, viewer, courseRoster, sectionName, null, null));
+        }
+        return questionMissingResponsesMap;
+    }
 
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
-                }
-            }
+    /**
+     * Builds the viewable missing responses of a question for instructor, which come after the given giver and
+     * recipient in the order of the missing responses, or from the first one if they are null.
+     *
+     * <p>The existing responses of the question are looked up from the database.
+     */
+    private Iterator<FeedbackResponse> buildMissingResponsesAfter(Instructor instructor, SqlResultsViewer viewer,
+            FeedbackQuestion question, SqlCourseRoster courseRoster, @Nullable String sectionName,
+            @Nullable String afterGiver, @Nullable String afterRecipient) {
+        if (!question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+            return Collections.emptyIterator();
         }
 
-        return missingResponses;
+        List<String> possibleGivers = new ArrayList<>(fqLogic.getPossibleGivers(question, courseRoster));
+        Collections.sort(possibleGivers);
+        return new MissingResponsesIterator(question, possibleGivers,
+                frDb.getRecipientsByGiverForQuestion(question.getId()), instructor, viewer, courseRoster, sectionName,
+                afterGiver, afterRecipient);
     }
 
     /**
@@ -870,6 +1023,16 @@ public final class FeedbackResponsesLogic {
             String userEmail,
             boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
 
+        return isNameVisibleToUser(question, response, new SqlResultsViewer(userEmail, isInstructor, null, roster),
+                isGiverName);
+    }
+
+    /**
+     * Checks whether the giver name or the recipient name of a response is visible to the viewing user.
+     */
+    private boolean isNameVisibleToUser(
+            FeedbackQuestion question, FeedbackResponse response, SqlResultsViewer viewer, boolean isGiverName) {
+
         if (question == null) {
             return false;
         }
@@ -877,84 +1040,66 @@ public final class FeedbackResponsesLogic {
         // Early return if user is giver
         if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
             // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
+            if (viewer.isInTeam(response.getGiver())) {
                 return true;
             }
         } else {
-            if (response.getGiver().equals(userEmail)) {
+            if (response.getGiver().equals(viewer.getEmail())) {
                 return true;
             }
         }
 
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, isInstructor, isGiverName, roster);
+        return isFeedbackParticipantNameVisibleToUser(question, response, viewer, isGiverName);
     }
 
     private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestion question, FeedbackResponse response,
-            String userEmail, boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.getShowGiverNameTo()
-                                                 : question.getShowRecipientNameTo();
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && isInstructor) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                assert false : "Invalid FeedbackParticipantType for showNameTo in "
-                        + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()";
-                break;
-            }
+            FeedbackQuestion question, FeedbackResponse response, SqlResultsViewer viewer, boolean isGiverName) {
+        if (isNameVisibleTo(question, isGiverName, FeedbackParticipantType.INSTRUCTORS)
+                && viewer.isInstructorInCourse()) {
+            return true;
+        }
+
+        // Refers to Giver's Team Members
+        if ((isNameVisibleTo(question, isGiverName, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                || isNameVisibleTo(question, isGiverName, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                && viewer.isInSameTeamAs(response.getGiver())) {
+            return true;
+        }
+
+        boolean isRecipientTeam = question.getRecipientType().isTeam();
+        if (isNameVisibleTo(question, isGiverName, FeedbackParticipantType.RECEIVER)
+                && (isRecipientTeam
+                        // Response to team; recipient = teamName
+                        ? viewer.isInTeam(response.getRecipient())
+                        // Response to individual
+                        : response.getRecipient().equals(viewer.getEmail()))) {
+            return true;
+        }
+
+        if (isNameVisibleTo(question, isGiverName, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && (isRecipientTeam
+                        ? viewer.isInTeam(response.getRecipient())
+                        : viewer.isInSameTeamAs(response.getRecipient()))) {
+            return true;
         }
-        return false;
+
+        return isNameVisibleTo(question, isGiverName, FeedbackParticipantType.STUDENTS)
+                && viewer.isStudentInCourse();
+    }
+
+    private boolean isNameVisibleTo(
+            FeedbackQuestion question, boolean isGiverName, FeedbackParticipantType participantType) {
+        return isGiverName
+                ? question.isGiverNameVisibleTo(participantType)
+                : question.isRecipientNameVisibleTo(participantType);
     }
 
     private boolean isResponseVisibleForUser(
-            String userEmail, boolean isInstructor, Student student,
-            Set<String> studentsEmailInTeam, FeedbackResponse response,
-            FeedbackQuestion relatedQuestion, Instructor instructor) {
+            SqlResultsViewer viewer, FeedbackResponse response, FeedbackQuestion relatedQuestion, Instructor instructor) {
+        String userEmail = viewer.getEmail();
+        boolean isInstructor = viewer.isInstructor();
+        Student student = viewer.getStudent();
+        Set<String> studentsEmailInTeam = viewer.getTeamMemberEmails();
 
         boolean isVisibleResponse = false;
         if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
@@ -963,7 +1108,7 @@ public final class FeedbackResponsesLogic {
                 || response.getGiver().equals(userEmail)
                 || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
             isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && !isInstructor) {
+        } else if (!isInstructor) {
             if ((relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
                     || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
                     || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
@@ -1045,94 +1190,143 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Returns feedback responses given/received by an instructor.
+     * Returns feedback responses given/received by an instructor for the given questions.
+     *
+     * <p>Candidate responses of all questions are loaded in a single query and filtered in memory.
      */
-    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestion(
-            FeedbackQuestion question, Instructor instructor) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
+    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestions(
+            List<FeedbackQuestion> questions, Instructor instructor) {
+        List<FeedbackQuestion> questionsToLoad = new ArrayList<>();
+        for (FeedbackQuestion question : questions) {
+            if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
+                    || question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
+                questionsToLoad.add(question);
+            }
+        }
 
-        // Add responses that the instructor submitted him/herself
-        if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), instructor.getEmail())
-            );
+        List<FeedbackResponse> candidateResponses = frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(
+                questionsToLoad, Collections.singleton(instructor.getEmail()));
+
+        Map<UUID, List<FeedbackResponse>> viewableResponses = initResponsesByQuestion(questions);
+        for (FeedbackResponse response : candidateResponses) {
+            if (isResponseToOrFromInstructor(response.getFeedbackQuestion(), response, instructor)) {
+                viewableResponses.get(response.getFeedbackQuestion().getId()).add(response);
+            }
         }
+        return flattenResponsesByQuestion(viewableResponses);
+    }
 
-        // Add responses that user is a receiver of when response is visible to receiver or instructors
-        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS))) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), instructor.getEmail())
-            );
+    /**
+     * Checks whether a response is given by an instructor, or received by the instructor
+     * when it is visible to the receiver or instructors.
+     */
+    private boolean isResponseToOrFromInstructor(
+            FeedbackQuestion question, FeedbackResponse response, Instructor instructor) {
+        // responses that the instructor submitted him/herself
+        if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
+                && response.getGiver().equals(instructor.getEmail())) {
+            return true;
         }
 
-        return new ArrayList<>(viewableResponses);
+        // responses that user is a receiver of when response is visible to receiver or instructors
+        return question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS))
+                && response.getRecipient().equals(instructor.getEmail());
     }
 
     /**
-     * Returns viewable feedback responses for a student.
+     * Returns viewable feedback responses for a student for the given questions.
+     *
+     * <p>Responses of questions visible to all students are loaded in one query, and the responses
+     * given or received by the student, the student's team or its members in another.
+     * The per-question visibility rules are then applied in memory.
      */
-    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestion(
-            FeedbackQuestion question, Student student, SqlCourseRoster courseRoster) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
-
-        // Add responses that the student submitted him/herself
-        if (question.getGiverType() != FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail())
-            );
+    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestions(
+            List<FeedbackQuestion> questions, Student student, SqlCourseRoster courseRoster) {
+        List<FeedbackQuestion> questionsVisibleToStudents = new ArrayList<>();
+        List<FeedbackQuestion> otherQuestions = new ArrayList<>();
+        for (FeedbackQuestion question : questions) {
+            if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                questionsVisibleToStudents.add(question);
+            } else {
+                otherQuestions.add(question);
+            }
         }
 
-        // Add responses that user is a receiver of when response is visible to receiver
-        if (question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getEmail())
-            );
+        Set<String> teamMemberEmails = new HashSet<>();
+        for (Student studentInTeam : courseRoster.getTeamToMembersTable().get(student.getTeamName())) {
+            teamMemberEmails.add(studentInTeam.getEmail());
         }
+        Set<String> participants = new HashSet<>(teamMemberEmails);
+        participants.add(student.getEmail());
+        participants.add(student.getTeamName());
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            viewableResponses.addAll(getFeedbackResponsesForQuestion(question.getId()));
+        Map<UUID, List<FeedbackResponse>> viewableResponses = initResponsesByQuestion(questions);
+        for (FeedbackResponse response : frDb.getFeedbackResponsesForQuestions(questionsVisibleToStudents)) {
+            viewableResponses.get(response.getFeedbackQuestion().getId()).add(response);
+        }
+        for (FeedbackResponse response
+                : frDb.getFeedbackResponsesFromOrToParticipantsForQuestions(otherQuestions, participants)) {
+            if (isResponseViewableToStudent(response.getFeedbackQuestion(), response, student, teamMemberEmails)) {
+                viewableResponses.get(response.getFeedbackQuestion().getId()).add(response);
+            }
+        }
+        return flattenResponsesByQuestion(viewableResponses);
+    }
+
+    /**
+     * Checks whether a response to a question not visible to all students is viewable to a student.
+     *
+     * @param teamMemberEmails emails of all students in the student's team, including the student
+     */
+    private boolean isResponseViewableToStudent(
+            FeedbackQuestion question, FeedbackResponse response, Student student, Set<String> teamMemberEmails) {
+        String giver = response.getGiver();
+        String recipient = response.getRecipient();
 
-            // Early return as STUDENTS covers all cases below.
-            return new ArrayList<>(viewableResponses);
+        // responses that the student submitted him/herself
+        if (question.getGiverType() != FeedbackParticipantType.INSTRUCTORS && giver.equals(student.getEmail())) {
+            return true;
         }
 
-        if (question.getRecipientType().isTeam()
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getTeamName())
-            );
+        // responses that user is a receiver of when response is visible to receiver
+        if (question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && recipient.equals(student.getEmail())) {
+            return true;
         }
 
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS
-                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromTeamForQuestion(
-                            question.getId(), question.getCourseId(), student.getTeamName(), courseRoster));
+        if (question.getRecipientType().isTeam()
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && recipient.equals(student.getTeamName())) {
+            return true;
         }
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
-            for (Student studentInTeam : courseRoster.getTeamToMembersTable().get(student.getTeamName())) {
-                if (studentInTeam.getEmail().equals(student.getEmail())) {
-                    continue;
-                }
-                List<FeedbackResponse> responses =
-                        getFeedbackResponsesForRecipientForQuestion(question.getId(), studentInTeam.getEmail());
-                viewableResponses.addAll(responses);
-            }
+        if ((question.getGiverType() == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                && (teamMemberEmails.contains(giver) || giver.equals(student.getTeamName()))) {
+            return true;
         }
 
-        return new ArrayList<>(viewableResponses);
+        return question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && teamMemberEmails.contains(recipient) && !recipient.equals(student.getEmail());
     }
 
-    /**
-     * Gets all responses received by a user for a question.
-     */
-    private List<FeedbackResponse> getFeedbackResponsesForRecipientForQuestion(
-            UUID feedbackQuestionId, String userEmail) {
-        return frDb.getFeedbackResponsesForRecipientForQuestion(feedbackQuestionId, userEmail);
+    private Map<UUID, List<FeedbackResponse>> initResponsesByQuestion(List<FeedbackQuestion> questions) {
+        Map<UUID, List<FeedbackResponse>> responsesByQuestion = new LinkedHashMap<>();
+        for (FeedbackQuestion question : questions) {
+            responsesByQuestion.put(question.getId(), new ArrayList<>());
+        }
+        return responsesByQuestion;
+    }
+
+    private List<FeedbackResponse> flattenResponsesByQuestion(Map<UUID, List<FeedbackResponse>> responsesByQuestion) {
+        List<FeedbackResponse> responses = new ArrayList<>();
+        for (List<FeedbackResponse> responsesForQuestion : responsesByQuestion.values()) {
+            responses.addAll(responsesForQuestion);
+        }
+        return responses;
     }
 
     /**
@@ -1140,11 +1334,11 @@ public final class FeedbackResponsesLogic {
      */
     boolean checkCanInstructorsSeeQuestion(FeedbackQuestion feedbackQuestion) {
         boolean isResponseVisibleToInstructor =
-                feedbackQuestion.getShowResponsesTo().contains(FeedbackParticipantType.INSTRUCTORS);
+                feedbackQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS);
         boolean isGiverVisibleToInstructor =
-                feedbackQuestion.getShowGiverNameTo().contains(FeedbackParticipantType.INSTRUCTORS);
+                feedbackQuestion.isGiverNameVisibleTo(FeedbackParticipantType.INSTRUCTORS);
         boolean isRecipientVisibleToInstructor =
-                feedbackQuestion.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS);
+                feedbackQuestion.isRecipientNameVisibleTo(FeedbackParticipantType.INSTRUCTORS);
         return isResponseVisibleToInstructor && isGiverVisibleToInstructor && isRecipientVisibleToInstructor;
     }
 
@@ -1159,4 +1353,95 @@ public final class FeedbackResponsesLogic {
         return isCommentVisibleToInstructor && isGiverVisibleToInstructor;
     }
 
+    /**
+     * Generates the viewable missing responses of a question, in the order of their givers and then recipients.
+     */
+    private final class MissingResponsesIterator extends AbstractIterator<FeedbackResponse> {
+
+        private final FeedbackQuestion question;
+        private final Iterator<String> givers;
+        private final Map<String, Set<String>> existingRecipientsByGiver;
+        private final Instructor instructor;
+        private final SqlResultsViewer viewer;
+        private final SqlCourseRoster courseRoster;
+        private final String sectionName;
+        private final String afterGiver;
+        private final String afterRecipient;
+
+        private String giver;
+        private SqlCourseRoster.ParticipantInfo giverInfo;
+        private Set<String> existingRecipients;
+        private Iterator<String> recipients = Collections.emptyIterator();
+
+        /**
+         * Creates the iterator over the missing responses which come after {@code afterGiver} and
+         * {@code afterRecipient}, or over all of them if those are null.
+         */
+        MissingResponsesIterator(FeedbackQuestion question, List<String> sortedGivers,
+                Map<String, Set<String>> existingRecipientsByGiver, Instructor instructor, SqlResultsViewer viewer,
+                SqlCourseRoster courseRoster, @Nullable String sectionName,
+                @Nullable String afterGiver, @Nullable String afterRecipient) {
+            this.question = question;
+            this.existingRecipientsByGiver = existingRecipientsByGiver;
+            this.instructor = instructor;
+            this.viewer = viewer;
+            this.courseRoster = courseRoster;
+            this.sectionName = sectionName;
+            this.afterGiver = afterGiver;
+            this.afterRecipient = afterRecipient;
+
+            int firstGiverIndex = 0;
+            if (afterGiver != null) {
+                int index = Collections.binarySearch(sortedGivers, afterGiver);
+                firstGiverIndex = index < 0 ? -index - 1 : index;
+            }
+            this.givers = sortedGivers.subList(firstGiverIndex, sortedGivers.size()).iterator();
+        }
+
+        @Override
+        protected FeedbackResponse computeNext() {
+            while (true) {
+                while (!recipients.hasNext()) {
+                    if (!givers.hasNext()) {
+                        return endOfData();
+                    }
+                    giver = givers.next();
+                    giverInfo = courseRoster.getInfoForIdentifier(giver);
+                    existingRecipients = existingRecipientsByGiver.getOrDefault(giver, Collections.emptySet());
+                    List<String> sortedRecipients =
+                            new ArrayList<>(fqLogic.getPossibleRecipients(question, giver, courseRoster));
+                    Collections.sort(sortedRecipients);
+                    recipients = sortedRecipients.iterator();
+                }
+
+                String recipient = recipients.next();
+                if (existingRecipients.contains(recipient)
+                        || giver.equals(afterGiver) && recipient.compareTo(afterRecipient) <= 0) {
+                    continue;
+                }
+                SqlCourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipient);
+
+                // skip responses not in current section
+                if (sectionName != null
+                        && !giverInfo.getSectionName().equals(sectionName)
+                        && !recipientInfo.getSectionName().equals(sectionName)) {
+                    continue;
+                }
+
+                FeedbackMissingResponse missingResponse = new FeedbackMissingResponse(
+                        question, giver, giverInfo.getSectionName(), recipient, recipientInfo.getSectionName());
+
+                // check visibility of the missing response
+                if (!isResponseVisibleForUser(viewer, missingResponse, question, instructor)) {
+                    continue;
+                }
+
+                missingResponse.setGiverVisible(isNameVisibleToUser(question, missingResponse, viewer, true));
+                missingResponse.setRecipientVisible(isNameVisibleToUser(question, missingResponse, viewer, false));
+                return missingResponse;
+            }
+        }
+
+    }
+
 }
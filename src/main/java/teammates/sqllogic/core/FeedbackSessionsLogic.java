@@ -2,7 +2,6 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -19,6 +18,7 @@ import teammates.storage.sqlapi.FeedbackSessionsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
 
 /**
  * Handles operations related to feedback sessions.
@@ -47,6 +47,7 @@ public final class FeedbackSessionsLogic {
     private FeedbackResponsesLogic frLogic;
     private CoursesLogic coursesLogic;
     private UsersLogic usersLogic;
+    private CourseVersionsLogic courseVersionsLogic;
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -57,12 +58,14 @@ public final class FeedbackSessionsLogic {
     }
 
     void initLogicDependencies(FeedbackSessionsDb fsDb, CoursesLogic coursesLogic,
-            FeedbackResponsesLogic frLogic, FeedbackQuestionsLogic fqLogic, UsersLogic usersLogic) {
+            FeedbackResponsesLogic frLogic, FeedbackQuestionsLogic fqLogic, UsersLogic usersLogic,
+            CourseVersionsLogic courseVersionsLogic) {
         this.fsDb = fsDb;
         this.frLogic = frLogic;
         this.fqLogic = fqLogic;
         this.coursesLogic = coursesLogic;
         this.usersLogic = usersLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     /**
@@ -180,15 +183,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return getGiverSetThatAnsweredFeedbackSession(feedbackSession);
     }
 
     /**
@@ -197,15 +192,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(fs);
     }
 
     /**
@@ -218,7 +205,9 @@ public final class FeedbackSessionsLogic {
     public FeedbackSession createFeedbackSession(FeedbackSession session)
             throws InvalidParametersException, EntityAlreadyExistsException {
         assert session != null;
-        return fsDb.createFeedbackSession(session);
+        FeedbackSession createdSession = fsDb.createFeedbackSession(session);
+        courseVersionsLogic.bumpCourseVersion(session.getCourseId());
+        return createdSession;
     }
 
     /**
@@ -230,7 +219,9 @@ public final class FeedbackSessionsLogic {
      */
     public FeedbackSession updateFeedbackSession(FeedbackSession session)
             throws InvalidParametersException, EntityDoesNotExistException {
-        return fsDb.updateFeedbackSession(session);
+        FeedbackSession updatedSession = fsDb.updateFeedbackSession(session);
+        courseVersionsLogic.bumpCourseVersion(session.getCourseId());
+        return updatedSession;
     }
 
     /**
@@ -253,6 +244,7 @@ public final class FeedbackSessionsLogic {
         }
 
         sessionToUnpublish.setResultsVisibleFromTime(Const.TIME_REPRESENTS_LATER);
+        courseVersionsLogic.bumpCourseVersion(courseId);
 
         return sessionToUnpublish;
     }
@@ -277,6 +269,7 @@ public final class FeedbackSessionsLogic {
         }
 
         sessionToPublish.setResultsVisibleFromTime(Instant.now());
+        courseVersionsLogic.bumpCourseVersion(courseId);
 
         return sessionToPublish;
     }
@@ -287,6 +280,7 @@ public final class FeedbackSessionsLogic {
     public void deleteFeedbackSessionCascade(String feedbackSessionName, String courseId) {
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
         fsDb.deleteFeedbackSession(feedbackSession);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -295,8 +289,9 @@ public final class FeedbackSessionsLogic {
      */
     public FeedbackSession moveFeedbackSessionToRecycleBin(String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException {
-
-        return fsDb.softDeleteFeedbackSession(feedbackSessionName, courseId);
+        FeedbackSession binnedSession = fsDb.softDeleteFeedbackSession(feedbackSessionName, courseId);
+        courseVersionsLogic.bumpCourseVersion(courseId);
+        return binnedSession;
     }
 
     /**
@@ -305,6 +300,7 @@ public final class FeedbackSessionsLogic {
     public void restoreFeedbackSessionFromRecycleBin(String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException {
         fsDb.restoreDeletedFeedbackSession(feedbackSessionName, courseId);
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -387,6 +383,57 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), session.isCreator(userEmail));
     }
 
+    /**
+     * Gets the students, out of the given {@code students}, who have not attempted a feedback session.
+     *
+     * <p>The result is the same as filtering with {@link #isFeedbackSessionAttemptedByStudent}, but the givers
+     * of the session are fetched once instead of once per student.</p>
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        assert session != null;
+        assert students != null;
+
+        List<FeedbackQuestion> questions = session.getFeedbackQuestions();
+        if (students.isEmpty() || !fqLogic.hasFeedbackQuestionsForStudents(questions)) {
+            // if there are no questions for student, session is attempted
+            return new ArrayList<>();
+        }
+
+        // if there are no individual questions, the session is attempted once someone from the team has responded
+        boolean hasIndividualQuestions =
+                fqLogic.hasFeedbackQuestionsForGiverType(questions, FeedbackParticipantType.STUDENTS);
+        Set<String> giverSet = getGiverSetThatAnsweredFeedbackSession(session);
+
+        return students.stream()
+                .filter(student -> !giverSet.contains(hasIndividualQuestions ? student.getEmail() : student.getTeamName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the instructors, out of the given {@code instructors}, who have not attempted a feedback session.
+     *
+     * <p>The result is the same as filtering with {@link #isFeedbackSessionAttemptedByInstructor}, but the givers
+     * of the session are fetched once instead of once per instructor.</p>
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        assert session != null;
+        assert instructors != null;
+
+        if (instructors.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<FeedbackQuestion> questions = session.getFeedbackQuestions();
+        Set<String> giverSet = getGiverSetThatAnsweredFeedbackSession(session);
+
+        return instructors.stream()
+                .filter(instructor -> !giverSet.contains(instructor.getEmail()))
+                .filter(instructor -> fqLogic.hasFeedbackQuestionsForInstructors(
+                        questions, session.isCreator(instructor.getEmail())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * After an update to feedback session's fields, may need to adjust the email status of the session.
      * @param session recently updated session.
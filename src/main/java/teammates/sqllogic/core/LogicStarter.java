@@ -6,6 +6,7 @@ import jakarta.servlet.ServletContextListener;
 import teammates.common.util.Logger;
 import teammates.storage.sqlapi.AccountRequestsDb;
 import teammates.storage.sqlapi.AccountsDb;
+import teammates.storage.sqlapi.CourseVersionsDb;
 import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.DeadlineExtensionsDb;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
@@ -14,6 +15,7 @@ import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlapi.FeedbackSessionLogsDb;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
 import teammates.storage.sqlapi.NotificationsDb;
+import teammates.storage.sqlapi.SessionResultsSnapshotsDb;
 import teammates.storage.sqlapi.UsageStatisticsDb;
 import teammates.storage.sqlapi.UsersDb;
 
@@ -31,6 +33,7 @@ public class LogicStarter implements ServletContextListener {
         AccountsLogic accountsLogic = AccountsLogic.inst();
         AccountRequestsLogic accountRequestsLogic = AccountRequestsLogic.inst();
         CoursesLogic coursesLogic = CoursesLogic.inst();
+        CourseVersionsLogic courseVersionsLogic = CourseVersionsLogic.inst();
         DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
         DeadlineExtensionsLogic deadlineExtensionsLogic = DeadlineExtensionsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
@@ -39,24 +42,31 @@ public class LogicStarter implements ServletContextListener {
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
         FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
         NotificationsLogic notificationsLogic = NotificationsLogic.inst();
+        SessionResultsSnapshotsLogic snapshotsLogic = SessionResultsSnapshotsLogic.inst();
         UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
         UsersLogic usersLogic = UsersLogic.inst();
 
         accountRequestsLogic.initLogicDependencies(AccountRequestsDb.inst());
-        accountsLogic.initLogicDependencies(AccountsDb.inst(), notificationsLogic, usersLogic, coursesLogic);
-        coursesLogic.initLogicDependencies(CoursesDb.inst(), fsLogic, usersLogic);
+        accountsLogic.initLogicDependencies(AccountsDb.inst(), notificationsLogic, usersLogic, coursesLogic,
+                courseVersionsLogic);
+        coursesLogic.initLogicDependencies(CoursesDb.inst(), fsLogic, usersLogic, courseVersionsLogic);
+        courseVersionsLogic.initLogicDependencies(CourseVersionsDb.inst(), snapshotsLogic);
         dataBundleLogic.initLogicDependencies(accountsLogic, accountRequestsLogic, coursesLogic,
                 deadlineExtensionsLogic, fsLogic, fslLogic, fqLogic, frLogic, frcLogic,
                 notificationsLogic, usersLogic);
-        deadlineExtensionsLogic.initLogicDependencies(DeadlineExtensionsDb.inst(), fsLogic);
-        fsLogic.initLogicDependencies(FeedbackSessionsDb.inst(), coursesLogic, frLogic, fqLogic, usersLogic);
+        deadlineExtensionsLogic.initLogicDependencies(DeadlineExtensionsDb.inst(), fsLogic, courseVersionsLogic);
+        fsLogic.initLogicDependencies(FeedbackSessionsDb.inst(), coursesLogic, frLogic, fqLogic, usersLogic,
+                courseVersionsLogic);
         fslLogic.initLogicDependencies(FeedbackSessionLogsDb.inst());
-        frLogic.initLogicDependencies(FeedbackResponsesDb.inst(), usersLogic, fqLogic, frcLogic);
-        frcLogic.initLogicDependencies(FeedbackResponseCommentsDb.inst());
-        fqLogic.initLogicDependencies(FeedbackQuestionsDb.inst(), coursesLogic, frLogic, usersLogic, fsLogic);
+        frLogic.initLogicDependencies(FeedbackResponsesDb.inst(), usersLogic, fqLogic, frcLogic, courseVersionsLogic);
+        frcLogic.initLogicDependencies(FeedbackResponseCommentsDb.inst(), courseVersionsLogic);
+        fqLogic.initLogicDependencies(FeedbackQuestionsDb.inst(), coursesLogic, frLogic, usersLogic, fsLogic,
+                courseVersionsLogic);
         notificationsLogic.initLogicDependencies(NotificationsDb.inst());
+        snapshotsLogic.initLogicDependencies(SessionResultsSnapshotsDb.inst());
         usageStatisticsLogic.initLogicDependencies(UsageStatisticsDb.inst());
-        usersLogic.initLogicDependencies(UsersDb.inst(), accountsLogic, frLogic, frcLogic, deadlineExtensionsLogic);
+        usersLogic.initLogicDependencies(UsersDb.inst(), accountsLogic, frLogic, frcLogic, deadlineExtensionsLogic,
+                courseVersionsLogic);
         log.info("Initialized dependencies between logic classes");
     }
 
@@ -0,0 +1,65 @@
+package teammates.sqllogic.core;
+
+import java.util.Set;
+
+import teammates.storage.sqlapi.SessionResultsSnapshotsDb;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
+
+/**
+ * Handles operations related to session results snapshots.
+ *
+ * <p>Snapshots are the results of published sessions computed ahead of time for every student.
+ * They are deleted whenever the data of their course changes (see {@link CourseVersionsLogic}),
+ * after which results are computed for every request again.
+ *
+ * @see SessionResultsSnapshot
+ * @see SessionResultsSnapshotsDb
+ */
+public final class SessionResultsSnapshotsLogic {
+
+    private static final SessionResultsSnapshotsLogic instance = new SessionResultsSnapshotsLogic();
+
+    private SessionResultsSnapshotsDb snapshotsDb;
+
+    private SessionResultsSnapshotsLogic() {
+        // prevent initialization
+    }
+
+    public static SessionResultsSnapshotsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies(SessionResultsSnapshotsDb snapshotsDb) {
+        this.snapshotsDb = snapshotsDb;
+    }
+
+    /**
+     * Gets the results snapshot of a session for a student, or null if it does not exist.
+     */
+    public SessionResultsSnapshot getSessionResultsSnapshot(FeedbackSession feedbackSession, String studentEmail) {
+        return snapshotsDb.getSessionResultsSnapshot(feedbackSession.getId(), studentEmail);
+    }
+
+    /**
+     * Gets the emails of the students of a session whose results snapshots exist.
+     */
+    public Set<String> getStudentEmailsWithSessionResultsSnapshots(FeedbackSession feedbackSession) {
+        return snapshotsDb.getStudentEmailsWithSessionResultsSnapshots(feedbackSession.getId());
+    }
+
+    /**
+     * Creates a results snapshot, unless a snapshot of the same session and student already exists.
+     */
+    public void createSessionResultsSnapshot(SessionResultsSnapshot snapshot) {
+        snapshotsDb.createSessionResultsSnapshot(snapshot);
+    }
+
+    /**
+     * Deletes all results snapshots of the sessions of a course.
+     */
+    public void deleteSessionResultsSnapshotsForCourse(String courseId) {
+        snapshotsDb.deleteSessionResultsSnapshotsForCourse(courseId);
+    }
+
+}
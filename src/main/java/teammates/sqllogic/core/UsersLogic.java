@@ -4,6 +4,7 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +69,8 @@ public final class UsersLogic {
 
     private DeadlineExtensionsLogic deadlineExtensionsLogic;
 
+    private CourseVersionsLogic courseVersionsLogic;
+
     private UsersLogic() {
         // prevent initialization
     }
@@ -78,12 +81,14 @@ public final class UsersLogic {
 
     void initLogicDependencies(UsersDb usersDb, AccountsLogic accountsLogic, FeedbackResponsesLogic feedbackResponsesLogic,
                                FeedbackResponseCommentsLogic feedbackResponseCommentsLogic,
-                               DeadlineExtensionsLogic deadlineExtensionsLogic) {
+                               DeadlineExtensionsLogic deadlineExtensionsLogic,
+                               CourseVersionsLogic courseVersionsLogic) {
         this.usersDb = usersDb;
         this.accountsLogic = accountsLogic;
         this.feedbackResponsesLogic = feedbackResponsesLogic;
         this.feedbackResponseCommentsLogic = feedbackResponseCommentsLogic;
         this.deadlineExtensionsLogic = deadlineExtensionsLogic;
+        this.courseVersionsLogic = courseVersionsLogic;
     }
 
     private InstructorSearchManager getInstructorSearchManager() {
@@ -101,6 +106,15 @@ public final class UsersLogic {
         getInstructorSearchManager().putDocument(instructor);
     }
 
+    /**
+     * Creates or updates search document for the given instructor, leaving the commit to the search service.
+     *
+     * <p>The document becomes searchable shortly after, rather than immediately.
+     */
+    public void putInstructorDocumentWithDeferredCommit(Instructor instructor) throws SearchServiceException {
+        getInstructorSearchManager().putDocumentWithDeferredCommit(instructor);
+    }
+
     /**
      * Creates or updates search document for the given student.
      */
@@ -108,6 +122,29 @@ public final class UsersLogic {
         getStudentSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search document for the given student, leaving the commit to the search service.
+     *
+     * <p>The document becomes searchable shortly after, rather than immediately.
+     */
+    public void putStudentDocumentWithDeferredCommit(Student student) throws SearchServiceException {
+        getStudentSearchManager().putDocumentWithDeferredCommit(student);
+    }
+
+    /**
+     * Creates or updates search documents for the given students.
+     */
+    public void putStudentDocuments(Collection<Student> students) throws SearchServiceException {
+        getStudentSearchManager().putDocuments(students);
+    }
+
+    /**
+     * Creates or updates search documents for the given instructors.
+     */
+    public void putInstructorDocuments(Collection<Instructor> instructors) throws SearchServiceException {
+        getInstructorSearchManager().putDocuments(instructors);
+    }
+
     /**
      * Create an instructor.
      *
@@ -121,7 +158,9 @@ public final class UsersLogic {
         if (getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()) != null) {
             throw new EntityAlreadyExistsException("Instructor already exists.");
         }
-        return usersDb.createInstructor(instructor);
+        Instructor createdInstructor = usersDb.createInstructor(instructor);
+        courseVersionsLogic.bumpCourseVersion(instructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -199,6 +238,7 @@ public final class UsersLogic {
             feedbackResponseCommentsLogic.updateFeedbackResponseCommentsEmails(courseId, originalEmail, newEmail);
         }
 
+        courseVersionsLogic.bumpCourseVersion(courseId);
         return instructor;
     }
 
@@ -228,7 +268,9 @@ public final class UsersLogic {
      *                                      database.
      */
     public Student createStudent(Student student) throws InvalidParametersException, EntityAlreadyExistsException {
-        return usersDb.createStudent(student);
+        Student createdStudent = usersDb.createStudent(student);
+        courseVersionsLogic.bumpCourseVersion(student.getCourseId());
+        return createdStudent;
     }
 
     /**
@@ -291,6 +333,7 @@ public final class UsersLogic {
      */
     public <T extends User> void deleteUser(T user) {
         usersDb.deleteUser(user);
+        courseVersionsLogic.bumpCourseVersion(user.getCourseId());
     }
 
     /**
@@ -501,6 +544,16 @@ public final class UsersLogic {
         return usersDb.getStudentForEmail(courseId, userEmail);
     }
 
+    /**
+     * Gets the students of a course with any of the given emails, together with their team and section.
+     */
+    public List<Student> getStudentsForEmails(String courseId, Collection<String> userEmails) {
+        assert courseId != null;
+        assert userEmails != null;
+
+        return usersDb.getStudentsForCoursesAndEmails(List.of(courseId), userEmails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -684,6 +737,7 @@ public final class UsersLogic {
         if (isLastRegInstructorWithPrivilege) {
             instructorToEdit.getPrivileges().updatePrivilege(Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR, true);
         }
+        courseVersionsLogic.bumpCourseVersion(courseId);
     }
 
     /**
@@ -800,6 +854,7 @@ public final class UsersLogic {
                     student.getCourse(), student.getEmail(), student.getSection());
         }
 
+        courseVersionsLogic.bumpCourseVersion(courseId);
         return originalStudent;
     }
 
@@ -820,6 +875,7 @@ public final class UsersLogic {
         }
 
         instructor.setAccount(null);
+        courseVersionsLogic.bumpCourseVersion(courseId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -959,6 +1015,7 @@ public final class UsersLogic {
         }
 
         student.setAccount(null);
+        courseVersionsLogic.bumpCourseVersion(courseId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
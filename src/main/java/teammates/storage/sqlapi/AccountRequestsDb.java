@@ -4,6 +4,7 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -63,6 +64,24 @@ public final class AccountRequestsDb extends EntitiesDb {
         return HibernateUtil.get(AccountRequest.class, id);
     }
 
+    /**
+     * Gets the account requests with any of the given {@code ids}.
+     */
+    public List<AccountRequest> getAccountRequests(Collection<UUID> ids) {
+        assert ids != null;
+
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<AccountRequest> cr = cb.createQuery(AccountRequest.class);
+        Root<AccountRequest> root = cr.from(AccountRequest.class);
+        cr.select(root).where(root.get("id").in(ids));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Get all Account Requests with {@code status} of 'pending'.
      */
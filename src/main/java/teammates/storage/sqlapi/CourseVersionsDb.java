@@ -0,0 +1,55 @@
+package teammates.storage.sqlapi;
+
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.CourseVersion;
+
+/**
+ * Handles operations for the versions of the data of courses.
+ *
+ * <p>The versions are read and increased with native queries so that the value read
+ * is always the one in the database, and not one cached in the current session.
+ *
+ * @see CourseVersion
+ */
+public final class CourseVersionsDb extends EntitiesDb {
+
+    private static final CourseVersionsDb instance = new CourseVersionsDb();
+
+    private CourseVersionsDb() {
+        // prevent initialization
+    }
+
+    public static CourseVersionsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the version of the data of a course, or zero if it has never been increased.
+     */
+    public long getCourseVersion(String courseId) {
+        assert courseId != null;
+
+        return HibernateUtil.createNativeQuery(
+                "SELECT version FROM course_versions WHERE course_id = :courseId", Long.class)
+                .setParameter("courseId", courseId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    /**
+     * Increases the version of the data of a course by one.
+     *
+     * <p>The version is increased with a single upsert, so that concurrent increases of the same course
+     * neither fail nor get lost.
+     */
+    public void increaseCourseVersion(String courseId) {
+        assert courseId != null;
+
+        HibernateUtil.createNativeMutationQuery("INSERT INTO course_versions (course_id, created_at, version) "
+                + "VALUES (:courseId, now(), 1) "
+                + "ON CONFLICT (course_id) DO UPDATE SET version = course_versions.version + 1")
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+}
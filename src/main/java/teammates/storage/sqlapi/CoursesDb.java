@@ -3,9 +3,13 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -148,6 +152,36 @@ public final class CoursesDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets the sections of the teams with the given {@code teamNames} in a course, keyed by team name.
+     *
+     * <p>Teams which are not found are not included in the result.
+     */
+    public Map<String, Section> getSectionsByCourseIdAndTeams(String courseId, Collection<String> teamNames) {
+        assert courseId != null;
+        assert teamNames != null;
+
+        Map<String, Section> sectionsByTeam = new HashMap<>();
+        if (teamNames.isEmpty()) {
+            return sectionsByTeam;
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cr = cb.createTupleQuery();
+        Root<Section> sectionRoot = cr.from(Section.class);
+        Join<Section, Course> courseJoin = sectionRoot.join("course");
+        Join<Section, Team> teamJoin = sectionRoot.join("teams");
+
+        cr.multiselect(teamJoin.get("name"), sectionRoot).where(cb.and(
+                cb.equal(courseJoin.get("id"), courseId),
+                teamJoin.get("name").in(teamNames)));
+
+        for (Tuple result : HibernateUtil.createQuery(cr).getResultList()) {
+            sectionsByTeam.putIfAbsent(result.get(0, String.class), result.get(1, Section.class));
+        }
+        return sectionsByTeam;
+    }
+
     /**
      * Deletes all sections by {@code courseId}.
      */
@@ -3,13 +3,21 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -98,6 +106,27 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets all feedback response comments for any of the given responses.
+     */
+    public List<FeedbackResponseComment> getFeedbackResponseCommentsForResponses(
+            Collection<FeedbackResponse> feedbackResponses) {
+        assert feedbackResponses != null;
+
+        if (feedbackResponses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
+        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
+        cq.select(root)
+                .where(frJoin.in(feedbackResponses));
+
+        return HibernateUtil.createQuery(cq, FeedbackResponseComment.RESULTS_GRAPH).getResultList();
+    }
+
     /**
      * Gets the comment associated with the feedback response.
      */
@@ -114,7 +143,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
     }
 
     /**
-     * Updates the giver email for all of the giver's comments in a course.
+     * Updates the giver email for all of the giver's comments in a course, without loading the comments.
      */
     public void updateGiverEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
         assert courseId != null;
@@ -125,17 +154,13 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForGiverInCourse(courseId, oldEmail);
-
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setGiver(updatedEmail);
-            merge(responseComment);
-        }
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        updateFeedbackResponseCommentsForCourse(courseId, root -> cb.equal(root.get("giver"), oldEmail),
+                frRoot -> cb.conjunction(), "giver", updatedEmail);
     }
 
     /**
-     * Updates the last editor to a new one for all comments in a course.
+     * Updates the last editor to a new one for all comments in a course, without loading the comments.
      */
     public void updateLastEditorEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
         assert courseId != null;
@@ -146,48 +171,85 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForLastEditorInCourse(courseId, oldEmail);
-
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setLastEditorEmail(updatedEmail);
-        }
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        updateFeedbackResponseCommentsForCourse(courseId, root -> cb.equal(root.get("lastEditorEmail"), oldEmail),
+                frRoot -> cb.conjunction(), "lastEditorEmail", updatedEmail);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForGiverInCourse(
-            String courseId, String giver) {
+    /**
+     * Updates the giver section of all comments on the responses from a giver in a course,
+     * without loading the comments.
+     */
+    public void updateGiverSectionOfFeedbackResponseCommentsForCourse(
+            String courseId, String responseGiver, Section newSection) {
+        assert courseId != null;
+        assert responseGiver != null;
+        assert newSection != null;
+
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
-        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
-        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+        updateFeedbackResponseCommentsForCourse(courseId, root -> cb.conjunction(),
+                frRoot -> cb.equal(frRoot.get("giver"), responseGiver), "giverSection", newSection);
+    }
 
-        cq.select(root)
-                .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("giver"), giver)));
+    /**
+     * Updates the recipient section of all comments on the responses to a recipient in a course,
+     * without loading the comments.
+     */
+    public void updateRecipientSectionOfFeedbackResponseCommentsForCourse(
+            String courseId, String responseRecipient, Section newSection) {
+        assert courseId != null;
+        assert responseRecipient != null;
+        assert newSection != null;
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        updateFeedbackResponseCommentsForCourse(courseId, root -> cb.conjunction(),
+                frRoot -> cb.equal(frRoot.get("recipient"), responseRecipient), "recipientSection", newSection);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForLastEditorInCourse(
-            String courseId, String lastEditorEmail) {
+    /**
+     * Updates an attribute of the comments in a course which match the comment filter
+     * and are on responses which match the response filter.
+     */
+    private void updateFeedbackResponseCommentsForCourse(String courseId,
+            Function<Root<FeedbackResponseComment>, Predicate> commentFilter,
+            Function<Root<FeedbackResponse>, Predicate> responseFilter, String attributeToUpdate, Object newValue) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackResponseComment> idsRoot = cq.from(FeedbackResponseComment.class);
+        cq.select(idsRoot.get("id"))
+                .where(createCommentsForCoursePredicate(cq, idsRoot, courseId, commentFilter, responseFilter));
+        List<Long> commentIds = HibernateUtil.createQuery(cq).getResultList();
+
+        CriteriaUpdate<FeedbackResponseComment> cu = cb.createCriteriaUpdate(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cu.from(FeedbackResponseComment.class);
+
+        // the update timestamp is not set by Hibernate for bulk updates
+        cu.set(attributeToUpdate, newValue)
+                .set("updatedAt", Instant.now())
+                .where(createCommentsForCoursePredicate(cu, root, courseId, commentFilter, responseFilter));
+
+        HibernateUtil.createMutationQuery(cu).executeUpdate();
+        HibernateUtil.refreshIfLoaded(FeedbackResponseComment.class, commentIds);
+    }
+
+    private Predicate createCommentsForCoursePredicate(CommonAbstractCriteria query,
+            Root<FeedbackResponseComment> root, String courseId,
+            Function<Root<FeedbackResponseComment>, Predicate> commentFilter,
+            Function<Root<FeedbackResponse>, Predicate> responseFilter) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        Subquery<UUID> responseIds = query.subquery(UUID.class);
+        Root<FeedbackResponse> frRoot = responseIds.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frRoot.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
-
-        cq.select(root)
+        responseIds.select(frRoot.get("id"))
                 .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("lastEditorEmail"), lastEditorEmail)));
+                        cb.equal(cJoin.get("id"), courseId),
+                        responseFilter.apply(frRoot)));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return cb.and(
+                commentFilter.apply(root),
+                root.get("feedbackResponse").get("id").in(responseIds));
     }
 
     /**
@@ -230,7 +292,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
                         cb.equal(fsJoin.get("name"), feedbackSessionName)
                         ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponseComment.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -249,7 +311,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
                 .where(cb.and(
                     cb.equal(fqJoin.get("id"), questionId)));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponseComment.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -281,7 +343,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
                         cb.equal(recipientJoin.get("name"), sectionName))
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponseComment.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -309,7 +371,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
                         cb.equal(recipientJoin.get("name"), sectionName))
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponseComment.RESULTS_GRAPH).getResultList();
     }
 
 }
@@ -3,17 +3,35 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 
+import org.hibernate.ScrollableResults;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -22,12 +40,16 @@ import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Section;
 
 /**
  * Handles CRUD operations for feedbackResponses.
  *
+ * <p>Queries for responses apply the entity graph of their use case,
+ * so that the associations used by it are loaded in the same statement as the responses.
+ *
  * @see FeedbackResponse
  */
 public final class FeedbackResponsesDb extends EntitiesDb {
@@ -68,7 +90,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(cJoin.get("id"), courseId),
                     cb.equal(frRoot.get("giver"), giver)));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, FeedbackResponse.SUBMISSION_GRAPH).getResultList();
     }
 
     /**
@@ -87,7 +109,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(cJoin.get("id"), courseId),
                     cb.equal(frRoot.get("recipient"), recipient)));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, FeedbackResponse.SUBMISSION_GRAPH).getResultList();
     }
 
     /**
@@ -108,7 +130,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(frRoot.get("recipient"), recipient),
                     cb.equal(frRoot.get("giver"), giver)));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, FeedbackResponse.SUBMISSION_GRAPH).getResultList();
     }
 
     /**
@@ -155,7 +177,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                 .where(cb.and(
                         cb.equal(frJoin.get("id"), feedbackQuestionId),
                         cb.equal(root.get("giver"), giverEmail)));
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.SUBMISSION_GRAPH).getResultList();
     }
 
     /**
@@ -179,13 +201,13 @@ public final class FeedbackResponsesDb extends EntitiesDb {
      */
     public boolean areThereResponsesForQuestion(UUID questionId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
 
-        cq.select(root)
+        cq.select(root.get("id"))
                 .where(cb.equal(fqJoin.get("id"), questionId));
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return !HibernateUtil.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
     }
 
     /**
@@ -199,7 +221,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
 
         cq.select(root)
                 .where(cb.equal(fqJoin.get("id"), questionId));
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -208,19 +230,64 @@ public final class FeedbackResponsesDb extends EntitiesDb {
     public boolean hasResponsesFromGiverInSession(
             String giver, String feedbackSessionName, String courseId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> courseJoin = fsJoin.join("course");
 
-        cq.select(root)
+        cq.select(root.get("id"))
                 .where(cb.and(
                         cb.equal(root.get("giver"), giver),
                         cb.equal(fsJoin.get("name"), feedbackSessionName),
                         cb.equal(courseJoin.get("id"), courseId)));
 
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return !HibernateUtil.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
+    }
+
+    /**
+     * Checks whether a giver has responses to any of the given questions.
+     */
+    public boolean hasResponsesFromGiverForQuestions(String giver, List<FeedbackQuestion> questions) {
+        assert giver != null;
+        assert questions != null;
+
+        if (questions.isEmpty()) {
+            return false;
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root.get("id"))
+                .where(cb.and(
+                        cb.equal(root.get("giver"), giver),
+                        fqJoin.in(questions)));
+
+        return !HibernateUtil.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
+    }
+
+    /**
+     * Gets the set of identifiers of givers who have at least one response in a feedback session.
+     *
+     * <p>Only the giver column is fetched; the responses themselves are not loaded.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver"))
+                .distinct(true)
+                .where(cb.equal(fsJoin.get("id"), feedbackSession.getId()));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
     }
 
     /**
@@ -228,16 +295,16 @@ public final class FeedbackResponsesDb extends EntitiesDb {
      */
     public boolean hasResponsesForCourse(String courseId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> courseJoin = fsJoin.join("course");
 
-        cq.select(root)
+        cq.select(root.get("id"))
                 .where(cb.equal(courseJoin.get("id"), courseId));
 
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return !HibernateUtil.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
     }
 
     /**
@@ -261,6 +328,179 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return merge(feedbackResponse);
     }
 
+    /**
+     * Changes the giver of all responses from a giver in a course, without loading the responses.
+     */
+    public void updateGiverOfFeedbackResponsesForCourse(String courseId, String oldGiver, String newGiver) {
+        assert courseId != null;
+        assert oldGiver != null;
+        assert newGiver != null;
+
+        updateFeedbackResponsesForCourse(courseId, "giver", oldGiver, "giver", newGiver);
+    }
+
+    /**
+     * Changes the recipient of all responses to a recipient in a course, without loading the responses.
+     */
+    public void updateRecipientOfFeedbackResponsesForCourse(String courseId, String oldRecipient, String newRecipient) {
+        assert courseId != null;
+        assert oldRecipient != null;
+        assert newRecipient != null;
+
+        updateFeedbackResponsesForCourse(courseId, "recipient", oldRecipient, "recipient", newRecipient);
+    }
+
+    /**
+     * Changes the giver section of all responses from a giver in a course, without loading the responses.
+     */
+    public void updateGiverSectionOfFeedbackResponsesForCourse(String courseId, String giver, Section newSection) {
+        assert courseId != null;
+        assert giver != null;
+        assert newSection != null;
+
+        updateFeedbackResponsesForCourse(courseId, "giver", giver, "giverSection", newSection);
+    }
+
+    /**
+     * Changes the recipient section of all responses to a recipient in a course, without loading the responses.
+     */
+    public void updateRecipientSectionOfFeedbackResponsesForCourse(
+            String courseId, String recipient, Section newSection) {
+        assert courseId != null;
+        assert recipient != null;
+        assert newSection != null;
+
+        updateFeedbackResponsesForCourse(courseId, "recipient", recipient, "recipientSection", newSection);
+    }
+
+    private void updateFeedbackResponsesForCourse(String courseId, String participantAttribute, String participant,
+            String attributeToUpdate, Object newValue) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        BiFunction<CommonAbstractCriteria, From<?, FeedbackResponse>, Predicate> filter = (query, frRoot) -> cb.and(
+                cb.equal(frRoot.get(participantAttribute), participant),
+                frRoot.get("feedbackQuestion").get("id").in(createQuestionIdsOfCourseSubquery(query, courseId)));
+        List<UUID> responseIds = getFeedbackResponseIds(filter);
+
+        CriteriaUpdate<FeedbackResponse> cu = cb.createCriteriaUpdate(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cu.from(FeedbackResponse.class);
+
+        // the update timestamp is not set by Hibernate for bulk updates
+        cu.set(attributeToUpdate, newValue)
+                .set("updatedAt", Instant.now())
+                .where(filter.apply(cu, root));
+
+        HibernateUtil.createMutationQuery(cu).executeUpdate();
+        HibernateUtil.refreshIfLoaded(FeedbackResponse.class, responseIds);
+    }
+
+    /**
+     * Deletes all responses from or to a participant in a course, without loading the responses.
+     * The comments of the responses are deleted by the database.
+     */
+    public void deleteFeedbackResponsesFromOrToParticipantForCourse(String courseId, String participant) {
+        assert courseId != null;
+        assert participant != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        deleteFeedbackResponses((query, frRoot) -> cb.and(
+                cb.or(
+                        cb.equal(frRoot.get("giver"), participant),
+                        cb.equal(frRoot.get("recipient"), participant)),
+                frRoot.get("feedbackQuestion").get("id").in(createQuestionIdsOfCourseSubquery(query, courseId))));
+    }
+
+    /**
+     * Deletes all responses in a course which a student gave on behalf of their team,
+     * gave to their team members or received from their team members, without loading the responses.
+     * The comments of the responses are deleted by the database.
+     */
+    public void deleteFeedbackResponsesWithinTeamOfStudentForCourse(String courseId, String studentEmail) {
+        assert courseId != null;
+        assert studentEmail != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        List<FeedbackParticipantType> teamMembers = List.of(
+                FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
+
+        deleteFeedbackResponses((query, frRoot) -> {
+            Subquery<UUID> questionIdsForGiver = createQuestionIdsOfCourseSubquery(query, courseId,
+                    fqRoot -> cb.or(
+                            cb.equal(fqRoot.get("giverType"), FeedbackParticipantType.TEAMS),
+                            fqRoot.get("recipientType").in(teamMembers)));
+            Subquery<UUID> questionIdsForRecipient = createQuestionIdsOfCourseSubquery(query, courseId,
+                    fqRoot -> fqRoot.get("recipientType").in(teamMembers));
+
+            Path<UUID> questionId = frRoot.get("feedbackQuestion").get("id");
+            return cb.or(
+                    cb.and(
+                            cb.equal(frRoot.get("giver"), studentEmail),
+                            questionId.in(questionIdsForGiver)),
+                    cb.and(
+                            cb.equal(frRoot.get("recipient"), studentEmail),
+                            questionId.in(questionIdsForRecipient)));
+        });
+    }
+
+    /**
+     * Deletes the responses matching the filter, which is applied to the delete and to the queries
+     * for the ids of the deleted responses and their comments.
+     * Only the deleted responses and comments are evicted from the session.
+     */
+    private void deleteFeedbackResponses(BiFunction<CommonAbstractCriteria, From<?, FeedbackResponse>, Predicate> filter) {
+        List<UUID> responseIds = getFeedbackResponseIds(filter);
+        List<Long> commentIds = getCommentIdsOfFeedbackResponses(filter);
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaDelete<FeedbackResponse> cd = cb.createCriteriaDelete(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cd.from(FeedbackResponse.class);
+        cd.where(filter.apply(cd, root));
+
+        HibernateUtil.createMutationQuery(cd).executeUpdate();
+        HibernateUtil.evictIfLoaded(FeedbackResponse.class, responseIds);
+        HibernateUtil.evictIfLoaded(FeedbackResponseComment.class, commentIds);
+    }
+
+    private List<UUID> getFeedbackResponseIds(
+            BiFunction<CommonAbstractCriteria, From<?, FeedbackResponse>, Predicate> filter) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        cq.select(root.get("id")).where(filter.apply(cq, root));
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
+    private List<Long> getCommentIdsOfFeedbackResponses(
+            BiFunction<CommonAbstractCriteria, From<?, FeedbackResponse>, Predicate> filter) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
+        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
+        cq.select(root.get("id")).where(filter.apply(cq, frJoin));
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
+    private Subquery<UUID> createQuestionIdsOfCourseSubquery(CommonAbstractCriteria query, String courseId) {
+        return createQuestionIdsOfCourseSubquery(query, courseId,
+                fqRoot -> HibernateUtil.getCriteriaBuilder().conjunction());
+    }
+
+    /**
+     * Creates a subquery for the ids of the questions in a course which match the filter.
+     */
+    private Subquery<UUID> createQuestionIdsOfCourseSubquery(CommonAbstractCriteria query, String courseId,
+            Function<Root<FeedbackQuestion>, Predicate> questionFilter) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        Subquery<UUID> subquery = query.subquery(UUID.class);
+        Root<FeedbackQuestion> fqRoot = subquery.from(FeedbackQuestion.class);
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqRoot.join("feedbackSession");
+        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+
+        return subquery.select(fqRoot.get("id"))
+                .where(cb.and(
+                        cb.equal(cJoin.get("id"), courseId),
+                        questionFilter.apply(fqRoot)));
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
@@ -280,7 +520,55 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(root.get("recipient"), recipient)
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.SUBMISSION_GRAPH).getResultList();
+    }
+
+    /**
+     * Gets all responses to any of the given questions.
+     */
+    public List<FeedbackResponse> getFeedbackResponsesForQuestions(Collection<FeedbackQuestion> questions) {
+        assert questions != null;
+
+        if (questions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root)
+                .where(fqJoin.in(questions));
+
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
+    }
+
+    /**
+     * Gets all responses to any of the given questions whose giver or recipient is any of the given participants.
+     */
+    public List<FeedbackResponse> getFeedbackResponsesFromOrToParticipantsForQuestions(
+            Collection<FeedbackQuestion> questions, Collection<String> participants) {
+        assert questions != null;
+        assert participants != null;
+
+        if (questions.isEmpty() || participants.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root)
+                .where(cb.and(
+                        fqJoin.in(questions),
+                        cb.or(
+                                root.get("giver").in(participants),
+                                root.get("recipient").in(participants))));
+
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -322,7 +610,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
     }
 
     /**
@@ -359,7 +647,100 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
+    }
+
+    /**
+     * Gets a page of the responses of a question in a specific section, ordered by giver and then recipient.
+     *
+     * <p>The page starts after the response from {@code afterGiver} to {@code afterRecipient} if they are given,
+     * so that consecutive pages are found with the index on the question and giver instead of an offset.
+     *
+     * @param sectionName if null, will retrieve responses in all sections
+     * @param fetchType if the section is given, will retrieve responses by giver, receiver sections, or both
+     * @param limit the maximum number of responses to retrieve
+     */
+    public List<FeedbackResponse> getFeedbackResponsesPageForQuestionInSection(UUID questionId,
+            @Nullable String afterGiver, @Nullable String afterRecipient,
+            @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType, int limit) {
+        assert questionId != null;
+        assert (afterGiver == null) == (afterRecipient == null);
+
+        CriteriaQuery<FeedbackResponse> cq = createFeedbackResponsesForQuestionInSectionQuery(
+                questionId, afterGiver, afterRecipient, sectionName, fetchType);
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Scrolls through the responses of a question in a specific section, ordered by giver and then recipient.
+     *
+     * <p>Responses are fetched from the database {@code fetchSize} at a time, as they are scrolled through,
+     * so that they need not be held in memory all at once. The results must be closed after use.
+     *
+     * @param sectionName if null, will retrieve responses in all sections
+     * @param fetchType if the section is given, will retrieve responses by giver, receiver sections, or both
+     */
+    public ScrollableResults<FeedbackResponse> scrollFeedbackResponsesForQuestionInSection(UUID questionId,
+            @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType, int fetchSize) {
+        assert questionId != null;
+
+        CriteriaQuery<FeedbackResponse> cq = createFeedbackResponsesForQuestionInSectionQuery(
+                questionId, null, null, sectionName, fetchType);
+        return HibernateUtil.scroll(cq, FeedbackResponse.RESULTS_GRAPH, fetchSize);
+    }
+
+    private CriteriaQuery<FeedbackResponse> createFeedbackResponsesForQuestionInSectionQuery(UUID questionId,
+            @Nullable String afterGiver, @Nullable String afterRecipient,
+            @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(fqJoin.get("id"), questionId));
+        if (afterGiver != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(root.<String>get("giver"), afterGiver),
+                    cb.and(
+                            cb.equal(root.get("giver"), afterGiver),
+                            cb.greaterThan(root.<String>get("recipient"), afterRecipient))));
+        }
+        if (sectionName != null && fetchType != null && fetchType.shouldFetchByGiver()) {
+            Join<FeedbackResponse, Section> giverJoin = root.join("giverSection");
+            predicates.add(cb.equal(giverJoin.get("name"), sectionName));
+        }
+        if (sectionName != null && fetchType != null && fetchType.shouldFetchByReceiver()) {
+            Join<FeedbackResponse, Section> recipientJoin = root.join("recipientSection");
+            predicates.add(cb.equal(recipientJoin.get("name"), sectionName));
+        }
+
+        return cq.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("giver")), cb.asc(root.get("recipient")));
+    }
+
+    /**
+     * Gets the recipients of the responses of a question, grouped by the giver,
+     * without loading the responses themselves.
+     */
+    public Map<String, Set<String>> getRecipientsByGiverForQuestion(UUID questionId) {
+        assert questionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.multiselect(root.get("giver"), root.get("recipient"))
+                .where(cb.equal(fqJoin.get("id"), questionId));
+
+        Map<String, Set<String>> recipientsByGiver = new HashMap<>();
+        for (Tuple result : HibernateUtil.createQuery(cq).getResultList()) {
+            recipientsByGiver.computeIfAbsent(result.get(0, String.class), giver -> new HashSet<>())
+                    .add(result.get(1, String.class));
+        }
+        return recipientsByGiver;
     }
 
     /**
@@ -383,7 +764,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(cJoin.get("id"), courseId)
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.RESULTS_GRAPH).getResultList();
     }
 
 }
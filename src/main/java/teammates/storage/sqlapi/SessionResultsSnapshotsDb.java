@@ -0,0 +1,101 @@
+package teammates.storage.sqlapi;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
+
+/**
+ * Handles CRUD operations for session results snapshots.
+ *
+ * @see SessionResultsSnapshot
+ */
+public final class SessionResultsSnapshotsDb extends EntitiesDb {
+
+    private static final SessionResultsSnapshotsDb instance = new SessionResultsSnapshotsDb();
+
+    private SessionResultsSnapshotsDb() {
+        // prevent initialization
+    }
+
+    public static SessionResultsSnapshotsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the results snapshot of a session for a student, or null if it does not exist.
+     */
+    public SessionResultsSnapshot getSessionResultsSnapshot(UUID feedbackSessionId, String studentEmail) {
+        assert feedbackSessionId != null;
+        assert studentEmail != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<SessionResultsSnapshot> cr = cb.createQuery(SessionResultsSnapshot.class);
+        Root<SessionResultsSnapshot> root = cr.from(SessionResultsSnapshot.class);
+        cr.select(root).where(cb.and(
+                cb.equal(root.get("feedbackSession").get("id"), feedbackSessionId),
+                cb.equal(root.get("studentEmail"), studentEmail)));
+        return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
+    }
+
+    /**
+     * Gets the emails of the students of a session whose results snapshots exist.
+     */
+    public Set<String> getStudentEmailsWithSessionResultsSnapshots(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cr = cb.createQuery(String.class);
+        Root<SessionResultsSnapshot> root = cr.from(SessionResultsSnapshot.class);
+        cr.select(root.get("studentEmail")).where(cb.equal(root.get("feedbackSession").get("id"), feedbackSessionId));
+        return new HashSet<>(HibernateUtil.createQuery(cr).getResultList());
+    }
+
+    /**
+     * Creates a results snapshot, unless a snapshot of the same session and student already exists.
+     *
+     * <p>Snapshots may be created by concurrent tasks for the same session, so a duplicate is ignored
+     * instead of failing the transaction.
+     */
+    public void createSessionResultsSnapshot(SessionResultsSnapshot snapshot) {
+        assert snapshot != null;
+
+        HibernateUtil.createNativeMutationQuery("INSERT INTO session_results_snapshots "
+                + "(id, created_at, session_id, student_email, course_version, data) "
+                + "VALUES (:id, now(), :sessionId, :studentEmail, :courseVersion, :data) "
+                + "ON CONFLICT (session_id, student_email) DO NOTHING")
+                .setParameter("id", snapshot.getId())
+                .setParameter("sessionId", snapshot.getFeedbackSession().getId())
+                .setParameter("studentEmail", snapshot.getStudentEmail())
+                .setParameter("courseVersion", snapshot.getCourseVersion())
+                .setParameter("data", snapshot.getData())
+                .executeUpdate();
+        log.info("Entity persisted: " + snapshot);
+    }
+
+    /**
+     * Deletes all results snapshots of the sessions of a course.
+     */
+    public void deleteSessionResultsSnapshotsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaDelete<SessionResultsSnapshot> cd = cb.createCriteriaDelete(SessionResultsSnapshot.class);
+        Root<SessionResultsSnapshot> root = cd.from(SessionResultsSnapshot.class);
+        Subquery<UUID> subquery = cd.subquery(UUID.class);
+        Root<FeedbackSession> subqueryRoot = subquery.from(FeedbackSession.class);
+        subquery.select(subqueryRoot.get("id"));
+        subquery.where(cb.equal(subqueryRoot.get("course").get("id"), courseId));
+        cd.where(cb.in(root.get("feedbackSession").get("id")).value(subquery));
+        HibernateUtil.createMutationQuery(cd).executeUpdate();
+    }
+}
@@ -4,12 +4,14 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
@@ -441,6 +443,32 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the instructors of any of the given courses whose email is any of the given emails,
+     * fetching their course and account in the same query.
+     */
+    public List<Instructor> getInstructorsForCoursesAndEmails(Collection<String> courseIds, Collection<String> userEmails) {
+        assert courseIds != null;
+        assert userEmails != null;
+
+        if (courseIds.isEmpty() || userEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Instructor> cr = cb.createQuery(Instructor.class);
+        Root<Instructor> instructorRoot = cr.from(Instructor.class);
+        instructorRoot.fetch("course");
+        instructorRoot.fetch("account", JoinType.LEFT);
+
+        cr.select(instructorRoot)
+                .where(cb.and(
+                        instructorRoot.get("courseId").in(courseIds),
+                        instructorRoot.get("email").in(userEmails)));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Gets the student with the specified {@code userEmail}.
      */
@@ -484,6 +512,33 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the students of any of the given courses whose email is any of the given emails,
+     * fetching their course, account, team and section in the same query.
+     */
+    public List<Student> getStudentsForCoursesAndEmails(Collection<String> courseIds, Collection<String> userEmails) {
+        assert courseIds != null;
+        assert userEmails != null;
+
+        if (courseIds.isEmpty() || userEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Student> cr = cb.createQuery(Student.class);
+        Root<Student> studentRoot = cr.from(Student.class);
+        studentRoot.fetch("course");
+        studentRoot.fetch("account", JoinType.LEFT);
+        studentRoot.fetch("team", JoinType.LEFT).fetch("section", JoinType.LEFT);
+
+        cr.select(studentRoot)
+                .where(cb.and(
+                        studentRoot.get("courseId").in(courseIds),
+                        studentRoot.get("email").in(userEmails)));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -0,0 +1,79 @@
+package teammates.storage.sqlentity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Represents the version of the data of a course, which is increased whenever the data is changed.
+ *
+ * <p>It is kept apart from {@link Course} so that increasing it does not invalidate cached courses.
+ */
+@Entity
+@Table(name = "CourseVersions")
+public class CourseVersion extends BaseEntity {
+    @Id
+    private String courseId;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected CourseVersion() {
+        // required by Hibernate
+    }
+
+    public CourseVersion(String courseId, long version) {
+        this.courseId = courseId;
+        this.version = version;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseVersion [courseId=" + courseId + ", version=" + version + ", createdAt=" + getCreatedAt() + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getCourseId().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            CourseVersion otherVersion = (CourseVersion) other;
+            return Objects.equals(this.getCourseId(), otherVersion.getCourseId());
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+}
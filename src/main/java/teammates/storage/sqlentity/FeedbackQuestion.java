@@ -2,10 +2,13 @@ package teammates.storage.sqlentity;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -19,7 +22,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -39,6 +45,8 @@ import teammates.storage.sqlentity.questions.FeedbackTextQuestion;
  * Represents a feedback question.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "FeedbackQuestions")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public abstract class FeedbackQuestion extends BaseEntity implements Comparable<FeedbackQuestion> {
@@ -81,6 +89,16 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
     @Convert(converter = FeedbackParticipantTypeListConverter.class)
     private List<FeedbackParticipantType> showRecipientNameTo;
 
+    // sets of the visibility lists above, built on first use for constant-time visibility checks
+    @Transient
+    private Set<FeedbackParticipantType> showResponsesToSet;
+
+    @Transient
+    private Set<FeedbackParticipantType> showGiverNameToSet;
+
+    @Transient
+    private Set<FeedbackParticipantType> showRecipientNameToSet;
+
     @UpdateTimestamp
     @Column
     private Instant updatedAt;
@@ -306,6 +324,7 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
 
     public void setShowResponsesTo(List<FeedbackParticipantType> showResponsesTo) {
         this.showResponsesTo = showResponsesTo;
+        this.showResponsesToSet = null;
     }
 
     public List<FeedbackParticipantType> getShowGiverNameTo() {
@@ -314,6 +333,7 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
 
     public void setShowGiverNameTo(List<FeedbackParticipantType> showGiverNameTo) {
         this.showGiverNameTo = showGiverNameTo;
+        this.showGiverNameToSet = null;
     }
 
     public List<FeedbackParticipantType> getShowRecipientNameTo() {
@@ -322,6 +342,7 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
 
     public void setShowRecipientNameTo(List<FeedbackParticipantType> showRecipientNameTo) {
         this.showRecipientNameTo = showRecipientNameTo;
+        this.showRecipientNameToSet = null;
     }
 
     public Instant getUpdatedAt() {
@@ -355,15 +376,15 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
             return 1;
         }
 
-        if (!this.questionNumber.equals(o.questionNumber)) {
-            return Integer.compare(this.questionNumber, o.questionNumber);
+        if (!this.questionNumber.equals(o.getQuestionNumber())) {
+            return Integer.compare(this.questionNumber, o.getQuestionNumber());
         }
         // Although question numbers ought to be unique in a feedback session,
         // eventual consistency can result in duplicate questions numbers.
         // Therefore, to ensure that the question order is always consistent to the user,
         // compare feedbackQuestionId, which is guaranteed to be unique,
         // when the questionNumbers are the same.
-        return this.id.compareTo(o.id);
+        return this.id.compareTo(o.getId());
     }
 
     @Override
@@ -378,7 +399,8 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
             return false;
         } else if (this == other) {
             return true;
-        } else if (this.getClass() == other.getClass()) {
+        } else if (other instanceof FeedbackQuestion) {
+            // other may be a lazily loaded proxy of the entity, so it is compared by id only
             FeedbackQuestion otherQuestion = (FeedbackQuestion) other;
             return Objects.equals(this.getId(), otherQuestion.getId());
         } else {
@@ -390,7 +412,36 @@ public abstract class FeedbackQuestion extends BaseEntity implements Comparable<
      * Returns true if the response is visible to the given participant type.
      */
     public boolean isResponseVisibleTo(FeedbackParticipantType userType) {
-        return showResponsesTo.contains(userType);
+        if (showResponsesToSet == null) {
+            showResponsesToSet = toEnumSet(showResponsesTo);
+        }
+        return showResponsesToSet.contains(userType);
+    }
+
+    /**
+     * Returns true if the giver name of responses is visible to the given participant type.
+     */
+    public boolean isGiverNameVisibleTo(FeedbackParticipantType userType) {
+        if (showGiverNameToSet == null) {
+            showGiverNameToSet = toEnumSet(showGiverNameTo);
+        }
+        return showGiverNameToSet.contains(userType);
+    }
+
+    /**
+     * Returns true if the recipient name of responses is visible to the given participant type.
+     */
+    public boolean isRecipientNameVisibleTo(FeedbackParticipantType userType) {
+        if (showRecipientNameToSet == null) {
+            showRecipientNameToSet = toEnumSet(showRecipientNameTo);
+        }
+        return showRecipientNameToSet.contains(userType);
+    }
+
+    private static Set<FeedbackParticipantType> toEnumSet(List<FeedbackParticipantType> participantTypes) {
+        return participantTypes == null || participantTypes.isEmpty()
+                ? EnumSet.noneOf(FeedbackParticipantType.class)
+                : EnumSet.copyOf(participantTypes);
     }
 }
 
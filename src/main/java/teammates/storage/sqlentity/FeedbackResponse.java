@@ -9,11 +9,16 @@ import java.util.UUID;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -32,15 +37,52 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
 
 /**
  * Represents a Feedback Response.
+ *
+ * <p>The question and sections of a response are loaded lazily, unless the query loading the response
+ * applies one of the entity graphs of the response.
  */
 @Entity
-@Table(name = "FeedbackResponses")
+@NamedEntityGraph(name = FeedbackResponse.RESULTS_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "feedbackQuestion", subgraph = "feedbackQuestion"),
+        @NamedAttributeNode(value = "giverSection", subgraph = "section"),
+        @NamedAttributeNode(value = "recipientSection", subgraph = "section"),
+}, subgraphs = {
+        @NamedSubgraph(name = "feedbackQuestion",
+                attributeNodes = @NamedAttributeNode(value = "feedbackSession", subgraph = "feedbackSession")),
+        @NamedSubgraph(name = "feedbackSession", attributeNodes = @NamedAttributeNode("course")),
+        @NamedSubgraph(name = "section", attributeNodes = @NamedAttributeNode("course")),
+})
+@NamedEntityGraph(name = FeedbackResponse.SUBMISSION_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "feedbackQuestion", subgraph = "feedbackQuestion"),
+}, subgraphs = {
+        @NamedSubgraph(name = "feedbackQuestion",
+                attributeNodes = @NamedAttributeNode(value = "feedbackSession", subgraph = "feedbackSession")),
+        @NamedSubgraph(name = "feedbackSession", attributeNodes = @NamedAttributeNode("course")),
+})
+@Table(name = "FeedbackResponses", indexes = {
+        @Index(name = "idx_feedback_responses_question_id_giver", columnList = "questionId, giver"),
+        @Index(name = "idx_feedback_responses_question_id_recipient", columnList = "questionId, recipient"),
+        @Index(name = "idx_feedback_responses_giver_section_id", columnList = "giverSectionId"),
+        @Index(name = "idx_feedback_responses_recipient_section_id", columnList = "recipientSectionId")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public abstract class FeedbackResponse extends BaseEntity {
+    /**
+     * Name of the entity graph which loads the question and the sections of responses,
+     * for showing the responses in session results and their statistics.
+     */
+    public static final String RESULTS_GRAPH = "FeedbackResponse.results";
+
+    /**
+     * Name of the entity graph which loads only the question of responses,
+     * for submitting responses and updating the responses of a participant.
+     */
+    public static final String SUBMISSION_GRAPH = "FeedbackResponse.submission";
+
     @Id
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "questionId")
     private FeedbackQuestion feedbackQuestion;
 
@@ -50,14 +92,14 @@ public abstract class FeedbackResponse extends BaseEntity {
     @Column(nullable = false)
     private String giver;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "giverSectionId")
     private Section giverSection;
 
     @Column(nullable = false)
     private String recipient;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recipientSectionId")
     private Section recipientSection;
 
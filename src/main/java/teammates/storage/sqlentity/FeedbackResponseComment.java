@@ -10,8 +10,12 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 
 import org.hibernate.annotations.OnDelete;
@@ -26,8 +30,34 @@ import teammates.common.util.SanitizationHelper;
  * Represents a feedback response comment.
  */
 @Entity
-@Table(name = "FeedbackResponseComments")
+@NamedEntityGraph(name = FeedbackResponseComment.RESULTS_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "feedbackResponse", subgraph = "feedbackResponse"),
+        @NamedAttributeNode(value = "giverSection", subgraph = "section"),
+        @NamedAttributeNode(value = "recipientSection", subgraph = "section"),
+}, subgraphs = {
+        @NamedSubgraph(name = "feedbackResponse", attributeNodes = {
+                @NamedAttributeNode(value = "feedbackQuestion", subgraph = "feedbackQuestion"),
+                @NamedAttributeNode(value = "giverSection", subgraph = "section"),
+                @NamedAttributeNode(value = "recipientSection", subgraph = "section"),
+        }),
+        @NamedSubgraph(name = "feedbackQuestion",
+                attributeNodes = @NamedAttributeNode(value = "feedbackSession", subgraph = "feedbackSession")),
+        @NamedSubgraph(name = "feedbackSession", attributeNodes = @NamedAttributeNode("course")),
+        @NamedSubgraph(name = "section", attributeNodes = @NamedAttributeNode("course")),
+})
+@Table(name = "FeedbackResponseComments", indexes = {
+        @Index(name = "idx_feedback_response_comments_response_id", columnList = "responseId"),
+        @Index(name = "idx_feedback_response_comments_giver_section_id", columnList = "giverSectionId"),
+        @Index(name = "idx_feedback_response_comments_recipient_section_id", columnList = "recipientSectionId")
+})
 public class FeedbackResponseComment extends BaseEntity {
+    /**
+     * Name of the entity graph which loads the response of comments together with the question and sections
+     * of the response, for showing the comments in session results.
+     * @see FeedbackResponse#RESULTS_GRAPH
+     */
+    public static final String RESULTS_GRAPH = "FeedbackResponseComment.results";
+
     @Id
     @GeneratedValue
     private Long id;
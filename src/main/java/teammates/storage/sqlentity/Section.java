@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +16,8 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -26,6 +29,8 @@ import teammates.common.util.SanitizationHelper;
  * Represents a Section.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "Sections")
 public class Section extends BaseEntity {
     @Id
@@ -67,7 +72,8 @@ public class Section extends BaseEntity {
             return false;
         } else if (this == other) {
             return true;
-        } else if (this.getClass() == other.getClass()) {
+        } else if (other instanceof Section) {
+            // other may be a lazily loaded proxy of the entity, so it is compared by id only
             Section otherSection = (Section) other;
             return Objects.equals(this.getId(), otherSection.getId());
         } else {
@@ -0,0 +1,136 @@
+package teammates.storage.sqlentity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Represents the results of a published feedback session as viewed by a student,
+ * stored as compressed JSON so that they can be served without being computed again.
+ */
+@Entity
+@Table(name = "SessionResultsSnapshots",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "Unique session and student email",
+                        columnNames = {"sessionId", "studentEmail"}),
+        })
+public class SessionResultsSnapshot extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "sessionId", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private FeedbackSession feedbackSession;
+
+    @Column(nullable = false)
+    private String studentEmail;
+
+    @Column(nullable = false)
+    private long courseVersion;
+
+    @Column(nullable = false)
+    private byte[] data;
+
+    protected SessionResultsSnapshot() {
+        // required by Hibernate
+    }
+
+    public SessionResultsSnapshot(FeedbackSession feedbackSession, String studentEmail, long courseVersion,
+            byte[] data) {
+        this.setId(UUID.randomUUID());
+        this.feedbackSession = feedbackSession;
+        this.studentEmail = studentEmail;
+        this.courseVersion = courseVersion;
+        this.data = data;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public FeedbackSession getFeedbackSession() {
+        return feedbackSession;
+    }
+
+    public void setFeedbackSession(FeedbackSession feedbackSession) {
+        this.feedbackSession = feedbackSession;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    /**
+     * Gets the version of the course whose data the results were computed from.
+     */
+    public long getCourseVersion() {
+        return courseVersion;
+    }
+
+    public void setCourseVersion(long courseVersion) {
+        this.courseVersion = courseVersion;
+    }
+
+    /**
+     * Gets the gzip-compressed JSON array of the question outputs of the results.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionResultsSnapshot [id=" + id + ", feedbackSessionId=" + feedbackSession.getId()
+                + ", studentEmail=" + studentEmail + ", courseVersion=" + courseVersion + ", dataSize=" + data.length
+                + ", createdAt=" + getCreatedAt() + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getId().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            SessionResultsSnapshot otherSnapshot = (SessionResultsSnapshot) other;
+            return Objects.equals(this.getId(), otherSnapshot.getId());
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -26,6 +27,10 @@ import teammates.common.util.StringHelper;
 @Entity
 @Table(name = "Users", uniqueConstraints = {
         @UniqueConstraint(name = "Unique email and courseId", columnNames = { "email", "courseId" })
+}, indexes = {
+        @Index(name = "idx_users_course_id", columnList = "courseId"),
+        @Index(name = "idx_users_account_id", columnList = "accountId"),
+        @Index(name = "idx_users_reg_key", columnList = "regKey")
 })
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class User extends BaseEntity {
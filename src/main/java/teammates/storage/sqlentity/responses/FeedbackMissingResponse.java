@@ -6,11 +6,16 @@ import teammates.storage.sqlentity.FeedbackQuestion;
 
 /**
  * Represents a missing response.
+ *
+ * <p>Missing responses are generated while session results are being built, so whether their giver and recipient
+ * are visible to the user viewing the results is kept in the response itself.
  */
 public class FeedbackMissingResponse extends FeedbackTextResponse {
 
     private String giverSectionName;
     private String recipientSectionName;
+    private boolean isGiverVisible;
+    private boolean isRecipientVisible;
 
     protected FeedbackMissingResponse() {
         // required by Hibernate
@@ -34,4 +39,20 @@ public class FeedbackMissingResponse extends FeedbackTextResponse {
     public String getRecipientSectionName() {
         return recipientSectionName;
     }
+
+    public boolean isGiverVisible() {
+        return isGiverVisible;
+    }
+
+    public void setGiverVisible(boolean isGiverVisible) {
+        this.isGiverVisible = isGiverVisible;
+    }
+
+    public boolean isRecipientVisible() {
+        return isRecipientVisible;
+    }
+
+    public void setRecipientVisible(boolean isRecipientVisible) {
+        this.isRecipientVisible = isRecipientVisible;
+    }
 }
@@ -1,8 +1,12 @@
 package teammates.storage.sqlsearch;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.QueryResponse;
@@ -35,9 +39,20 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequest> {
     }
 
     @Override
-    AccountRequest getEntityFromDocument(SolrDocument document) {
-        UUID id = UUID.fromString((String) document.getFieldValue("id"));
-        return accountRequestsDb.getAccountRequest(id);
+    List<AccountRequest> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<UUID> ids = documents.stream()
+                .map(document -> UUID.fromString((String) document.getFieldValue("id")))
+                .collect(Collectors.toList());
+
+        Map<UUID, AccountRequest> accountRequestsById = new HashMap<>();
+        for (AccountRequest accountRequest : accountRequestsDb.getAccountRequests(ids)) {
+            accountRequestsById.put(accountRequest.getId(), accountRequest);
+        }
+
+        return ids.stream()
+                .map(accountRequestsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -1,7 +1,13 @@
 package teammates.storage.sqlsearch;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.QueryResponse;
@@ -37,10 +43,28 @@ public class InstructorSearchManager extends SearchManager<Instructor> {
     }
 
     @Override
-    Instructor getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorForEmail(courseId, email);
+    List<Instructor> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        Set<String> courseIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (SolrDocument document : documents) {
+            courseIds.add((String) document.getFirstValue("courseId"));
+            emails.add((String) document.getFirstValue("email"));
+        }
+
+        Map<String, Instructor> instructorsByKey = new HashMap<>();
+        for (Instructor instructor : instructorsDb.getInstructorsForCoursesAndEmails(courseIds, emails)) {
+            instructorsByKey.put(getKey(instructor.getCourseId(), instructor.getEmail()), instructor);
+        }
+
+        return documents.stream()
+                .map(document -> instructorsByKey.get(getKey(
+                        (String) document.getFirstValue("courseId"), (String) document.getFirstValue("email"))))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String getKey(String courseId, String email) {
+        return courseId + "%" + email;
     }
 
     @Override
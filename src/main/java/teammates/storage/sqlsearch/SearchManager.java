@@ -3,6 +3,7 @@ package teammates.storage.sqlsearch;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -35,11 +36,14 @@ abstract class SearchManager<T extends BaseEntity> {
     private static final String ERROR_DELETE_DOCUMENT = "Failed to delete document(s) %s in Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_DOCUMENT = "Failed to search for document(s) %s from Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED = "Search service is not implemented";
-    private static final String ERROR_PUT_DOCUMENT = "Failed to put document %s into Solr. Root cause: %s ";
+    private static final String ERROR_PUT_DOCUMENT =
+            "Failed to put batch of %d document(s) with id(s) %s into Solr. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION = "Failed to reset collections. Root cause: %s ";
 
     private static final int START_INDEX = 0;
     private static final int NUM_OF_RESULTS = Const.SEARCH_QUERY_SIZE_LIMIT;
+    private static final int PUT_BATCH_SIZE = 500;
+    private static final int COMMIT_WITHIN_MILLIS = 1000;
 
     private final HttpSolrClient client;
     private final boolean isResetAllowed;
@@ -101,31 +105,77 @@ abstract class SearchManager<T extends BaseEntity> {
      * Creates or updates search document for the given entity.
      */
     public void putDocument(T entity) throws SearchServiceException {
+        putDocuments(Collections.singletonList(entity));
+    }
+
+    /**
+     * Creates or updates search documents for the given entities.
+     *
+     * <p>The documents are sent in batches and committed once, after all of them have been added.
+     */
+    public void putDocuments(Collection<T> entities) throws SearchServiceException {
+        putDocuments(entities, -1);
+    }
+
+    /**
+     * Creates or updates search document for the given entity without committing it immediately.
+     *
+     * <p>Solr commits the document within a second, which allows the commits of many documents
+     * put in quick succession (e.g. by search indexing workers) to be coalesced into one.
+     */
+    public void putDocumentWithDeferredCommit(T entity) throws SearchServiceException {
+        putDocuments(Collections.singletonList(entity), COMMIT_WITHIN_MILLIS);
+    }
+
+    private void putDocuments(Collection<T> entities, int commitWithinMillis) throws SearchServiceException {
         if (client == null) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (entity == null) {
-            return;
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (T entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
+            SolrInputDocument document = new SolrInputDocument();
+            searchableFields.forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
         }
 
-        Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        if (documents.isEmpty()) {
+            return;
+        }
 
+        // the batch being put, or all documents while committing them
+        List<SolrInputDocument> batch = documents;
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            for (int i = 0; i < documents.size(); i += PUT_BATCH_SIZE) {
+                batch = documents.subList(i, Math.min(i + PUT_BATCH_SIZE, documents.size()));
+                client.add(getCollectionName(), batch, commitWithinMillis);
+            }
+            batch = documents;
+            if (commitWithinMillis < 0) {
+                client.commit(getCollectionName());
+            }
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, batch.size(), getDocumentIds(batch), e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, batch.size(), getDocumentIds(batch), e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    private static List<Object> getDocumentIds(List<SolrInputDocument> documents) {
+        List<Object> ids = new ArrayList<>();
+        for (SolrInputDocument document : documents) {
+            ids.add(document.getFieldValue("id"));
+        }
+        return ids;
+    }
+
     /**
      * Removes search documents based on the given keys.
      */
@@ -205,35 +255,29 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
-    abstract T getEntityFromDocument(SolrDocument document);
+    /**
+     * Gets the entities corresponding to the given documents, in the same order as the documents.
+     *
+     * <p>Implementations should load all the entities together rather than one document at a time.
+     * Documents that do not correspond to any entity are skipped.
+     */
+    abstract List<T> getEntitiesFromDocuments(List<SolrDocument> documents);
 
     abstract void sortResult(List<T> result);
 
     List<T> convertDocumentToEntities(List<SolrDocument> documents) {
-        if (documents == null) {
+        if (documents == null || documents.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<T> result = new ArrayList<>();
+        // Documents which correspond to entities in datastore will not have a matching entity and are skipped.
+        // The search engine may also be out of sync as SearchManager may fail to delete documents;
+        // the chance is low and it is generally not a big problem.
 
-        for (SolrDocument document : documents) {
-            T entity = getEntityFromDocument(document);
-
-            // Entity will be null if document corresponds to entity in datastore
-            if (entity == null) {
-                // search engine out of sync as SearchManager may fail to delete documents
-                // the chance is low and it is generally not a big problem
-
-                // these lines below are commented out as they interfere with the dual db search,
-                // and cause unwanted deletions, please refer to the following PR for more details
-                // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
-
-                // String id = (String) document.getFirstValue("id");
-                // deleteDocuments(Collections.singletonList(id));
-                continue;
-            }
-            result.add(entity);
-        }
+        // Stale documents are not deleted here as it interferes with the dual db search,
+        // and causes unwanted deletions, please refer to the following PR for more details
+        // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
+        List<T> result = getEntitiesFromDocuments(documents);
         sortResult(result);
 
         return result;
@@ -2,7 +2,12 @@ package teammates.storage.sqlsearch;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
@@ -41,10 +46,28 @@ public class StudentSearchManager extends SearchManager<Student> {
     }
 
     @Override
-    Student getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<Student> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        Set<String> courseIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (SolrDocument document : documents) {
+            courseIds.add((String) document.getFirstValue("courseId"));
+            emails.add((String) document.getFirstValue("email"));
+        }
+
+        Map<String, Student> studentsByKey = new HashMap<>();
+        for (Student student : studentsDb.getStudentsForCoursesAndEmails(courseIds, emails)) {
+            studentsByKey.put(getKey(student.getCourseId(), student.getEmail()), student);
+        }
+
+        return documents.stream()
+                .map(document -> studentsByKey.get(getKey(
+                        (String) document.getFirstValue("courseId"), (String) document.getFirstValue("email"))))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String getKey(String courseId, String email) {
+        return courseId + "%" + email;
     }
 
     @Override
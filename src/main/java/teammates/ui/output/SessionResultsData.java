@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.annotation.Nullable;
 
@@ -16,6 +17,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -41,6 +43,9 @@ public class SessionResultsData extends ApiOutput {
 
     final List<QuestionOutput> questions = new ArrayList<>();
 
+    @Nullable
+    private String nextCursor;
+
     SessionResultsData() {
         // use factory method instead
     }
@@ -78,7 +83,31 @@ public class SessionResultsData extends ApiOutput {
      */
     public static SessionResultsData initForInstructor(SqlSessionResultsBundle bundle) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        forEachQuestionForInstructor(bundle, sessionResultsData.questions::add);
+        return sessionResultsData;
+    }
 
+    /**
+     * Factory method to construct API output for instructor from a page of the results.
+     *
+     * <p>The statistics of a question only cover the responses of the question in the page.
+     */
+    public static SessionResultsData initForInstructor(SqlSessionResultsPage page) {
+        SessionResultsData sessionResultsData = initForInstructor(page.getBundle());
+        if (page.getNextCursor() != null) {
+            sessionResultsData.nextCursor = page.getNextCursor().toToken();
+        }
+        return sessionResultsData;
+    }
+
+    /**
+     * Builds the API output for instructor one question at a time and passes each question output
+     * to {@code consumer} as soon as it is built.
+     *
+     * <p>Unlike {@link #initForInstructor(SqlSessionResultsBundle)}, the question outputs are not retained,
+     * so that they can be written out and garbage collected before the next question is processed.
+     */
+    public static void forEachQuestionForInstructor(SqlSessionResultsBundle bundle, Consumer<QuestionOutput> consumer) {
         Map<FeedbackQuestion, List<FeedbackResponse>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
 
@@ -90,13 +119,22 @@ public class SessionResultsData extends ApiOutput {
             List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
             qnOutput.allResponses.addAll(allResponses);
 
-            // put missing responses
-            List<FeedbackResponse> missingResponses = bundle.getQuestionMissingResponseMap().get(question);
-            qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
+            // put missing responses, which are generated as they are iterated over
+            for (FeedbackResponse missingResponse : bundle.getQuestionMissingResponseMap().get(question)) {
+                qnOutput.allResponses.add(buildSingleResponseForInstructor(missingResponse, bundle, true));
+            }
 
-            sessionResultsData.questions.add(qnOutput);
+            consumer.accept(qnOutput);
         });
+    }
 
+    /**
+     * Factory method to construct API output from question outputs built earlier,
+     * e.g. by {@link #forEachQuestionForInstructor(SqlSessionResultsBundle, Consumer)}.
+     */
+    public static SessionResultsData fromQuestions(List<QuestionOutput> questions) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.questions.addAll(questions);
         return sessionResultsData;
     }
 
@@ -171,7 +209,18 @@ public class SessionResultsData extends ApiOutput {
      */
     public static SessionResultsData initForStudent(SqlSessionResultsBundle bundle, Student student) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        forEachQuestionForStudent(bundle, student, sessionResultsData.questions::add);
+        return sessionResultsData;
+    }
 
+    /**
+     * Builds the API output for student one question at a time and passes each question output
+     * to {@code consumer} as soon as it is built.
+     *
+     * @see #forEachQuestionForInstructor(SqlSessionResultsBundle, Consumer)
+     */
+    public static void forEachQuestionForStudent(
+            SqlSessionResultsBundle bundle, Student student, Consumer<QuestionOutput> consumer) {
         Map<FeedbackQuestion, List<FeedbackResponse>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
 
@@ -219,17 +268,15 @@ public class SessionResultsData extends ApiOutput {
             }
             qnOutput.otherResponses.addAll(otherResponsesMap.values());
 
-            sessionResultsData.questions.add(qnOutput);
+            consumer.accept(qnOutput);
         });
 
         Set<FeedbackQuestion> questionsWithResponsesNotVisibleForPreview =
                 bundle.getQuestionsNotVisibleForPreviewSet();
         questionsWithResponsesNotVisibleForPreview.forEach(question -> {
             QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
-            sessionResultsData.questions.add(qnOutput);
+            consumer.accept(qnOutput);
         });
-
-        return sessionResultsData;
     }
 
     private static ResponseOutput buildSingleResponseForStudent(
@@ -614,7 +661,7 @@ public class SessionResultsData extends ApiOutput {
      *
      * <p>Anonymized the name if necessary.
      */
-    private static String getRecipientNameOfResponse(FeedbackResponse response, SqlSessionResultsBundle bundle) {
+    static String getRecipientNameOfResponse(FeedbackResponse response, SqlSessionResultsBundle bundle) {
         FeedbackQuestion question = response.getFeedbackQuestion();
         FeedbackParticipantType participantType = question.getRecipientType();
         if (participantType == FeedbackParticipantType.SELF) {
@@ -715,6 +762,14 @@ public class SessionResultsData extends ApiOutput {
         return questions;
     }
 
+    /**
+     * Gets the token of the cursor to get the next page of results with, or null if there are no more results.
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     /**
      * API output format for questions in session results.
      */
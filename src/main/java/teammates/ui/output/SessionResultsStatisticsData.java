@@ -0,0 +1,507 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.questions.FeedbackConstantSumQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.questions.FeedbackConstantSumQuestion;
+import teammates.storage.sqlentity.questions.FeedbackMcqQuestion;
+import teammates.storage.sqlentity.questions.FeedbackMsqQuestion;
+import teammates.storage.sqlentity.questions.FeedbackNumericalScaleQuestion;
+import teammates.storage.sqlentity.questions.FeedbackRubricQuestion;
+import teammates.storage.sqlentity.responses.FeedbackConstantSumResponse;
+import teammates.storage.sqlentity.responses.FeedbackMcqResponse;
+import teammates.storage.sqlentity.responses.FeedbackMsqResponse;
+import teammates.storage.sqlentity.responses.FeedbackNumericalScaleResponse;
+import teammates.storage.sqlentity.responses.FeedbackRubricResponse;
+
+/**
+ * API output format for the statistics of session results.
+ *
+ * <p>The statistics are aggregated in a single pass over the responses of every question,
+ * so that they can be viewed without downloading the individual responses.
+ * Only MCQ, MSQ, rubric, numerical scale and constant sum questions have statistics.
+ */
+public class SessionResultsStatisticsData extends ApiOutput {
+
+    private static final String OTHER_OPTION = "Other";
+
+    private final List<QuestionStatisticsOutput> questions = new ArrayList<>();
+
+    SessionResultsStatisticsData() {
+        // use factory method instead
+    }
+
+    /**
+     * Factory method to construct API output for instructor.
+     *
+     * <p>The statistics are aggregated over the responses visible to the instructor in the bundle;
+     * missing responses are not counted.
+     */
+    public static SessionResultsStatisticsData initForInstructor(SqlSessionResultsBundle bundle) {
+        SessionResultsStatisticsData statisticsData = new SessionResultsStatisticsData();
+        bundle.getQuestionResponseMap().forEach((question, responses) -> {
+            QuestionStatisticsOutput statistics = buildQuestionStatistics(question, responses, bundle);
+            if (statistics != null) {
+                statisticsData.questions.add(statistics);
+            }
+        });
+        return statisticsData;
+    }
+
+    /**
+     * Builds the statistics of a question, or returns null if the question type has no statistics.
+     */
+    private static QuestionStatisticsOutput buildQuestionStatistics(
+            FeedbackQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        if (question instanceof FeedbackMcqQuestion) {
+            return buildMcqStatistics((FeedbackMcqQuestion) question, responses, bundle);
+        }
+        if (question instanceof FeedbackMsqQuestion) {
+            return buildMsqStatistics((FeedbackMsqQuestion) question, responses, bundle);
+        }
+        if (question instanceof FeedbackRubricQuestion) {
+            return buildRubricStatistics((FeedbackRubricQuestion) question, responses, bundle);
+        }
+        if (question instanceof FeedbackNumericalScaleQuestion) {
+            return buildNumericalScaleStatistics(question, responses, bundle);
+        }
+        if (question instanceof FeedbackConstantSumQuestion) {
+            return buildConstantSumStatistics((FeedbackConstantSumQuestion) question, responses, bundle);
+        }
+        return null;
+    }
+
+    private static QuestionStatisticsOutput buildMcqStatistics(
+            FeedbackMcqQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        List<String> options = new ArrayList<>(question.getFeedbackQuestionDetails().getMcqChoices());
+        if (question.getFeedbackQuestionDetails().isOtherEnabled()) {
+            options.add(OTHER_OPTION);
+        }
+
+        QuestionStatisticsOutput output = new QuestionStatisticsOutput(question, FeedbackQuestionType.MCQ, responses);
+        output.answerFrequency = createFrequencies(options);
+        Map<String, RecipientStatisticsOutput> recipientStatistics = new LinkedHashMap<>();
+        for (FeedbackResponse response : responses) {
+            FeedbackMcqResponseDetails answer = ((FeedbackMcqResponse) response).getAnswer();
+            String option = answer.isOther() ? OTHER_OPTION : answer.getAnswer();
+            output.answerFrequency.merge(option, 1, Integer::sum);
+
+            RecipientStatisticsOutput recipient = getRecipientStatistics(recipientStatistics, response, bundle);
+            if (recipient.answerFrequency == null) {
+                recipient.answerFrequency = createFrequencies(options);
+            }
+            recipient.answerFrequency.merge(option, 1, Integer::sum);
+        }
+        output.recipientStatistics = new ArrayList<>(recipientStatistics.values());
+        return output;
+    }
+
+    private static QuestionStatisticsOutput buildMsqStatistics(
+            FeedbackMsqQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        FeedbackMsqQuestionDetails questionDetails = question.getFeedbackQuestionDetails();
+        List<String> options = new ArrayList<>(questionDetails.getMsqChoices());
+        if (questionDetails.isOtherEnabled()) {
+            options.add(OTHER_OPTION);
+        }
+
+        QuestionStatisticsOutput output = new QuestionStatisticsOutput(question, FeedbackQuestionType.MSQ, responses);
+        output.answerFrequency = createFrequencies(options);
+        Map<String, RecipientStatisticsOutput> recipientStatistics = new LinkedHashMap<>();
+        for (FeedbackResponse response : responses) {
+            RecipientStatisticsOutput recipient = getRecipientStatistics(recipientStatistics, response, bundle);
+            if (recipient.answerFrequency == null) {
+                recipient.answerFrequency = createFrequencies(options);
+            }
+
+            FeedbackMsqResponseDetails answer = ((FeedbackMsqResponse) response).getAnswer();
+            for (String chosenOption : answer.getAnswers()) {
+                if (FeedbackMsqQuestionDetails.MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(chosenOption)) {
+                    continue;
+                }
+                String option = answer.isOther() && chosenOption.equals(answer.getOtherFieldContent())
+                        ? OTHER_OPTION
+                        : chosenOption;
+                output.answerFrequency.merge(option, 1, Integer::sum);
+                recipient.answerFrequency.merge(option, 1, Integer::sum);
+            }
+        }
+        output.recipientStatistics = new ArrayList<>(recipientStatistics.values());
+        return output;
+    }
+
+    private static QuestionStatisticsOutput buildRubricStatistics(
+            FeedbackRubricQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        FeedbackRubricQuestionDetails questionDetails = question.getFeedbackQuestionDetails();
+        int numOfSubQuestions = questionDetails.getNumOfRubricSubQuestions();
+        int numOfChoices = questionDetails.getNumOfRubricChoices();
+
+        QuestionStatisticsOutput output =
+                new QuestionStatisticsOutput(question, FeedbackQuestionType.RUBRIC, responses);
+        output.rubricAnswers = createMatrix(numOfSubQuestions, numOfChoices);
+        output.rubricAnswersExcludingSelf = createMatrix(numOfSubQuestions, numOfChoices);
+        Map<String, RecipientStatisticsOutput> recipientStatistics = new LinkedHashMap<>();
+        for (FeedbackResponse response : responses) {
+            RecipientStatisticsOutput recipient = getRecipientStatistics(recipientStatistics, response, bundle);
+            if (recipient.rubricAnswers == null) {
+                recipient.rubricAnswers = createMatrix(numOfSubQuestions, numOfChoices);
+            }
+
+            boolean isSelf = response.getGiver().equals(response.getRecipient());
+            List<Integer> answer = ((FeedbackRubricResponse) response).getAnswer().getAnswer();
+            for (int subQuestion = 0; subQuestion < answer.size() && subQuestion < numOfSubQuestions; subQuestion++) {
+                int choice = answer.get(subQuestion);
+                if (choice == FeedbackRubricQuestionDetails.RUBRIC_ANSWER_NOT_CHOSEN || choice >= numOfChoices) {
+                    continue;
+                }
+                increment(output.rubricAnswers, subQuestion, choice);
+                increment(recipient.rubricAnswers, subQuestion, choice);
+                if (!isSelf) {
+                    increment(output.rubricAnswersExcludingSelf, subQuestion, choice);
+                }
+            }
+        }
+        output.recipientStatistics = new ArrayList<>(recipientStatistics.values());
+        return output;
+    }
+
+    private static QuestionStatisticsOutput buildNumericalScaleStatistics(
+            FeedbackQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        QuestionStatisticsOutput output =
+                new QuestionStatisticsOutput(question, FeedbackQuestionType.NUMSCALE, responses);
+        Map<String, NumberAccumulator> recipientAnswers = new LinkedHashMap<>();
+        Map<String, RecipientStatisticsOutput> recipientStatistics = new LinkedHashMap<>();
+        for (FeedbackResponse response : responses) {
+            double answer = ((FeedbackNumericalScaleResponse) response).getAnswer().getAnswer();
+            getRecipientStatistics(recipientStatistics, response, bundle);
+            recipientAnswers.computeIfAbsent(response.getRecipient(), recipient -> new NumberAccumulator())
+                    .add(answer, response.getGiver().equals(response.getRecipient()));
+        }
+        output.recipientStatistics = buildNumberStatistics(recipientStatistics, recipientAnswers);
+        return output;
+    }
+
+    private static QuestionStatisticsOutput buildConstantSumStatistics(
+            FeedbackConstantSumQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        FeedbackConstantSumQuestionDetails questionDetails = question.getFeedbackQuestionDetails();
+        QuestionStatisticsOutput output = new QuestionStatisticsOutput(question,
+                questionDetails.isDistributeToRecipients()
+                        ? FeedbackQuestionType.CONSTSUM_RECIPIENTS
+                        : FeedbackQuestionType.CONSTSUM_OPTIONS,
+                responses);
+
+        if (questionDetails.isDistributeToRecipients()) {
+            Map<String, NumberAccumulator> recipientPoints = new LinkedHashMap<>();
+            Map<String, RecipientStatisticsOutput> recipientStatistics = new LinkedHashMap<>();
+            for (FeedbackResponse response : responses) {
+                List<Integer> answers = ((FeedbackConstantSumResponse) response).getAnswer().getAnswers();
+                if (answers.isEmpty()) {
+                    continue;
+                }
+                getRecipientStatistics(recipientStatistics, response, bundle);
+                recipientPoints.computeIfAbsent(response.getRecipient(), recipient -> new NumberAccumulator())
+                        .add(answers.get(0), response.getGiver().equals(response.getRecipient()));
+            }
+            output.recipientStatistics = buildNumberStatistics(recipientStatistics, recipientPoints);
+            return output;
+        }
+
+        List<String> options = questionDetails.getConstSumOptions();
+        List<NumberAccumulator> optionPoints = new ArrayList<>();
+        for (int i = 0; i < options.size(); i++) {
+            optionPoints.add(new NumberAccumulator());
+        }
+        for (FeedbackResponse response : responses) {
+            List<Integer> answers = ((FeedbackConstantSumResponse) response).getAnswer().getAnswers();
+            for (int i = 0; i < answers.size() && i < options.size(); i++) {
+                optionPoints.get(i).add(answers.get(i), false);
+            }
+        }
+        output.totalPointsPerOption = new LinkedHashMap<>();
+        output.averagePointsPerOption = new LinkedHashMap<>();
+        for (int i = 0; i < options.size(); i++) {
+            output.totalPointsPerOption.put(options.get(i), optionPoints.get(i).total);
+            output.averagePointsPerOption.put(options.get(i), optionPoints.get(i).getAverage());
+        }
+        return output;
+    }
+
+    /**
+     * Gets the statistics of the recipient of the response, creating them if they do not exist yet.
+     *
+     * <p>The recipient is anonymised in the same way as in {@link SessionResultsData}.
+     */
+    private static RecipientStatisticsOutput getRecipientStatistics(
+            Map<String, RecipientStatisticsOutput> recipientStatistics, FeedbackResponse response,
+            SqlSessionResultsBundle bundle) {
+        RecipientStatisticsOutput statistics = recipientStatistics.computeIfAbsent(response.getRecipient(),
+                recipient -> {
+                    String recipientEmail = null;
+                    if (bundle.isResponseRecipientVisible(response)
+                            && !bundle.getRoster().isTeamInCourse(recipient)
+                            && !Const.GENERAL_QUESTION.equals(recipient)) {
+                        recipientEmail = recipient;
+                    }
+                    return new RecipientStatisticsOutput(SessionResultsData.getRecipientNameOfResponse(response, bundle),
+                            bundle.getRoster().getInfoForIdentifier(recipient).getTeamName(), recipientEmail);
+                });
+        statistics.numberOfResponses++;
+        return statistics;
+    }
+
+    private static List<RecipientStatisticsOutput> buildNumberStatistics(
+            Map<String, RecipientStatisticsOutput> recipientStatistics, Map<String, NumberAccumulator> recipientAnswers) {
+        recipientStatistics.forEach((recipient, statistics) -> {
+            NumberAccumulator answers = recipientAnswers.get(recipient);
+            statistics.total = answers.total;
+            statistics.min = answers.min;
+            statistics.max = answers.max;
+            statistics.average = answers.getAverage();
+            statistics.averageExcludingSelf = answers.getAverageExcludingSelf();
+        });
+        return new ArrayList<>(recipientStatistics.values());
+    }
+
+    private static Map<String, Integer> createFrequencies(List<String> options) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String option : options) {
+            frequencies.put(option, 0);
+        }
+        return frequencies;
+    }
+
+    private static List<List<Integer>> createMatrix(int numOfRows, int numOfColumns) {
+        List<List<Integer>> matrix = new ArrayList<>();
+        for (int i = 0; i < numOfRows; i++) {
+            List<Integer> row = new ArrayList<>();
+            for (int j = 0; j < numOfColumns; j++) {
+                row.add(0);
+            }
+            matrix.add(row);
+        }
+        return matrix;
+    }
+
+    private static void increment(List<List<Integer>> matrix, int row, int column) {
+        matrix.get(row).set(column, matrix.get(row).get(column) + 1);
+    }
+
+    public List<QuestionStatisticsOutput> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * API output format for the statistics of a question.
+     */
+    public static final class QuestionStatisticsOutput {
+
+        private final String feedbackQuestionId;
+        private final FeedbackQuestionType questionType;
+        private final int numberOfResponses;
+
+        // MCQ and MSQ: number of times each option is chosen
+        @Nullable
+        private Map<String, Integer> answerFrequency;
+
+        // rubric: number of times each choice is chosen for each sub-question
+        @Nullable
+        private List<List<Integer>> rubricAnswers;
+        @Nullable
+        private List<List<Integer>> rubricAnswersExcludingSelf;
+
+        // constant sum distributed among options
+        @Nullable
+        private Map<String, Double> totalPointsPerOption;
+        @Nullable
+        private Map<String, Double> averagePointsPerOption;
+
+        @Nullable
+        private List<RecipientStatisticsOutput> recipientStatistics;
+
+        private QuestionStatisticsOutput(FeedbackQuestion question, FeedbackQuestionType questionType,
+                List<FeedbackResponse> responses) {
+            this.feedbackQuestionId = question.getId().toString();
+            this.questionType = questionType;
+            this.numberOfResponses = responses.size();
+        }
+
+        public String getFeedbackQuestionId() {
+            return feedbackQuestionId;
+        }
+
+        public FeedbackQuestionType getQuestionType() {
+            return questionType;
+        }
+
+        public int getNumberOfResponses() {
+            return numberOfResponses;
+        }
+
+        @Nullable
+        public Map<String, Integer> getAnswerFrequency() {
+            return answerFrequency;
+        }
+
+        @Nullable
+        public List<List<Integer>> getRubricAnswers() {
+            return rubricAnswers;
+        }
+
+        @Nullable
+        public List<List<Integer>> getRubricAnswersExcludingSelf() {
+            return rubricAnswersExcludingSelf;
+        }
+
+        @Nullable
+        public Map<String, Double> getTotalPointsPerOption() {
+            return totalPointsPerOption;
+        }
+
+        @Nullable
+        public Map<String, Double> getAveragePointsPerOption() {
+            return averagePointsPerOption;
+        }
+
+        @Nullable
+        public List<RecipientStatisticsOutput> getRecipientStatistics() {
+            return recipientStatistics;
+        }
+    }
+
+    /**
+     * API output format for the statistics of the responses to a recipient of a question.
+     */
+    public static final class RecipientStatisticsOutput {
+
+        private final String recipient;
+        private final String recipientTeam;
+        @Nullable
+        private final String recipientEmail;
+        private int numberOfResponses;
+
+        // MCQ and MSQ
+        @Nullable
+        private Map<String, Integer> answerFrequency;
+
+        // rubric
+        @Nullable
+        private List<List<Integer>> rubricAnswers;
+
+        // numerical scale and constant sum distributed among recipients
+        @Nullable
+        private Double total;
+        @Nullable
+        private Double min;
+        @Nullable
+        private Double max;
+        @Nullable
+        private Double average;
+        @Nullable
+        private Double averageExcludingSelf;
+
+        private RecipientStatisticsOutput(String recipient, String recipientTeam, @Nullable String recipientEmail) {
+            this.recipient = recipient;
+            this.recipientTeam = recipientTeam;
+            this.recipientEmail = recipientEmail;
+        }
+
+        public String getRecipient() {
+            return recipient;
+        }
+
+        public String getRecipientTeam() {
+            return recipientTeam;
+        }
+
+        @Nullable
+        public String getRecipientEmail() {
+            return recipientEmail;
+        }
+
+        public int getNumberOfResponses() {
+            return numberOfResponses;
+        }
+
+        @Nullable
+        public Map<String, Integer> getAnswerFrequency() {
+            return answerFrequency;
+        }
+
+        @Nullable
+        public List<List<Integer>> getRubricAnswers() {
+            return rubricAnswers;
+        }
+
+        @Nullable
+        public Double getTotal() {
+            return total;
+        }
+
+        @Nullable
+        public Double getMin() {
+            return min;
+        }
+
+        @Nullable
+        public Double getMax() {
+            return max;
+        }
+
+        @Nullable
+        public Double getAverage() {
+            return average;
+        }
+
+        @Nullable
+        public Double getAverageExcludingSelf() {
+            return averageExcludingSelf;
+        }
+    }
+
+    /**
+     * Accumulates numeric answers without retaining them.
+     */
+    private static final class NumberAccumulator {
+
+        private int count;
+        private double total;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private int selfCount;
+        private double selfTotal;
+
+        void add(double answer, boolean isSelf) {
+            count++;
+            total += answer;
+            min = Math.min(min, answer);
+            max = Math.max(max, answer);
+            if (isSelf) {
+                selfCount++;
+                selfTotal += answer;
+            }
+        }
+
+        double getAverage() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        double getAverageExcludingSelf() {
+            int countExcludingSelf = count - selfCount;
+            return countExcludingSelf == 0 ? 0 : (total - selfTotal) / countExcludingSelf;
+        }
+    }
+
+}
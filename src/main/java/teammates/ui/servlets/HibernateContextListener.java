@@ -14,7 +14,12 @@ public class HibernateContextListener implements ServletContextListener {
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
-        HibernateUtil.buildSessionFactory(Config.getDbConnectionUrl(), Config.POSTGRES_USERNAME, Config.POSTGRES_PASSWORD);
+        HibernateUtil.buildSessionFactory(Config.getDbConnectionUrl(), Config.POSTGRES_USERNAME, Config.POSTGRES_PASSWORD,
+                Config.POSTGRES_SECOND_LEVEL_CACHE_ENABLED);
+        String replicaDbUrl = Config.getReplicaDbConnectionUrl();
+        if (replicaDbUrl != null) {
+            HibernateUtil.buildReplicaSessionFactory(replicaDbUrl, Config.POSTGRES_USERNAME, Config.POSTGRES_PASSWORD);
+        }
     }
 
     @Override
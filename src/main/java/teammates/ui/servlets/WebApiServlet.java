@@ -2,6 +2,7 @@ package teammates.ui.servlets;
 
 import java.io.IOException;
 
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,8 +14,12 @@ import com.google.cloud.datastore.DatastoreException;
 
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.Workload;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -60,16 +65,19 @@ public class WebApiServlet extends HttpServlet {
 
         try {
             action = ActionFactory.getAction(req, req.getMethod());
+            HibernateUtil.setWorkload(action.getWorkload());
             ActionResult result;
 
             if (action.isTransactionNeeded()) {
-                result = executeWithTransaction(action, req);
+                result = executeWithTransaction(action, req, resp);
             } else {
                 result = executeWithoutTransaction(action, req);
             }
 
             statusCode = result.getStatusCode();
-            result.send(resp);
+            if (!action.isTransactionNeeded() || !result.isSentInTransaction()) {
+                result.send(resp);
+            }
         } catch (ActionMappingException e) {
             statusCode = e.getStatusCode();
             throwErrorBasedOnRequester(req, resp, e, statusCode);
@@ -103,6 +111,8 @@ public class WebApiServlet extends HttpServlet {
             throwError(resp, statusCode,
                     "The server encountered an error when processing your request.");
         } finally {
+            HibernateUtil.setWorkload(Workload.INTERACTIVE);
+
             RequestLogUser userInfo = new RequestLogUser();
             String requestBody = null;
             String actionClass = null;
@@ -118,15 +128,31 @@ public class WebApiServlet extends HttpServlet {
         }
     }
 
-    private ActionResult executeWithTransaction(Action action, HttpServletRequest req)
-            throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
+    private ActionResult executeWithTransaction(Action action, HttpServletRequest req, HttpServletResponse resp)
+            throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException,
+            IOException {
+        boolean isReadOnly = action.isTransactionReadOnly(req.getMethod());
         try {
-            HibernateUtil.beginTransaction();
+            if (!isReadOnly) {
+                HibernateUtil.beginTransaction();
+            } else if (HibernateUtil.isReplicaAvailable() && !hasRecentlyWritten(req)) {
+                HibernateUtil.beginReadOnlyTransactionOnReplica();
+            } else {
+                HibernateUtil.beginReadOnlyTransaction();
+            }
             action.init(req);
             action.checkAccessControl();
 
-            ActionResult result = action.execute();
-            HibernateUtil.commitTransaction();
+            ActionResult result = action.executeIfModified();
+            if (result.isSentInTransaction()) {
+                // the cookie is a header, which cannot be added once the body is being sent
+                addPrimaryDbCookieIfWritten(resp, isReadOnly);
+                result.send(resp);
+                HibernateUtil.commitTransaction();
+            } else {
+                HibernateUtil.commitTransaction();
+                addPrimaryDbCookieIfWritten(resp, isReadOnly);
+            }
             return result;
         } catch (Exception e) {
             HibernateUtil.rollbackTransaction();
@@ -134,12 +160,38 @@ public class WebApiServlet extends HttpServlet {
         }
     }
 
+    private void addPrimaryDbCookieIfWritten(HttpServletResponse resp, boolean isReadOnly) {
+        if (!isReadOnly && HibernateUtil.isReplicaAvailable()) {
+            resp.addCookie(getPrimaryDbCookie());
+        }
+    }
+
+    /**
+     * Returns true if the requester has changed data recently enough that the changes may not have reached
+     * the read replica yet, in which case the requester should read from the primary database to see them.
+     */
+    private boolean hasRecentlyWritten(HttpServletRequest req) {
+        return HttpRequestHelper.getCookieValueFromRequest(req, Const.SecurityConfig.PRIMARY_DB_COOKIE_NAME) != null;
+    }
+
+    /**
+     * Returns a cookie which makes the requester read from the primary database until it expires.
+     */
+    private Cookie getPrimaryDbCookie() {
+        Cookie cookie = new Cookie(Const.SecurityConfig.PRIMARY_DB_COOKIE_NAME, "true");
+        cookie.setPath("/");
+        cookie.setSecure(!Config.IS_DEV_SERVER);
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(Config.POSTGRES_REPLICA_STALENESS_SECONDS);
+        return cookie;
+    }
+
     private ActionResult executeWithoutTransaction(Action action, HttpServletRequest req)
             throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
         action.init(req);
         action.checkAccessControl();
 
-        return action.execute();
+        return action.executeIfModified();
     }
 
     private void throwErrorBasedOnRequester(HttpServletRequest req, HttpServletResponse resp, Exception e, int statusCode)
@@ -163,6 +215,11 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        if (resp.isCommitted()) {
+            // part of the result has been sent already; results sent in parts end their own body with an error
+            return;
+        }
+        resp.resetBuffer();
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
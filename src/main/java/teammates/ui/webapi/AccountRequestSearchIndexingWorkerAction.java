@@ -6,6 +6,7 @@ import org.apache.http.HttpStatus;
 
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.AccountRequest;
 
 /**
@@ -27,7 +28,7 @@ public class AccountRequestSearchIndexingWorkerAction extends AdminOnlyAction {
         AccountRequest accRequest = sqlLogic.getAccountRequest(accountRequestId);
 
         try {
-            sqlLogic.putAccountRequestDocument(accRequest);
+            sqlLogic.putAccountRequestDocumentWithDeferredCommit(accRequest);
         } catch (SearchServiceException e) {
             // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
@@ -35,4 +36,10 @@ public class AccountRequestSearchIndexingWorkerAction extends AdminOnlyAction {
 
         return new JsonResult("Successful");
     }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
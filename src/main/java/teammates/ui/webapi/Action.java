@@ -1,11 +1,18 @@
 package teammates.ui.webapi;
 
 import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
+import jakarta.annotation.Nullable;
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+
 import teammates.common.datatransfer.InstructorPermissionSet;
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
@@ -20,6 +27,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Workload;
 import teammates.logic.api.AuthProxy;
 import teammates.logic.api.EmailGenerator;
 import teammates.logic.api.EmailSender;
@@ -488,6 +496,98 @@ public abstract class Action {
         return privilege;
     }
 
+    /**
+     * Executes the action, unless the client already has its output as identified by the entity tag
+     * in the {@code If-None-Match} header of the request, in which case a {@link NotModifiedResult} is returned.
+     *
+     * <p>Must be called after {@link #checkAccessControl()}, so that only users allowed to see the output
+     * can learn whether it has changed.
+     */
+    public ActionResult executeIfModified() throws InvalidHttpRequestBodyException, InvalidOperationException {
+        String outputVersion = getOutputVersion();
+        if (outputVersion == null) {
+            return execute();
+        }
+
+        String entityTag = getEntityTag(outputVersion);
+        String ifNoneMatch = req.getHeader(Const.HeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String clientEntityTag : ifNoneMatch.split(",")) {
+                if (entityTag.equals(clientEntityTag.trim())) {
+                    return new NotModifiedResult(entityTag);
+                }
+            }
+        }
+
+        ActionResult result = execute();
+        if (result instanceof JsonResult && result.getStatusCode() == HttpStatus.SC_OK) {
+            ((JsonResult) result).setEntityTag(entityTag);
+        }
+        return result;
+    }
+
+    /**
+     * Gets a weak entity tag for the given version of the output.
+     *
+     * <p>The tag is also tied to the user, the parameters of the request and the version of the application,
+     * as the same version of the data can give different outputs for them.
+     */
+    private String getEntityTag(String outputVersion) {
+        StringBuilder request = new StringBuilder(Config.APP_VERSION)
+                .append('|').append(userInfo == null ? "" : userInfo.getId());
+        Map<String, String[]> params = new TreeMap<>(req.getParameterMap());
+        params.forEach((name, values) -> request.append('|').append(name).append('=').append(String.join(",", values)));
+        return "W/\"" + outputVersion + "-" + StringHelper.generateSignature(request.toString()) + "\"";
+    }
+
+    /**
+     * Gets the version of the output of the action, which must change whenever the output may have changed,
+     * or null if the output is not versioned and the action must always be executed.
+     *
+     * <p>Called after access control is checked and before the action is executed.
+     */
+    @Nullable
+    String getOutputVersion() {
+        return null;
+    }
+
+    /**
+     * Gets the version of an output derived from the data of a migrated course only.
+     */
+    String getCourseOutputVersion(String courseId) {
+        return String.valueOf(sqlLogic.getCourseVersion(courseId));
+    }
+
+    /**
+     * Gets the version of an output derived from the data of a migrated course only, which also depends
+     * on the current time, e.g. whether sessions are open or their results are published.
+     *
+     * <p>The version also changes every minute, so such changes are reflected within a minute.
+     */
+    String getTimeDependentCourseOutputVersion(String courseId) {
+        return getCourseOutputVersion(courseId) + "." + Instant.now().getEpochSecond() / 60;
+    }
+
+    /**
+     * Checks if the action only reads data, in which case its SQL transaction is read-only: loaded entities
+     * are not checked for changes, the session is never flushed, and the database rejects any write.
+     *
+     * <p>This is called before the action is initialized, so the method of the request is given.
+     * Actions requested with GET must not change data, and so are read-only by default.
+     */
+    public boolean isTransactionReadOnly(String requestMethod) {
+        return HttpGet.METHOD_NAME.equals(requestMethod);
+    }
+
+    /**
+     * Gets the class of work the action belongs to, whose own pool of database connections the action uses.
+     * Actions run in the background, i.e. cron jobs and task queue workers, should use {@link Workload#BACKGROUND}
+     * so that they cannot use up the connections needed by users waiting for responses.
+     */
+    public Workload getWorkload() {
+        return Workload.INTERACTIVE;
+    }
+
     /**
      * Checks if the action requires a SQL transaction when executed.
      * If false, the action will have to handle its own SQL transactions.
@@ -75,6 +75,8 @@ public final class ActionFactory {
         map(ResourceURIs.RESPONSE_COMMENT, PUT, UpdateFeedbackResponseCommentAction.class);
         map(ResourceURIs.RESPONSE_COMMENT, DELETE, DeleteFeedbackResponseCommentAction.class);
         map(ResourceURIs.RESULT, GET, GetSessionResultsAction.class);
+        map(ResourceURIs.RESULT_STATISTICS, GET, GetSessionResultsStatisticsAction.class);
+        map(ResourceURIs.RESULT_CSV, GET, GetSessionResultsCsvAction.class);
         map(ResourceURIs.LOGIN_EMAIL, POST, SendLoginEmailAction.class);
 
         //STUDENTS APIs
@@ -167,6 +169,8 @@ public final class ActionFactory {
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, POST,
                 FeedbackSessionUnpublishedEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOTS_WORKER_URL, POST,
+                FeedbackSessionResultsSnapshotsWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, POST, InstructorCourseJoinEmailWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, POST, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, POST, StudentCourseJoinEmailWorkerAction.class);
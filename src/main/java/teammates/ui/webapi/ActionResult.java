@@ -20,6 +20,14 @@ public abstract class ActionResult {
      */
     public abstract void send(HttpServletResponse resp) throws IOException;
 
+    /**
+     * Checks if the result reads from the database while it is sent,
+     * in which case it is sent before the SQL transaction of the action is committed.
+     */
+    public boolean isSentInTransaction() {
+        return false;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
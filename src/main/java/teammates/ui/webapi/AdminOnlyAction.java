@@ -17,4 +17,10 @@ abstract class AdminOnlyAction extends Action {
         }
     }
 
+    @Override
+    public boolean isTransactionReadOnly(String requestMethod) {
+        // cron jobs are requested with GET, but change data
+        return false;
+    }
+
 }
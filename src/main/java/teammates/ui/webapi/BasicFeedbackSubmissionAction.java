@@ -1,6 +1,9 @@
 package teammates.ui.webapi;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -422,51 +425,50 @@ abstract class BasicFeedbackSubmissionAction extends Action {
     }
 
     /**
-     * Gets the section of a recipient.
+     * Gets the sections of the given recipients, keyed by recipient identifier.
+     *
+     * <p>The section of a team or student recipient is the section of the team or student, and is fetched
+     * together for all recipients. The section of any other recipient, or of a recipient which does not exist,
+     * is the default section of the course.
      */
-    @SuppressWarnings("PMD.ImplicitSwitchFallThrough") // false positive
-    Section getRecipientSection(
+    Map<String, Section> getRecipientSections(
             String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
-            String recipientIdentifier) {
+            Collection<String> recipientIdentifiers) {
+        Map<String, Section> recipientSections = new HashMap<>();
+        if (recipientIdentifiers.isEmpty()) {
+            return recipientSections;
+        }
 
-        switch (recipientType) {
-        case SELF:
-            switch (giverType) {
-            case INSTRUCTORS:
-            case SELF:
-                return sqlLogic.getDefaultSectionOrCreate(courseId);
-            case TEAMS:
-            case TEAMS_IN_SAME_SECTION:
-                Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-                return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
-            case STUDENTS:
-            case STUDENTS_IN_SAME_SECTION:
-                Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
-            default:
-                assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
-                return null;
-            }
-        case INSTRUCTORS:
-        case NONE:
-            return sqlLogic.getDefaultSectionOrCreate(courseId);
+        // for self-feedback, the recipient is of the same kind as the giver
+        FeedbackParticipantType recipientKind =
+                recipientType == FeedbackParticipantType.SELF ? giverType : recipientType;
+        switch (recipientKind) {
         case TEAMS:
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
         case OWN_TEAM:
-            Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-            return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
+            recipientSections.putAll(sqlLogic.getSectionsByCourseIdAndTeams(courseId, recipientIdentifiers));
+            break;
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
+            for (Student student : sqlLogic.getStudentsForEmails(courseId, recipientIdentifiers)) {
+                recipientSections.put(student.getEmail(), student.getSection());
+            }
+            break;
         default:
-            assert false : "Unknown recipient type " + recipientType;
-            return null;
+            break;
+        }
+
+        if (recipientSections.size() < recipientIdentifiers.size()) {
+            Section defaultSection = sqlLogic.getDefaultSectionOrCreate(courseId);
+            for (String recipientIdentifier : recipientIdentifiers) {
+                recipientSections.putIfAbsent(recipientIdentifier, defaultSection);
+            }
         }
+        return recipientSections;
     }
 
     /**
@@ -9,6 +9,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Logger;
 import teammates.common.util.TimeHelper;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.UsageStatistics;
 
 /**
@@ -49,4 +50,9 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -9,6 +9,7 @@ import teammates.common.datatransfer.logs.GeneralLogEntry;
 import teammates.common.datatransfer.logs.LogSeverity;
 import teammates.common.datatransfer.logs.QueryLogsParams;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Workload;
 
 /**
  * Cron job: compiles application logs and sends severe logs compilation to the support email.
@@ -40,4 +41,9 @@ public class CompileLogsAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -21,6 +21,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.Workload;
 
 /**
  * Cron job: performs Datastore backup.
@@ -82,4 +83,9 @@ public class DatastoreBackupAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -13,6 +13,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
 
@@ -157,4 +158,9 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
         return deadlineExtension.getEndTime().equals(actualDeadlines.get(deadlineExtension.getUserEmail()));
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
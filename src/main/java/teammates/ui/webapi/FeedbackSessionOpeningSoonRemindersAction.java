@@ -6,6 +6,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.FeedbackSession;
 
 /**
@@ -52,4 +53,10 @@ public class FeedbackSessionOpeningSoonRemindersAction extends AdminOnlyAction {
 
         return new JsonResult("Successful");
     }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -3,11 +3,14 @@ package teammates.ui.webapi;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Config;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.FeedbackSession;
 
 /**
- * Cron job: schedules feedback session published emails to be sent.
+ * Cron job: schedules feedback session published emails to be sent,
+ * and the results of the published sessions to be stored if enabled.
  */
 public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
 
@@ -29,9 +32,17 @@ public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
             taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourse().getId(), session.getName());
+            if (Config.RESULTS_SNAPSHOTS_ENABLED) {
+                taskQueuer.scheduleFeedbackSessionResultsSnapshots(session.getCourse().getId(), session.getName());
+            }
         }
 
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -9,6 +9,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
@@ -58,16 +59,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
             Instructor instructorToNotify = sqlLogic.getInstructorByGoogleId(courseId, instructorId);
 
-            List<Student> studentsToRemindList = studentList
-                    .stream()
-                    .filter(student -> !sqlLogic.isFeedbackSessionAttemptedByStudent(
-                            session, student.getEmail(), student.getTeamName()))
-                    .collect(Collectors.toList());
+            List<Student> studentsToRemindList =
+                    sqlLogic.getStudentsYetToAttemptFeedbackSession(session, studentList);
 
-            List<Instructor> instructorsToRemindList = instructorList
-                    .stream()
-                    .filter(instructor -> !sqlLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail()))
-                    .collect(Collectors.toList());
+            List<Instructor> instructorsToRemindList =
+                    sqlLogic.getInstructorsYetToAttemptFeedbackSession(session, instructorList);
 
             List<EmailWrapper> emails = sqlEmailGenerator.generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
@@ -77,4 +73,10 @@ public class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
         }
         return new JsonResult("Successful");
     }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -0,0 +1,76 @@
+package teammates.ui.webapi;
+
+import java.util.Set;
+
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+import teammates.common.util.Workload;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Task queue worker action: stores the results of a published session for every student of the course,
+ * so that the students viewing the results right after the publication are served from the stored results.
+ *
+ * <p>The results of at most {@link #MAX_STUDENTS_PER_TASK} students are stored by one task, which then
+ * schedules another task for the remaining students.
+ */
+public class FeedbackSessionResultsSnapshotsWorkerAction extends AdminOnlyAction {
+
+    /**
+     * Keeps every task short, and hence the number of stored results outdated by a concurrent change small.
+     */
+    static final int MAX_STUDENTS_PER_TASK = 100;
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        FeedbackSession session = sqlLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                    + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+        if (!session.isPublished()) {
+            // the session has been unpublished since the task was scheduled
+            return new JsonResult("Successful");
+        }
+
+        Set<String> studentEmailsWithSnapshots = sqlLogic.getStudentEmailsWithSessionResultsSnapshots(session);
+        int numberOfSnapshotsCreated = 0;
+        for (Student student : sqlLogic.getStudentsForCourse(courseId)) {
+            if (studentEmailsWithSnapshots.contains(student.getEmail())) {
+                continue;
+            }
+            if (numberOfSnapshotsCreated == MAX_STUDENTS_PER_TASK) {
+                taskQueuer.scheduleFeedbackSessionResultsSnapshots(courseId, feedbackSessionName);
+                break;
+            }
+
+            // read before the results, so that results changed in between are stored with an outdated version
+            long courseVersion = sqlLogic.getCourseVersion(courseId);
+            SqlSessionResultsBundle bundle = sqlLogic.getSessionResultsForUser(session, courseId, student.getEmail(),
+                    false, null, false);
+            byte[] data = SessionResultsSnapshotResult.createSnapshotData(
+                    consumer -> SessionResultsData.forEachQuestionForStudent(bundle, student, consumer));
+            sqlLogic.createSessionResultsSnapshot(
+                    new SessionResultsSnapshot(session, student.getEmail(), courseVersion, data));
+            numberOfSnapshotsCreated++;
+        }
+
+        return new JsonResult("Successful");
+    }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
+}
@@ -88,6 +88,12 @@ public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    @Override
+    String getOutputVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        return isCourseMigrated(courseId) ? getCourseOutputVersion(courseId) : null;
+    }
+
     @Override
     public JsonResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
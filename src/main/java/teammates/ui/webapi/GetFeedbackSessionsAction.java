@@ -78,6 +78,13 @@ public class GetFeedbackSessionsAction extends Action {
         }
     }
 
+    @Override
+    String getOutputVersion() {
+        // sessions of several courses are not versioned
+        String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
+        return courseId != null && isCourseMigrated(courseId) ? getTimeDependentCourseOutputVersion(courseId) : null;
+    }
+
     @Override
     public JsonResult execute() {
         String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -1,20 +1,31 @@
 package teammates.ui.webapi;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsCursor;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.SessionResultsSnapshot;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
 import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
 import teammates.ui.request.Intent;
 
 /**
@@ -22,6 +33,11 @@ import teammates.ui.request.Intent;
  */
 public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
+    SessionResultsCache resultsCache = SessionResultsCache.inst();
+    boolean isSnapshotsEnabled = Config.RESULTS_SNAPSHOTS_ENABLED;
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -109,7 +125,13 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
     }
 
     @Override
-    public JsonResult execute() {
+    String getOutputVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        return isCourseMigrated(courseId) ? getTimeDependentCourseOutputVersion(courseId) : null;
+    }
+
+    @Override
+    public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
@@ -124,14 +146,17 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
 
+        // Streaming is only supported for migrated courses
+        boolean isStreaming = Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_IS_STREAMING));
+
         if (isCourseMigrated(courseId)) {
             if (questionId != null) {
                 UUID questionUuid = getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
                 return executeWithSql(courseId, feedbackSessionName, questionUuid,
-                        selectedSection, fetchType, intent, isPreviewResults);
+                        selectedSection, fetchType, intent, isPreviewResults, isStreaming);
             }
             return executeWithSql(courseId, feedbackSessionName, null, selectedSection,
-                    fetchType, intent, isPreviewResults);
+                    fetchType, intent, isPreviewResults, isStreaming);
         } else {
             return executeWithDatastore(courseId, feedbackSessionName, questionId, selectedSection,
                     fetchType, intent, isPreviewResults);
@@ -180,40 +205,43 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
-    private JsonResult executeWithSql(
+    private ActionResult executeWithSql(
             String courseId, String feedbackSessionName, UUID questionUuid, String selectedSection,
-            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults) {
+            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults, boolean isStreaming) {
         Instructor instructor;
         Student student;
         FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
-        SqlSessionResultsBundle bundle;
         switch (intent) {
         case FULL_DETAIL:
             instructor = getSqlInstructorOfCourseFromRequest(courseId);
 
-            bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId, instructor.getEmail(),
-                    questionUuid, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            if (getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE) != null) {
+                return createInstructorResultPage(feedbackSession, instructor.getEmail(), questionUuid,
+                        selectedSection, fetchType);
+            }
+            return createInstructorResult(feedbackSession, instructor.getEmail(), questionUuid,
+                    selectedSection, fetchType, isStreaming);
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getSqlInstructorOfCourseFromRequest(courseId);
 
-            bundle = sqlLogic.getSessionResultsForUser(feedbackSession, courseId, instructor.getEmail(),
-                    true, questionUuid, isPreviewResults);
-
             // Build a fake student object, as the results will be displayed as if they are displayed to a student
             student = new Student(instructor.getCourse(), instructor.getName(), instructor.getEmail(), "");
             student.setTeam(new Team(null, Const.USER_TEAM_FOR_INSTRUCTOR));
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return createStudentResult(feedbackSession, student, true, questionUuid, isPreviewResults, isStreaming);
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getSqlStudentOfCourseFromRequest(courseId);
 
-            bundle = sqlLogic.getSessionResultsForUser(feedbackSession, courseId, student.getEmail(),
-                    false, questionUuid, isPreviewResults);
-
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            if (isSnapshotsEnabled && questionUuid == null && !isPreviewResults && feedbackSession.isPublished()) {
+                SessionResultsSnapshot snapshot = sqlLogic.getSessionResultsSnapshot(feedbackSession, student.getEmail());
+                // a snapshot computed before the latest change to the course may have been stored after the change
+                if (snapshot != null && snapshot.getCourseVersion() == sqlLogic.getCourseVersion(courseId)) {
+                    return new SessionResultsSnapshotResult(snapshot.getData());
+                }
+            }
+            return createStudentResult(feedbackSession, student, false, questionUuid, isPreviewResults, isStreaming);
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -222,4 +250,92 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    private ActionResult createInstructorResult(FeedbackSession feedbackSession, String instructorEmail,
+            UUID questionUuid, String selectedSection, FeedbackResultFetchType fetchType, boolean isStreaming) {
+        SessionResultsCache.Key cacheKey = getCacheKey(feedbackSession, Intent.FULL_DETAIL, instructorEmail,
+                questionUuid, selectedSection, fetchType, false);
+        return createResult(cacheKey,
+                () -> sqlLogic.getSessionResultsForCourse(feedbackSession, feedbackSession.getCourseId(),
+                        instructorEmail, questionUuid, selectedSection, fetchType),
+                SessionResultsData::forEachQuestionForInstructor, isStreaming);
+    }
+
+    /**
+     * Creates a page of the results, which is neither cached nor streamed as it is already bounded in size.
+     */
+    private JsonResult createInstructorResultPage(FeedbackSession feedbackSession, String instructorEmail,
+            UUID questionUuid, String selectedSection, FeedbackResultFetchType fetchType) {
+        long pageSize = getLongRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidHttpParameterException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String cursorToken = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_CURSOR);
+        SessionResultsCursor cursor = null;
+        if (cursorToken != null) {
+            try {
+                cursor = SessionResultsCursor.fromToken(cursorToken);
+            } catch (InvalidParametersException e) {
+                throw new InvalidHttpParameterException(e);
+            }
+        }
+
+        SqlSessionResultsPage page = sqlLogic.getSessionResultsPageForCourse(feedbackSession,
+                feedbackSession.getCourseId(), instructorEmail, questionUuid, selectedSection, fetchType,
+                cursor, (int) pageSize);
+        return new JsonResult(SessionResultsData.initForInstructor(page));
+    }
+
+    private ActionResult createStudentResult(FeedbackSession feedbackSession, Student student, boolean isInstructor,
+            UUID questionUuid, boolean isPreviewResults, boolean isStreaming) {
+        Intent intent = isInstructor ? Intent.INSTRUCTOR_RESULT : Intent.STUDENT_RESULT;
+        SessionResultsCache.Key cacheKey = getCacheKey(feedbackSession, intent, student.getEmail(),
+                questionUuid, null, null, isPreviewResults);
+        return createResult(cacheKey,
+                () -> sqlLogic.getSessionResultsForUser(feedbackSession, feedbackSession.getCourseId(),
+                        student.getEmail(), isInstructor, questionUuid, isPreviewResults),
+                (bundle, consumer) -> SessionResultsData.forEachQuestionForStudent(bundle, student, consumer),
+                isStreaming);
+    }
+
+    /**
+     * Gets the key of the results in the cache, or null if the results should not be cached.
+     */
+    private SessionResultsCache.Key getCacheKey(FeedbackSession feedbackSession, Intent intent, String userEmail,
+            UUID questionUuid, String selectedSection, FeedbackResultFetchType fetchType, boolean isPreviewResults) {
+        // results hardly change once the session is published, unlike results viewed during the session
+        if (!resultsCache.isEnabled() || isPreviewResults || !feedbackSession.isPublished()) {
+            return null;
+        }
+        String courseId = feedbackSession.getCourseId();
+        return new SessionResultsCache.Key(courseId, sqlLogic.getCourseVersion(courseId), feedbackSession.getName(),
+                intent, userEmail, questionUuid == null ? null : questionUuid.toString(), selectedSection, fetchType);
+    }
+
+    /**
+     * Creates the result from the cached question outputs if there is a cache key,
+     * otherwise builds the question outputs from the bundle.
+     */
+    private ActionResult createResult(SessionResultsCache.Key cacheKey, Supplier<SqlSessionResultsBundle> bundleSupplier,
+            BiConsumer<SqlSessionResultsBundle, Consumer<QuestionOutput>> questionsBuilder, boolean isStreaming) {
+        if (cacheKey == null) {
+            SqlSessionResultsBundle bundle = bundleSupplier.get();
+            if (isStreaming) {
+                return new SessionResultsStreamResult(consumer -> questionsBuilder.accept(bundle, consumer));
+            }
+            List<QuestionOutput> questions = new ArrayList<>();
+            questionsBuilder.accept(bundle, questions::add);
+            return new JsonResult(SessionResultsData.fromQuestions(questions));
+        }
+
+        List<QuestionOutput> questions = resultsCache.get(cacheKey, () -> {
+            List<QuestionOutput> builtQuestions = new ArrayList<>();
+            questionsBuilder.accept(bundleSupplier.get(), builtQuestions::add);
+            return builtQuestions;
+        });
+        if (isStreaming) {
+            return new SessionResultsStreamResult(questions::forEach);
+        }
+        return new JsonResult(SessionResultsData.fromQuestions(questions));
+    }
+
 }
@@ -0,0 +1,60 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Downloads the results of a feedback session as a CSV file, including comments and missing responses.
+ *
+ * <p>Supports the same section and fetch type filters as {@link GetSessionResultsAction}.
+ */
+public class GetSessionResultsCsvAction extends Action {
+
+    /**
+     * Maximum number of responses held in memory while the file is being written.
+     */
+    static final int RESULTS_PART_SIZE = 500;
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        if (!isCourseMigrated(courseId)) {
+            throw new InvalidHttpParameterException("Results download is only available for migrated courses");
+        }
+
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        gateKeeper.verifyLoggedInUserPrivileges(userInfo);
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(courseId, userInfo.getId());
+        gateKeeper.verifyAccessible(instructor, feedbackSession);
+    }
+
+    @Override
+    public ActionResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        FeedbackResultFetchType fetchType = FeedbackResultFetchType.parseFetchType(
+                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER));
+
+        String instructorEmail = sqlLogic.getInstructorByGoogleId(courseId, userInfo.getId()).getEmail();
+        String fileName = (courseId + "_" + feedbackSessionName).replaceAll("[^A-Za-z0-9._-]", "_") + ".csv";
+
+        // the file is written in the read-only transaction of the action, before the response is sent
+        FeedbackSession feedbackSession = sqlLogic.getFeedbackSession(feedbackSessionName, courseId);
+        return new SessionResultsCsvResult(fileName, consumer ->
+                sqlLogic.forEachSessionResultsPartForCourse(feedbackSession, courseId, instructorEmail,
+                        selectedSection, fetchType, RESULTS_PART_SIZE,
+                        bundle -> SessionResultsData.forEachQuestionForInstructor(bundle, consumer)));
+    }
+
+}
@@ -0,0 +1,59 @@
+package teammates.ui.webapi;
+
+import java.util.UUID;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.SessionResultsStatisticsData;
+
+/**
+ * Gets the statistics of feedback session results for instructors, without the individual responses.
+ *
+ * <p>Supports the same question, section and fetch type filters as {@link GetSessionResultsAction}.
+ */
+public class GetSessionResultsStatisticsAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        if (!isCourseMigrated(courseId)) {
+            throw new InvalidHttpParameterException("Statistics are only available for migrated courses");
+        }
+
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        gateKeeper.verifyLoggedInUserPrivileges(userInfo);
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(courseId, userInfo.getId());
+        gateKeeper.verifyAccessible(instructor, feedbackSession);
+    }
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        UUID questionUuid = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID) == null
+                ? null
+                : getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        FeedbackResultFetchType fetchType = FeedbackResultFetchType.parseFetchType(
+                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER));
+
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(courseId, userInfo.getId());
+
+        SqlSessionResultsBundle bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId,
+                instructor.getEmail(), questionUuid, selectedSection, fetchType);
+        return new JsonResult(SessionResultsStatisticsData.initForInstructor(bundle));
+    }
+
+}
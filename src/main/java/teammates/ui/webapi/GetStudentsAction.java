@@ -57,6 +57,12 @@ public class GetStudentsAction extends Action {
         }
     }
 
+    @Override
+    String getOutputVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        return isCourseMigrated(courseId) ? getCourseOutputVersion(courseId) : null;
+    }
+
     @Override
     public JsonResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
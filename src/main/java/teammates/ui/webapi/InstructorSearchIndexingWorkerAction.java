@@ -5,6 +5,7 @@ import org.apache.http.HttpStatus;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.Instructor;
 
 /**
@@ -27,7 +28,7 @@ public class InstructorSearchIndexingWorkerAction extends AdminOnlyAction {
     private JsonResult executeWithSql(String courseId, String email) {
         Instructor instructor = sqlLogic.getInstructorForEmail(courseId, email);
         try {
-            sqlLogic.putInstructorDocument(instructor);
+            sqlLogic.putInstructorDocumentWithDeferredCommit(instructor);
         } catch (SearchServiceException e) {
             // Set an arbitrary retry code outside the range 200-299 to trigger automatic retry
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
@@ -47,4 +48,10 @@ public class InstructorSearchIndexingWorkerAction extends AdminOnlyAction {
 
         return new JsonResult("Successful");
     }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -25,6 +25,7 @@ public class JsonResult extends ActionResult {
 
     private final ApiOutput output;
     private List<Cookie> cookies;
+    private String entityTag;
 
     public JsonResult(ApiOutput output) {
         super(HttpStatus.SC_OK);
@@ -58,6 +59,9 @@ public class JsonResult extends ActionResult {
             cookie.setSecure(!Config.IS_DEV_SERVER);
             resp.addCookie(cookie);
         }
+        if (entityTag != null) {
+            NotModifiedResult.setEntityTagHeaders(resp, entityTag);
+        }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
@@ -68,4 +72,16 @@ public class JsonResult extends ActionResult {
         return cookies;
     }
 
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    /**
+     * Sets the entity tag of the output, which is sent in the {@code ETag} header so that the client
+     * can ask for the output again only if it has changed.
+     */
+    public void setEntityTag(String entityTag) {
+        this.entityTag = entityTag;
+    }
+
 }
@@ -0,0 +1,42 @@
+package teammates.ui.webapi;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.Const;
+
+/**
+ * Action result telling the client that the output it already has, as identified by an entity tag,
+ * is still up to date. No body is sent.
+ */
+public class NotModifiedResult extends ActionResult {
+
+    private final String entityTag;
+
+    public NotModifiedResult(String entityTag) {
+        super(HttpStatus.SC_NOT_MODIFIED);
+        this.entityTag = entityTag;
+    }
+
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) {
+        setEntityTagHeaders(resp, entityTag);
+        resp.setStatus(getStatusCode());
+    }
+
+    /**
+     * Sets the entity tag of a response, and allows the client to keep the response
+     * as long as it checks with the server before using it again.
+     */
+    static void setEntityTagHeaders(HttpServletResponse resp, String entityTag) {
+        resp.setHeader(Const.HeaderNames.ETAG, entityTag);
+        // overrides the default of not storing responses at all
+        resp.setHeader("Cache-Control", "private, no-cache");
+    }
+
+}
@@ -6,6 +6,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackSession;
@@ -66,6 +67,9 @@ public class PublishFeedbackSessionAction extends Action {
             if (publishFeedbackSession.isPublishedEmailEnabled()) {
                 taskQueuer.scheduleFeedbackSessionPublishedEmail(courseId, feedbackSessionName);
             }
+            if (Config.RESULTS_SNAPSHOTS_ENABLED) {
+                taskQueuer.scheduleFeedbackSessionResultsSnapshots(courseId, feedbackSessionName);
+            }
 
             return new JsonResult(new FeedbackSessionData(publishFeedbackSession));
         } catch (EntityDoesNotExistException e) {
@@ -4,6 +4,7 @@ import org.apache.http.HttpStatus;
 
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Workload;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.request.SendEmailRequest;
 
@@ -24,4 +25,9 @@ public class SendEmailWorkerAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
@@ -0,0 +1,177 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.logs.CacheStatsLogDetails;
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+import teammates.ui.request.Intent;
+
+/**
+ * Caches the question outputs of session results in the memory of this instance,
+ * so that results viewed repeatedly are not rebuilt for every request.
+ *
+ * <p>Cached results are looked up with the version of the course they were built from,
+ * and are therefore not served any more once the course data has changed.
+ *
+ * <p>The size of the cache is bounded by the total number of responses of the cached results,
+ * as configured by {@link Config#RESULTS_CACHE_MAX_RESPONSES}. If it is not positive, the cache is disabled.
+ */
+final class SessionResultsCache {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Bounds the staleness of cached results built while the course data was being changed by other requests.
+     */
+    private static final Duration EXPIRY = Duration.ofMinutes(10);
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private static final SessionResultsCache instance = new SessionResultsCache(Config.RESULTS_CACHE_MAX_RESPONSES);
+
+    private final Cache<Key, List<QuestionOutput>> cache;
+    private final AtomicLong lastStatsLogTime = new AtomicLong(System.currentTimeMillis());
+
+    SessionResultsCache(long maxResponses) {
+        if (maxResponses <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxResponses)
+                .weigher((Key key, List<QuestionOutput> questions) -> getNumberOfResponses(questions))
+                .expireAfterWrite(EXPIRY)
+                .recordStats()
+                .build();
+    }
+
+    static SessionResultsCache inst() {
+        return instance;
+    }
+
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Gets the cached question outputs of the given key, or builds and caches them if they are not cached.
+     */
+    List<QuestionOutput> get(Key key, Supplier<List<QuestionOutput>> questionsBuilder) {
+        if (cache == null) {
+            return questionsBuilder.get();
+        }
+
+        List<QuestionOutput> questions = cache.getIfPresent(key);
+        if (questions == null) {
+            questions = Collections.unmodifiableList(questionsBuilder.get());
+            cache.put(key, questions);
+        }
+
+        logStatsIfDue();
+        return questions;
+    }
+
+    /**
+     * Gets the hit and eviction statistics of the cache since this instance was started.
+     */
+    CacheStats getStats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : cache.stats();
+    }
+
+    private void logStatsIfDue() {
+        long lastLogTime = lastStatsLogTime.get();
+        long now = System.currentTimeMillis();
+        if (now - lastLogTime < STATS_LOG_INTERVAL_MILLIS || !lastStatsLogTime.compareAndSet(lastLogTime, now)) {
+            return;
+        }
+
+        CacheStats stats = cache.stats();
+        CacheStatsLogDetails details = new CacheStatsLogDetails();
+        details.setCacheName("session-results");
+        details.setRequestCount(stats.requestCount());
+        details.setHitCount(stats.hitCount());
+        details.setHitRate(stats.hitRate());
+        details.setEvictionCount(stats.evictionCount());
+        details.setEntryCount(cache.size());
+        log.event("Session results cache statistics", details);
+    }
+
+    private static int getNumberOfResponses(List<QuestionOutput> questions) {
+        // every question counts as a response, so that results without responses still take up space
+        int numberOfResponses = questions.size();
+        for (QuestionOutput question : questions) {
+            numberOfResponses += question.getAllResponses().size() + question.getResponsesToSelf().size()
+                    + question.getResponsesFromSelf().size();
+            for (List<?> otherResponses : question.getOtherResponses()) {
+                numberOfResponses += otherResponses.size();
+            }
+        }
+        return numberOfResponses;
+    }
+
+    /**
+     * Identifies the results of a session as viewed by a user with a set of filters.
+     */
+    static final class Key {
+
+        private final String courseId;
+        private final long courseVersion;
+        private final String feedbackSessionName;
+        private final Intent intent;
+        private final String userEmail;
+        private final String questionId;
+        private final String sectionName;
+        private final FeedbackResultFetchType fetchType;
+
+        Key(String courseId, long courseVersion, String feedbackSessionName, Intent intent, String userEmail,
+                String questionId, String sectionName, FeedbackResultFetchType fetchType) {
+            this.courseId = courseId;
+            this.courseVersion = courseVersion;
+            this.feedbackSessionName = feedbackSessionName;
+            this.intent = intent;
+            this.userEmail = userEmail;
+            this.questionId = questionId;
+            this.sectionName = sectionName;
+            this.fetchType = fetchType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return courseVersion == otherKey.courseVersion
+                    && courseId.equals(otherKey.courseId)
+                    && feedbackSessionName.equals(otherKey.feedbackSessionName)
+                    && intent == otherKey.intent
+                    && userEmail.equals(otherKey.userEmail)
+                    && Objects.equals(questionId, otherKey.questionId)
+                    && Objects.equals(sectionName, otherKey.sectionName)
+                    && fetchType == otherKey.fetchType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, courseVersion, feedbackSessionName, intent, userEmail,
+                    questionId, sectionName, fetchType);
+        }
+
+    }
+
+}
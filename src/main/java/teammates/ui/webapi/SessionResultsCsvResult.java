@@ -0,0 +1,147 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultsData.CommentOutput;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+import teammates.ui.output.SessionResultsData.ResponseOutput;
+
+/**
+ * Action result in form of a CSV file of session results, with one row for every response.
+ *
+ * <p>The rows are written one question output at a time into a compressed buffer when the result is created,
+ * i.e. within the transaction of the action, so that a failure in between results in an error response
+ * instead of a truncated file. Besides the buffer, only the output of the question being written is held in memory
+ * at any point of time.
+ */
+class SessionResultsCsvResult extends ActionResult {
+
+    static final List<String> HEADER = List.of("Question Number", "Question", "Giver's Team", "Giver's Full Name",
+            "Giver's Email", "Recipient's Team", "Recipient's Full Name", "Recipient's Email", "Response", "Comments");
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Values which spreadsheet applications would evaluate as formulas, unless they are plain numbers.
+     */
+    private static final Pattern FORMULA_PATTERN = Pattern.compile("^[=+\\-@\\t\\r].*", Pattern.DOTALL);
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("^[+-]?\\d+(\\.\\d+)?$");
+
+    private final String fileName;
+    private final byte[] csvData;
+
+    /**
+     * Creates the result with a producer that passes every question output, in order, to the given consumer.
+     * The outputs of a question may be split across several question outputs.
+     */
+    SessionResultsCsvResult(String fileName, Consumer<Consumer<QuestionOutput>> questionsProducer) {
+        super(HttpStatus.SC_OK);
+        this.fileName = fileName;
+        this.csvData = createCsvData(questionsProducer);
+    }
+
+    private static byte[] createCsvData(Consumer<Consumer<QuestionOutput>> questionsProducer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), Const.ENCODING)) {
+            writeRow(writer, HEADER);
+            questionsProducer.accept(questionOutput -> {
+                String questionNumber = String.valueOf(questionOutput.getFeedbackQuestion().getQuestionNumber());
+                String questionBrief = questionOutput.getFeedbackQuestion().getQuestionBrief();
+                for (ResponseOutput response : questionOutput.getAllResponses()) {
+                    writeRow(writer, List.of(questionNumber, questionBrief,
+                            nullToEmpty(response.getGiverTeam()), nullToEmpty(response.getGiver()),
+                            nullToEmpty(response.getGiverEmail()), nullToEmpty(response.getRecipientTeam()),
+                            nullToEmpty(response.getRecipient()), nullToEmpty(response.getRecipientEmail()),
+                            response.getResponseDetails().getAnswerString(), getCommentsOfResponse(response)));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType("text/csv");
+        resp.setCharacterEncoding(Const.ENCODING.name());
+        resp.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        PrintWriter writer = resp.getWriter();
+        try (Reader csv = new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(csvData)), Const.ENCODING)) {
+            csv.transferTo(writer);
+        }
+        writer.flush();
+    }
+
+    private static String getCommentsOfResponse(ResponseOutput response) {
+        List<String> comments = new ArrayList<>();
+        if (response.getParticipantComment() != null) {
+            comments.add(getComment(response.getParticipantComment()));
+        }
+        if (response.getInstructorComments() != null) {
+            for (CommentOutput comment : response.getInstructorComments()) {
+                comments.add(getComment(comment));
+            }
+        }
+        return String.join("\n", comments);
+    }
+
+    private static String getComment(CommentOutput comment) {
+        return nullToEmpty(comment.getCommentGiverName()) + ": " + nullToEmpty(comment.getCommentText());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static void writeRow(Writer writer, List<String> values) {
+        try {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values.get(i)));
+            }
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escapes a value as a CSV field as described in RFC 4180.
+     *
+     * <p>A value which a spreadsheet application would evaluate as a formula is prefixed with a single quote,
+     * so that it is shown as text instead.
+     */
+    static String escape(String value) {
+        String field = FORMULA_PATTERN.matcher(value).matches() && !NUMBER_PATTERN.matcher(value).matches()
+                ? "'" + value : value;
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+
+}
@@ -0,0 +1,83 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * Action result in form of a {@link teammates.ui.output.SessionResultsData} JSON object
+ * whose questions are taken from a stored {@link teammates.storage.sqlentity.SessionResultsSnapshot}.
+ *
+ * <p>The produced JSON is identical to the one produced by {@link JsonResult}.
+ */
+class SessionResultsSnapshotResult extends ActionResult {
+
+    private final byte[] snapshotData;
+
+    /**
+     * Creates the result with the data of a snapshot, as created by {@link #createSnapshotData(Consumer)}.
+     */
+    SessionResultsSnapshotResult(byte[] snapshotData) {
+        super(HttpStatus.SC_OK);
+        this.snapshotData = snapshotData;
+    }
+
+    /**
+     * Creates the data of a snapshot, i.e. the gzip-compressed JSON array of the question outputs.
+     *
+     * @param questionsProducer passes every question output, in order, to the given consumer
+     */
+    static byte[] createSnapshotData(Consumer<Consumer<QuestionOutput>> questionsProducer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JsonWriter(
+                new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8))) {
+            writer.beginArray();
+            questionsProducer.accept(questionOutput ->
+                    JsonUtils.toCompactJson(questionOutput, QuestionOutput.class, writer));
+            writer.endArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+
+        PrintWriter writer = resp.getWriter();
+        writer.write("{\"questions\":");
+        try (Reader questions = new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(snapshotData)), StandardCharsets.UTF_8)) {
+            questions.transferTo(writer);
+        }
+
+        String requestId = RequestTracer.getTraceId();
+        if (requestId != null) {
+            writer.write(",\"requestId\":" + JsonUtils.toCompactJson(requestId));
+        }
+        writer.write("}");
+        writer.flush();
+    }
+
+}
@@ -0,0 +1,90 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * Action result in form of a {@link teammates.ui.output.SessionResultsData} JSON object
+ * which is written to the HTTP response one question at a time.
+ *
+ * <p>The produced JSON is identical to the one produced by {@link JsonResult}, but only the output
+ * of the question being written is held in memory at any point of time.
+ *
+ * <p>The question outputs are built while the result is sent, so the result is sent within the transaction
+ * of the action. If building a question fails after part of the response has been sent, the questions array
+ * is closed and followed by an {@code error} field, so that the client can tell the results are incomplete.
+ */
+class SessionResultsStreamResult extends ActionResult {
+
+    private static final String ERROR_MESSAGE = "The server encountered an error when processing your request.";
+
+    private final Consumer<Consumer<QuestionOutput>> questionsProducer;
+
+    /**
+     * Creates the result with a producer that passes every question output, in order, to the given consumer.
+     */
+    SessionResultsStreamResult(Consumer<Consumer<QuestionOutput>> questionsProducer) {
+        super(HttpStatus.SC_OK);
+        this.questionsProducer = questionsProducer;
+    }
+
+    @Override
+    public boolean isSentInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+
+        JsonWriter writer = new JsonWriter(resp.getWriter());
+        writer.beginObject();
+        writer.name("questions");
+        writer.beginArray();
+        try {
+            questionsProducer.accept(questionOutput -> writeQuestion(writer, questionOutput));
+        } catch (UncheckedIOException e) {
+            // the response cannot be written to any more
+            throw e;
+        } catch (RuntimeException e) {
+            writer.endArray();
+            writer.name("error").value(ERROR_MESSAGE);
+            writer.endObject();
+            writer.flush();
+            throw e;
+        }
+        writer.endArray();
+
+        String requestId = RequestTracer.getTraceId();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        writer.endObject();
+        writer.flush();
+    }
+
+    /**
+     * Writes a question output as a whole, so that a failure never leaves a question partially written.
+     */
+    private static void writeQuestion(JsonWriter writer, QuestionOutput questionOutput) {
+        String questionJson = JsonUtils.toCompactJson(questionOutput);
+        try {
+            writer.jsonValue(questionJson);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
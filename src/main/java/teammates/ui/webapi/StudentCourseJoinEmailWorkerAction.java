@@ -4,6 +4,7 @@ import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Student;
 
@@ -55,4 +56,9 @@ public class StudentCourseJoinEmailWorkerAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
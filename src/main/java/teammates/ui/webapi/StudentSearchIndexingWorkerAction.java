@@ -5,6 +5,7 @@ import org.apache.http.HttpStatus;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Workload;
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -40,7 +41,7 @@ public class StudentSearchIndexingWorkerAction extends AdminOnlyAction {
     private ActionResult executeWithSql(String courseId, String email) {
         Student student = sqlLogic.getStudentForEmail(courseId, email);
         try {
-            sqlLogic.putStudentDocument(student);
+            sqlLogic.putStudentDocumentWithDeferredCommit(student);
         } catch (SearchServiceException e) {
             // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
@@ -48,4 +49,10 @@ public class StudentSearchIndexingWorkerAction extends AdminOnlyAction {
 
         return new JsonResult("Successful");
     }
+
+    @Override
+    public Workload getWorkload() {
+        return Workload.BACKGROUND;
+    }
+
 }
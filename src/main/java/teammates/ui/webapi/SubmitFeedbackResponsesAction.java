@@ -2,8 +2,11 @@ package teammates.ui.webapi;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -231,17 +234,28 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         List<FeedbackResponse> feedbackResponsesToValidate = new ArrayList<>();
         List<FeedbackResponse> feedbackResponsesToAdd = new ArrayList<>();
         List<FeedbackResponse> feedbackResponsesToUpdate = new ArrayList<>();
+        Set<FeedbackResponse> feedbackResponsesUnchanged = new HashSet<>();
+
+        Map<String, Section> recipientSections = getRecipientSections(feedbackQuestion.getCourseId(),
+                feedbackQuestion.getGiverType(), feedbackQuestion.getRecipientType(),
+                submitRequest.getResponses().stream()
+                        .map(responseRequest -> responseRequest.getRecipient())
+                        .collect(Collectors.toSet()));
 
         submitRequest.getResponses().forEach(responseRequest -> {
             String recipient = responseRequest.getRecipient();
             FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
+            Section recipientSection = recipientSections.get(recipient);
 
             if (existingResponsesPerRecipient.containsKey(recipient)) {
-                Section recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-
                 FeedbackResponse existingFeedbackResponse = existingResponsesPerRecipient.get(recipient);
+                if (isResponseUnchanged(existingFeedbackResponse, giverSection, recipientSection, responseDetails)) {
+                    feedbackResponsesToValidate.add(existingFeedbackResponse);
+                    feedbackResponsesToUpdate.add(existingFeedbackResponse);
+                    feedbackResponsesUnchanged.add(existingFeedbackResponse);
+                    return;
+                }
+
                 FeedbackResponse updatedFeedbackResponse = FeedbackResponse.updateResponse(
                         existingFeedbackResponse,
                         feedbackQuestion,
@@ -259,9 +273,7 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
                         giverIdentifier,
                         giverSection,
                         recipient,
-                        getRecipientSection(feedbackQuestion.getCourseId(),
-                            feedbackQuestion.getGiverType(),
-                            feedbackQuestion.getRecipientType(), recipient),
+                        recipientSection,
                         responseDetails
                     );
 
@@ -310,6 +322,11 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         }
 
         for (FeedbackResponse feedbackResponse : feedbackResponsesToUpdate) {
+            if (feedbackResponsesUnchanged.contains(feedbackResponse)) {
+                // kept in place so that the responses are returned in the same order as when all are updated
+                output.add(feedbackResponse);
+                continue;
+            }
             try {
                 output.add(sqlLogic.updateFeedbackResponseCascade(feedbackResponse));
             } catch (InvalidParametersException | EntityDoesNotExistException e) {
@@ -321,6 +338,18 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         return new JsonResult(FeedbackResponsesData.createFromEntity(output));
     }
 
+    /**
+     * Checks whether submitting the given values for an existing response would leave it unchanged,
+     * in which case the response does not need to be written again.
+     */
+    private static boolean isResponseUnchanged(FeedbackResponse existingResponse, Section giverSection,
+            Section recipientSection, FeedbackResponseDetails responseDetails) {
+        return Objects.equals(existingResponse.getGiverSection(), giverSection)
+                && Objects.equals(existingResponse.getRecipientSection(), recipientSection)
+                && existingResponse.getFeedbackResponseDetailsCopy().getJsonString()
+                        .equals(responseDetails.getJsonString());
+    }
+
     private JsonResult handleDataStoreExecute(FeedbackQuestionAttributes feedbackQuestion)
             throws InvalidHttpRequestBodyException, InvalidOperationException {
         List<FeedbackResponseAttributes> existingResponses;
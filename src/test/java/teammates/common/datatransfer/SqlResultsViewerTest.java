@@ -0,0 +1,80 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SqlResultsViewer}.
+ */
+public class SqlResultsViewerTest extends BaseTestCase {
+
+    private Student student1InTeam1;
+    private Student student2InTeam1;
+    private Student student1InTeam2;
+    private Instructor instructor;
+    private SqlCourseRoster roster;
+
+    @BeforeMethod
+    public void setUp() {
+        Course course = getTypicalCourse();
+        Section section = new Section(course, "section");
+        Team team1 = new Team(section, "team 1");
+        Team team2 = new Team(section, "team 2");
+        student1InTeam1 = new Student(course, "student 1", "student1@teammates.tmt", "", team1);
+        student2InTeam1 = new Student(course, "student 2", "student2@teammates.tmt", "", team1);
+        student1InTeam2 = new Student(course, "student 3", "student3@teammates.tmt", "", team2);
+        instructor = getTypicalInstructor();
+        roster = new SqlCourseRoster(List.of(student1InTeam1, student2InTeam1, student1InTeam2), List.of(instructor));
+    }
+
+    @Test
+    public void testStudentViewer() {
+        SqlResultsViewer viewer = new SqlResultsViewer(student1InTeam1.getEmail(), false, student1InTeam1, roster);
+
+        ______TS("membership in the course");
+        assertFalse(viewer.isInstructor());
+        assertFalse(viewer.isInstructorInCourse());
+        assertTrue(viewer.isStudentInCourse());
+        assertEquals(student1InTeam1, viewer.getStudent());
+        assertEquals(Set.of(student1InTeam1.getEmail(), student2InTeam1.getEmail()), viewer.getTeamMemberEmails());
+
+        ______TS("membership in teams");
+        assertTrue(viewer.isInTeam("team 1"));
+        assertFalse(viewer.isInTeam("team 2"));
+        assertTrue(viewer.isInSameTeamAs(student1InTeam1.getEmail()));
+        assertTrue(viewer.isInSameTeamAs(student2InTeam1.getEmail()));
+        assertFalse(viewer.isInSameTeamAs(student1InTeam2.getEmail()));
+        assertFalse(viewer.isInSameTeamAs("unknown@teammates.tmt"));
+    }
+
+    @Test
+    public void testInstructorViewer() {
+        SqlResultsViewer viewer = new SqlResultsViewer(instructor.getEmail(), true, null, roster);
+
+        ______TS("membership in the course");
+        assertTrue(viewer.isInstructor());
+        assertTrue(viewer.isInstructorInCourse());
+        assertFalse(viewer.isStudentInCourse());
+        assertNull(viewer.getStudent());
+        assertTrue(viewer.getTeamMemberEmails().isEmpty());
+
+        ______TS("membership in teams");
+        assertFalse(viewer.isInTeam("team 1"));
+        assertFalse(viewer.isInSameTeamAs(student1InTeam1.getEmail()));
+
+        ______TS("instructor of another course");
+        viewer = new SqlResultsViewer("other-instructor@teammates.tmt", true, null, roster);
+        assertFalse(viewer.isInstructorInCourse());
+    }
+
+}
@@ -83,7 +83,8 @@ public class SqlSessionResultsBundleTest extends BaseTestCase {
 
         ______TS("Test question having missing responses");
         FeedbackQuestion fq = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
-        List<FeedbackResponse> missingResponses = bundle.getQuestionMissingResponseMap().get(fq);
+        List<FeedbackResponse> missingResponses = new ArrayList<>();
+        bundle.getQuestionMissingResponseMap().get(fq).forEach(missingResponses::add);
         assertEquals(2, missingResponses.size());
         List<String> missingResponsesString = new ArrayList<>();
         missingResponsesString.add(missingResponses.get(0).toString());
@@ -92,8 +93,7 @@ public class SqlSessionResultsBundleTest extends BaseTestCase {
 
         ______TS("Test question having no missing responses");
         fq = responseBundle.feedbackQuestions.get("qn4InSession1InCourse1");
-        missingResponses = bundle.getQuestionMissingResponseMap().get(fq);
-        assertEquals(0, missingResponses.size());
+        assertFalse(bundle.getQuestionMissingResponseMap().get(fq).iterator().hasNext());
     }
 
     @Test
@@ -1,5 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.test.BaseTestCase;
@@ -39,4 +42,30 @@ public class FeedbackQuestionDetailsTest extends BaseTestCase {
         assertEquals(ftqd1, ftqd2);
 
     }
+
+    @Test
+    public void testGetDeepCopy() {
+
+        ______TS("Copy should have the same attributes");
+        FeedbackRubricQuestionDetails frqd = new FeedbackRubricQuestionDetails("rubric question");
+        frqd.setRubricChoices(new ArrayList<>(List.of("choice 1", "choice 2")));
+        frqd.setRubricDescriptions(new ArrayList<>(List.of(
+                new ArrayList<>(List.of("description 1", "description 2")))));
+        FeedbackRubricQuestionDetails frqdDeep = (FeedbackRubricQuestionDetails) frqd.getDeepCopy();
+        assertEquals(frqd, frqdDeep);
+        assertEquals(frqd.getJsonString(), frqdDeep.getJsonString());
+
+        ______TS("Changes to the original should not be reflected in the copy");
+        frqd.getRubricChoices().add("choice 3");
+        frqd.getRubricDescriptions().get(0).set(0, "updated description");
+        assertEquals(List.of("choice 1", "choice 2"), frqdDeep.getRubricChoices());
+        assertEquals(List.of("description 1", "description 2"), frqdDeep.getRubricDescriptions().get(0));
+
+        ______TS("Question type variant should be preserved");
+        FeedbackConstantSumQuestionDetails fcsqd = new FeedbackConstantSumQuestionDetails("const sum question");
+        fcsqd.setQuestionType(FeedbackQuestionType.CONSTSUM_RECIPIENTS);
+        assertEquals(FeedbackQuestionType.CONSTSUM_RECIPIENTS, fcsqd.getDeepCopy().getQuestionType());
+        assertEquals(fcsqd, fcsqd.getDeepCopy());
+
+    }
 }
@@ -1,5 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.test.BaseTestCase;
@@ -18,4 +21,19 @@ public class FeedbackResponseDetailsTest extends BaseTestCase {
         assertEquals("updated", frd.getAnswerString());
         assertEquals("original", frdDeep.getAnswerString());
     }
+
+    @Test
+    public void testGetDeepCopy_listAnswers_shouldNotShareLists() {
+        FeedbackMsqResponseDetails frd = new FeedbackMsqResponseDetails();
+        frd.setAnswers(new ArrayList<>(List.of("option 1", "option 2")));
+        frd.setOther(true);
+        frd.setOtherFieldContent("other");
+        FeedbackMsqResponseDetails frdDeep = (FeedbackMsqResponseDetails) frd.getDeepCopy();
+        frd.getAnswers().add("option 3");
+
+        assertEquals(List.of("option 1", "option 2"), frdDeep.getAnswers());
+        assertTrue(frdDeep.isOther());
+        assertEquals("other", frdDeep.getOtherFieldContent());
+        assertEquals(FeedbackQuestionType.MSQ, frdDeep.getQuestionType());
+    }
 }
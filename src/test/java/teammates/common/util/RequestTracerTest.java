@@ -0,0 +1,99 @@
+package teammates.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestTracer}.
+ */
+public class RequestTracerTest extends BaseTestCase {
+
+    // the request information is kept per thread, so requests are simulated on separate threads
+    // to avoid leaving a request behind on the thread running the tests
+    private ExecutorService requestThread;
+    private ExecutorService workerThread;
+
+    @BeforeClass
+    public void setUpExecutors() {
+        requestThread = Executors.newSingleThreadExecutor();
+        workerThread = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterClass
+    public void tearDownExecutors() {
+        requestThread.shutdownNow();
+        workerThread.shutdownNow();
+    }
+
+    @Test
+    public void testWithCurrentRequest() throws Exception {
+        ______TS("task run on another thread sees the request it was created in");
+
+        String traceId = requestThread.submit(() -> {
+            RequestTracer.init("trace-id", "span-id", 60);
+            return workerThread.submit(RequestTracer.withCurrentRequest(RequestTracer::getTraceId)).get();
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals("trace-id", traceId);
+
+        ______TS("request is not left behind on the other thread");
+
+        assertNull(workerThread.submit(RequestTracer::getTraceId).get(10, TimeUnit.SECONDS));
+
+        ______TS("task run on another thread fails once the request times out");
+
+        Class<?> exceptionType = requestThread.submit(() -> {
+            RequestTracer.init("trace-id", "span-id", -1);
+            try {
+                workerThread.submit(RequestTracer.withCurrentRequest(() -> {
+                    RequestTracer.checkRemainingTime();
+                    return null;
+                })).get();
+                return null;
+            } catch (ExecutionException e) {
+                return e.getCause().getClass();
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(DeadlineExceededException.class, exceptionType);
+    }
+
+    @Test
+    public void testWaitForResult() throws Exception {
+        ______TS("result is returned when the task completes in time");
+
+        String result = requestThread.submit(() -> {
+            RequestTracer.init("trace-id", "span-id", 60);
+            return RequestTracer.waitForResult(CompletableFuture.completedFuture("result"));
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals("result", result);
+
+        ______TS("task is cancelled when the request times out first");
+
+        CompletableFuture<String> neverCompleted = new CompletableFuture<>();
+        Class<?> exceptionType = requestThread.submit(() -> {
+            RequestTracer.init("trace-id", "span-id", -1);
+            try {
+                RequestTracer.waitForResult(neverCompleted);
+                return null;
+            } catch (DeadlineExceededException e) {
+                return e.getClass();
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(DeadlineExceededException.class, exceptionType);
+        assertTrue(neverCompleted.isCancelled());
+    }
+
+}
@@ -42,7 +42,8 @@ public class AccountsLogicTest extends BaseTestCase {
         accountsDb = mock(AccountsDb.class);
         notificationsLogic = mock(NotificationsLogic.class);
         usersLogic = mock(UsersLogic.class);
-        accountsLogic.initLogicDependencies(accountsDb, notificationsLogic, usersLogic, coursesLogic);
+        accountsLogic.initLogicDependencies(accountsDb, notificationsLogic, usersLogic, coursesLogic,
+                mock(CourseVersionsLogic.class));
     }
 
     @Test
@@ -44,7 +44,7 @@ public class CoursesLogicTest extends BaseTestCase {
         coursesDb = mock(CoursesDb.class);
         fsLogic = mock(FeedbackSessionsLogic.class);
         usersLogic = mock(UsersLogic.class);
-        coursesLogic.initLogicDependencies(coursesDb, fsLogic, usersLogic);
+        coursesLogic.initLogicDependencies(coursesDb, fsLogic, usersLogic, mock(CourseVersionsLogic.class));
     }
 
     @Test
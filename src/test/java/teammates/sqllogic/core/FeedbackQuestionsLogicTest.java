@@ -39,7 +39,9 @@ public class FeedbackQuestionsLogicTest extends BaseTestCase {
         usersLogic = mock(UsersLogic.class);
         FeedbackResponsesLogic frLogic = mock(FeedbackResponsesLogic.class);
         FeedbackSessionsLogic feedbackSessionsLogic = mock(FeedbackSessionsLogic.class);
-        fqLogic.initLogicDependencies(fqDb, coursesLogic, frLogic, usersLogic, feedbackSessionsLogic);
+        CourseVersionsLogic courseVersionsLogic = mock(CourseVersionsLogic.class);
+        fqLogic.initLogicDependencies(fqDb, coursesLogic, frLogic, usersLogic, feedbackSessionsLogic,
+                courseVersionsLogic);
     }
 
     @Test
@@ -18,6 +18,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.Section;
 import teammates.test.BaseTestCase;
 import teammates.ui.output.CommentVisibilityType;
 import teammates.ui.request.FeedbackResponseCommentUpdateRequest;
@@ -32,11 +33,13 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
     private static final UUID TYPICAL_UUID = UUID.randomUUID();
     private FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private FeedbackResponseCommentsDb frcDb;
+    private CourseVersionsLogic courseVersionsLogic;
 
     @BeforeMethod
     public void setUpMethod() {
         frcDb = mock(FeedbackResponseCommentsDb.class);
-        frcLogic.initLogicDependencies(frcDb);
+        courseVersionsLogic = mock(CourseVersionsLogic.class);
+        frcLogic.initLogicDependencies(frcDb, courseVersionsLogic);
     }
 
     @Test
@@ -87,11 +90,12 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
     @Test
     public void testCreateComment_commentDoesNotExist_success()
             throws InvalidParametersException, EntityAlreadyExistsException {
-        FeedbackResponseComment comment = getTypicalResponseComment(TYPICAL_ID);
+        FeedbackResponseComment comment = getTypicalResponseCommentForResponse(TYPICAL_ID);
 
         frcLogic.createFeedbackResponseComment(comment);
 
         verify(frcDb, times(1)).createFeedbackResponseComment(comment);
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(getTypicalCourse().getId());
     }
 
     @Test
@@ -122,12 +126,25 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
 
         verify(frcDb, times(1)).updateGiverEmailOfFeedbackResponseComments(courseId, oldEmail, newEmail);
         verify(frcDb, times(1)).updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, newEmail);
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(courseId);
+    }
+
+    @Test
+    public void testUpdateCommentsForChangingSection_success() {
+        String courseId = "Course_id";
+        String email = "student@gmail.com";
+        Section newSection = getTypicalSection();
+        frcLogic.updateFeedbackResponseCommentsForChangingSection(courseId, email, newSection);
+
+        verify(frcDb, times(1)).updateGiverSectionOfFeedbackResponseCommentsForCourse(courseId, email, newSection);
+        verify(frcDb, times(1)).updateRecipientSectionOfFeedbackResponseCommentsForCourse(courseId, email, newSection);
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(courseId);
     }
 
     @Test
     public void testUpdateComment_entityAlreadyExists_success()
             throws EntityDoesNotExistException {
-        FeedbackResponseComment comment = getTypicalResponseComment(TYPICAL_ID);
+        FeedbackResponseComment comment = getTypicalResponseCommentForResponse(TYPICAL_ID);
 
         when(frcDb.getFeedbackResponseComment(comment.getId())).thenReturn(comment);
 
@@ -157,6 +174,7 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
         assertEquals(expectedShowCommentTo, updatedComment.getShowCommentTo());
         assertEquals(expectedShowGiverNameTo, updatedComment.getShowGiverNameTo());
         assertEquals(lastEditorEmail, updatedComment.getLastEditorEmail());
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(getTypicalCourse().getId());
     }
 
     @Test
@@ -182,4 +200,10 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
 
         assertEquals("Trying to update a feedback response comment that does not exist.", ex.getMessage());
     }
+
+    private FeedbackResponseComment getTypicalResponseCommentForResponse(Long id) {
+        FeedbackResponseComment comment = getTypicalResponseComment(id);
+        comment.setFeedbackResponse(getTypicalFeedbackResponseComment().getFeedbackResponse());
+        return comment;
+    }
 }
@@ -36,6 +36,8 @@ public class UsersLogicTest extends BaseTestCase {
 
     private UsersDb usersDb;
 
+    private CourseVersionsLogic courseVersionsLogic;
+
     private Instructor instructor;
 
     private Student student;
@@ -51,8 +53,9 @@ public class UsersLogicTest extends BaseTestCase {
         FeedbackResponsesLogic feedbackResponsesLogic = mock(FeedbackResponsesLogic.class);
         FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = mock(FeedbackResponseCommentsLogic.class);
         DeadlineExtensionsLogic deadlineExtensionsLogic = mock(DeadlineExtensionsLogic.class);
+        courseVersionsLogic = mock(CourseVersionsLogic.class);
         usersLogic.initLogicDependencies(usersDb, accountsLogic, feedbackResponsesLogic,
-                feedbackResponseCommentsLogic, deadlineExtensionsLogic);
+                feedbackResponseCommentsLogic, deadlineExtensionsLogic, courseVersionsLogic);
 
         course = new Course("course-id", "course-name", Const.DEFAULT_TIME_ZONE, "institute");
         instructor = getTypicalInstructor();
@@ -82,6 +85,7 @@ public class UsersLogicTest extends BaseTestCase {
 
         assertEquals(null, instructor.getAccount());
         verify(accountsLogic, times(1)).deleteAccountCascade(googleId);
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(courseId);
     }
 
     @Test
@@ -115,6 +119,7 @@ public class UsersLogicTest extends BaseTestCase {
 
         assertNull(student.getAccount());
         verify(accountsLogic, times(1)).deleteAccountCascade(googleId);
+        verify(courseVersionsLogic, times(1)).bumpCourseVersion(courseId);
     }
 
     @Test
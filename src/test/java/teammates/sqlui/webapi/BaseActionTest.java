@@ -88,12 +88,20 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCase {
      * Gets an action with request body and cookie.
      */
     protected T getAction(String body, List<Cookie> cookies, String... params) {
+        return getAction(body, cookies, Map.of(), params);
+    }
+
+    /**
+     * Gets an action with request body, cookie and headers.
+     */
+    protected T getAction(String body, List<Cookie> cookies, Map<String, String> headers, String... params) {
         mockTaskQueuer.clearTasks();
         mockEmailSender.clearEmails();
         MockHttpServletRequest req = new MockHttpServletRequest(getRequestMethod(), getActionUri());
         for (int i = 0; i < params.length; i = i + 2) {
             req.addParam(params[i], params[i + 1]);
         }
+        headers.forEach(req::addHeader);
         if (body != null) {
             req.setBody(body);
         }
@@ -89,10 +89,9 @@ public class FeedbackSessionRemindEmailWorkerActionTest
         when(mockLogic.getInstructorsByCourse(courseId)).thenReturn(instructors);
         when(mockLogic.getInstructorByGoogleId(courseId, instructorGoogleId)).thenReturn(null);
 
-        // Feedback Session not attempted yet by users.
-        when(mockLogic.isFeedbackSessionAttemptedByStudent(session, student.getEmail(), student.getTeamName()))
-                .thenReturn(true);
-        when(mockLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail())).thenReturn(true);
+        // Feedback Session attempted by all users.
+        when(mockLogic.getStudentsYetToAttemptFeedbackSession(session, students)).thenReturn(List.of());
+        when(mockLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors)).thenReturn(List.of());
 
         List<EmailWrapper> emails = List.of();
 
@@ -131,9 +130,8 @@ public class FeedbackSessionRemindEmailWorkerActionTest
         when(mockLogic.getInstructorByGoogleId(courseId, instructorGoogleId)).thenReturn(null);
 
         // Feedback Session not attempted yet by users.
-        when(mockLogic.isFeedbackSessionAttemptedByStudent(session, student.getEmail(), student.getTeamName()))
-                .thenReturn(false);
-        when(mockLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail())).thenReturn(false);
+        when(mockLogic.getStudentsYetToAttemptFeedbackSession(session, students)).thenReturn(students);
+        when(mockLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors)).thenReturn(instructors);
 
         EmailWrapper studentEmail = new EmailWrapper();
         studentEmail.setRecipient(student.getEmail());
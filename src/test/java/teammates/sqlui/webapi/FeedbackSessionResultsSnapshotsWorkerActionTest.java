@@ -0,0 +1,161 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.webapi.FeedbackSessionResultsSnapshotsWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionResultsSnapshotsWorkerAction}.
+ */
+public class FeedbackSessionResultsSnapshotsWorkerActionTest
+        extends BaseActionTest<FeedbackSessionResultsSnapshotsWorkerAction> {
+    private Course course;
+    private FeedbackSession session;
+    private String[] params;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOTS_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        session = new FeedbackSession(
+                "session-name",
+                course,
+                "creater_email@tm.tmt",
+                null,
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-10-01T00:00:00.000Z"),
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-11-01T00:00:00.000Z"),
+                null,
+                false,
+                false,
+                false);
+        params = new String[] {
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+        };
+
+        SqlSessionResultsBundle emptyBundle = new SqlSessionResultsBundle(new ArrayList<>(),
+                new HashSet<>(), new HashSet<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+        when(mockLogic.getSessionResultsForUser(eq(session), eq(course.getId()), anyString(), eq(false), isNull(),
+                eq(false))).thenReturn(emptyBundle);
+
+        loginAsAdmin();
+    }
+
+    @Test
+    public void testExecute_sessionDoesNotExist_failure() {
+        when(mockLogic.getFeedbackSession(session.getName(), course.getId())).thenReturn(null);
+
+        FeedbackSessionResultsSnapshotsWorkerAction action = getAction(params);
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Failure", actionOutput.getMessage());
+        verify(mockLogic, never()).createSessionResultsSnapshot(any());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    public void testExecute_sessionNotPublished_noSnapshotsCreated() {
+        session.setResultsVisibleFromTime(Const.TIME_REPRESENTS_LATER);
+        when(mockLogic.getFeedbackSession(session.getName(), course.getId())).thenReturn(session);
+
+        FeedbackSessionResultsSnapshotsWorkerAction action = getAction(params);
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic, never()).createSessionResultsSnapshot(any());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    public void testExecute_someSnapshotsExist_snapshotsCreatedForRemainingStudents() {
+        Student student1 = new Student(course, "student 1", "student1@tm.tmt", null);
+        Student student2 = new Student(course, "student 2", "student2@tm.tmt", null);
+        when(mockLogic.getFeedbackSession(session.getName(), course.getId())).thenReturn(session);
+        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(List.of(student1, student2));
+        when(mockLogic.getStudentEmailsWithSessionResultsSnapshots(session)).thenReturn(Set.of(student1.getEmail()));
+        when(mockLogic.getCourseVersion(course.getId())).thenReturn(5L);
+
+        FeedbackSessionResultsSnapshotsWorkerAction action = getAction(params);
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic, times(1)).createSessionResultsSnapshot(any());
+        verify(mockLogic).createSessionResultsSnapshot(argThat(snapshot ->
+                snapshot.getFeedbackSession() == session && student2.getEmail().equals(snapshot.getStudentEmail())
+                        && snapshot.getCourseVersion() == 5L && snapshot.getData().length > 0));
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    public void testExecute_manyStudents_remainingStudentsScheduledInAnotherTask() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            students.add(new Student(course, "student " + i, "student" + i + "@tm.tmt", null));
+        }
+        when(mockLogic.getFeedbackSession(session.getName(), course.getId())).thenReturn(session);
+        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(students);
+        when(mockLogic.getStudentEmailsWithSessionResultsSnapshots(session)).thenReturn(Set.of());
+
+        FeedbackSessionResultsSnapshotsWorkerAction action = getAction(params);
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic, times(100)).createSessionResultsSnapshot(any());
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOTS_QUEUE_NAME, 1);
+    }
+
+    @Test
+    public void testSpecificAccessControl_isAdmin_canAccess() {
+        verifyCanAccess(params);
+    }
+
+    @Test
+    public void testSpecificAccessControl_isInstructor_cannotAccess() {
+        loginAsInstructor("user-id");
+        verifyCannotAccess(params);
+    }
+
+    @Test
+    public void testSpecificAccessControl_loggedOut_cannotAccess() {
+        logoutUser();
+        verifyCannotAccess(params);
+    }
+}
@@ -49,6 +49,7 @@ import teammates.ui.webapi.FeedbackSessionPublishedRemindersAction;
 import teammates.ui.webapi.FeedbackSessionRemindEmailWorkerAction;
 import teammates.ui.webapi.FeedbackSessionRemindParticularUsersEmailWorkerAction;
 import teammates.ui.webapi.FeedbackSessionResendPublishedEmailWorkerAction;
+import teammates.ui.webapi.FeedbackSessionResultsSnapshotsWorkerAction;
 import teammates.ui.webapi.FeedbackSessionUnpublishedEmailWorkerAction;
 import teammates.ui.webapi.GenerateEmailAction;
 import teammates.ui.webapi.GetAccountAction;
@@ -81,6 +82,8 @@ import teammates.ui.webapi.GetReadNotificationsAction;
 import teammates.ui.webapi.GetRegkeyValidityAction;
 import teammates.ui.webapi.GetSessionResponseStatsAction;
 import teammates.ui.webapi.GetSessionResultsAction;
+import teammates.ui.webapi.GetSessionResultsCsvAction;
+import teammates.ui.webapi.GetSessionResultsStatisticsAction;
 import teammates.ui.webapi.GetStudentAction;
 import teammates.ui.webapi.GetStudentsAction;
 import teammates.ui.webapi.GetTimeZonesAction;
@@ -194,6 +197,8 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UnpublishFeedbackSessionAction.class,
                 PublishFeedbackSessionAction.class,
                 GetSessionResultsAction.class,
+                GetSessionResultsStatisticsAction.class,
+                GetSessionResultsCsvAction.class,
                 GetHasResponsesAction.class,
                 DatastoreBackupAction.class,
                 RestoreCourseAction.class,
@@ -227,6 +232,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetFeedbackQuestionRecipientsAction.class,
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
+                FeedbackSessionResultsSnapshotsWorkerAction.class,
                 SendEmailWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
@@ -1,5 +1,6 @@
 package teammates.sqlui.webapi;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -12,6 +13,8 @@ import static teammates.ui.request.Intent.FULL_DETAIL;
 import static teammates.ui.request.Intent.INSTRUCTOR_RESULT;
 import static teammates.ui.request.Intent.STUDENT_RESULT;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -24,8 +27,10 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.SessionResultsCursor;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.SqlSessionResultsPage;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.storage.sqlentity.Course;
@@ -33,8 +38,10 @@ import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.test.MockHttpServletResponse;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
+import teammates.ui.webapi.ActionResult;
 import teammates.ui.webapi.GetSessionResultsAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -130,6 +137,89 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
     }
 
+    @Test
+    void testExecute_fullDetailIntentWithStreaming_shouldWriteSameJsonAsNonStreaming() throws Exception {
+        prepareMocksBasicParams(FULL_DETAIL);
+
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_IS_STREAMING, "true",
+        };
+        GetSessionResultsAction action = getAction(params);
+        ActionResult result = action.execute();
+
+        StringWriter stringWriter = new StringWriter();
+        MockHttpServletResponse resp = new MockHttpServletResponse() {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(stringWriter);
+            }
+        };
+        result.send(resp);
+
+        assertEquals(JsonUtils.toCompactJson(expectedResults), stringWriter.toString());
+    }
+
+    @Test
+    void testExecute_fullDetailIntentWithPageSize_returnsPageWithNextCursor() throws Exception {
+        prepareMocksBasicParams(FULL_DETAIL);
+        Instructor instructorStub = getTypicalInstructor();
+        SessionResultsCursor cursor = new SessionResultsCursor(1, "giver@teammates.tmt", "recipient@teammates.tmt");
+        SessionResultsCursor nextCursor = new SessionResultsCursor(2, "giver@teammates.tmt", "other@teammates.tmt");
+        when(mockLogic.getSessionResultsPageForCourse(argThat(
+                argument -> Objects.equals(argument.getName(), session.getName())),
+                eq(course.getId()), eq(instructorStub.getEmail()), isNull(), isNull(),
+                eq(FeedbackResultFetchType.BOTH), argThat(argument -> argument != null
+                        && argument.getQuestionNumber() == 1
+                        && "giver@teammates.tmt".equals(argument.getGiver())
+                        && "recipient@teammates.tmt".equals(argument.getRecipient())),
+                eq(50))).thenReturn(new SqlSessionResultsPage(resultsStub, nextCursor));
+
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "50",
+                Const.ParamsNames.FEEDBACK_RESULTS_CURSOR, cursor.toToken(),
+        };
+        GetSessionResultsAction action = getAction(params);
+        SessionResultsData output = (SessionResultsData) getJsonResult(action).getOutput();
+
+        assertTrue(isSessionResultsDataEqual(expectedResults, output));
+        SessionResultsCursor outputCursor = SessionResultsCursor.fromToken(output.getNextCursor());
+        assertEquals(2, outputCursor.getQuestionNumber());
+        assertEquals("giver@teammates.tmt", outputCursor.getGiver());
+        assertEquals("other@teammates.tmt", outputCursor.getRecipient());
+        verify(mockLogic, never()).getSessionResultsForCourse(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testExecute_fullDetailIntentWithInvalidPageSizeOrCursor_throwsInvalidHttpParameterException() {
+        prepareMocksBasicParams(FULL_DETAIL);
+
+        ______TS("page size out of range");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "0");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "1001");
+
+        ______TS("cursor not created by the server");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "50",
+                Const.ParamsNames.FEEDBACK_RESULTS_CURSOR, "not-a-cursor");
+    }
+
     @Test
     void testExecute_instructorResultIntent_success() {
         prepareMocksBasicParams(INSTRUCTOR_RESULT);
@@ -0,0 +1,174 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.SessionResultsStatisticsData;
+import teammates.ui.output.SessionResultsStatisticsData.QuestionStatisticsOutput;
+import teammates.ui.output.SessionResultsStatisticsData.RecipientStatisticsOutput;
+import teammates.ui.webapi.GetSessionResultsStatisticsAction;
+
+/**
+ * SUT: {@link GetSessionResultsStatisticsAction}.
+ */
+public class GetSessionResultsStatisticsActionTest extends BaseActionTest<GetSessionResultsStatisticsAction> {
+    private String googleId = "user-googleId";
+    private Instructor instructor;
+    private FeedbackSession session;
+    private String[] params;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT_STATISTICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        instructor = getTypicalInstructor();
+        session = getTypicalFeedbackSessionForCourse(instructor.getCourse());
+        params = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+        };
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourseId())).thenReturn(session);
+        when(mockLogic.getInstructorByGoogleId(session.getCourseId(), googleId)).thenReturn(instructor);
+        loginAsInstructor(googleId);
+    }
+
+    @Test
+    void testExecute_mcqAndNumericalScaleQuestions_statisticsAggregated() {
+        FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails("mcq question");
+        mcqDetails.setMcqChoices(List.of("A", "B"));
+        mcqDetails.setOtherEnabled(true);
+        FeedbackQuestion mcqQuestion = makeQuestion(1, mcqDetails);
+        FeedbackQuestion numScaleQuestion = makeQuestion(2, new FeedbackNumericalScaleQuestionDetails());
+        FeedbackQuestion textQuestion = getTypicalFeedbackQuestionForSession(session);
+        textQuestion.setQuestionNumber(3);
+
+        List<FeedbackResponse> responses = List.of(
+                FeedbackResponse.makeResponse(mcqQuestion, "giver1@tm.tmt", null, "recipient1@tm.tmt", null,
+                        makeMcqAnswer("A", false)),
+                FeedbackResponse.makeResponse(mcqQuestion, "giver2@tm.tmt", null, "recipient1@tm.tmt", null,
+                        makeMcqAnswer("other answer", true)),
+                FeedbackResponse.makeResponse(mcqQuestion, "giver1@tm.tmt", null, "recipient2@tm.tmt", null,
+                        makeMcqAnswer("A", false)),
+                FeedbackResponse.makeResponse(numScaleQuestion, "recipient1@tm.tmt", null, "recipient1@tm.tmt", null,
+                        makeNumericalScaleAnswer(2)),
+                FeedbackResponse.makeResponse(numScaleQuestion, "giver1@tm.tmt", null, "recipient1@tm.tmt", null,
+                        makeNumericalScaleAnswer(4)),
+                FeedbackResponse.makeResponse(numScaleQuestion, "giver2@tm.tmt", null, "recipient1@tm.tmt", null,
+                        makeNumericalScaleAnswer(5)),
+                getTypicalFeedbackResponseForQuestion(textQuestion));
+        Map<FeedbackResponse, Boolean> visibilityTable = new HashMap<>();
+        responses.forEach(response -> visibilityTable.put(response, true));
+        SqlSessionResultsBundle bundle = new SqlSessionResultsBundle(
+                List.of(mcqQuestion, numScaleQuestion, textQuestion), new HashSet<>(), new HashSet<>(),
+                responses, new ArrayList<>(), visibilityTable, visibilityTable, new HashMap<>(), new HashMap<>(),
+                new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+        when(mockLogic.getSessionResultsForCourse(eq(session), eq(session.getCourseId()), eq(instructor.getEmail()),
+                isNull(), eq("Section A"), eq(FeedbackResultFetchType.GIVER))).thenReturn(bundle);
+
+        GetSessionResultsStatisticsAction action = getAction(
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, "Section A",
+                Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER, FeedbackResultFetchType.GIVER.name());
+        SessionResultsStatisticsData output = (SessionResultsStatisticsData) getJsonResult(action).getOutput();
+
+        ______TS("question types without statistics are omitted");
+        assertEquals(2, output.getQuestions().size());
+
+        ______TS("mcq: answer frequency of every option and of every recipient");
+        QuestionStatisticsOutput mcqStatistics = output.getQuestions().get(0);
+        assertEquals(mcqQuestion.getId().toString(), mcqStatistics.getFeedbackQuestionId());
+        assertEquals(FeedbackQuestionType.MCQ, mcqStatistics.getQuestionType());
+        assertEquals(3, mcqStatistics.getNumberOfResponses());
+        assertEquals(Map.of("A", 2, "B", 0, "Other", 1), mcqStatistics.getAnswerFrequency());
+        RecipientStatisticsOutput recipient1 = mcqStatistics.getRecipientStatistics().get(0);
+        assertEquals("recipient1@tm.tmt", recipient1.getRecipientEmail());
+        assertEquals(2, recipient1.getNumberOfResponses());
+        assertEquals(Map.of("A", 1, "B", 0, "Other", 1), recipient1.getAnswerFrequency());
+        assertNull(recipient1.getAverage());
+
+        ______TS("numerical scale: total, extremes and averages of every recipient");
+        QuestionStatisticsOutput numScaleStatistics = output.getQuestions().get(1);
+        assertEquals(FeedbackQuestionType.NUMSCALE, numScaleStatistics.getQuestionType());
+        assertNull(numScaleStatistics.getAnswerFrequency());
+        assertEquals(1, numScaleStatistics.getRecipientStatistics().size());
+        RecipientStatisticsOutput numScaleRecipient = numScaleStatistics.getRecipientStatistics().get(0);
+        assertEquals(3, numScaleRecipient.getNumberOfResponses());
+        assertEquals(11.0, numScaleRecipient.getTotal(), 0.0001);
+        assertEquals(2.0, numScaleRecipient.getMin(), 0.0001);
+        assertEquals(5.0, numScaleRecipient.getMax(), 0.0001);
+        assertEquals(11.0 / 3, numScaleRecipient.getAverage(), 0.0001);
+        assertEquals(4.5, numScaleRecipient.getAverageExcludingSelf(), 0.0001);
+    }
+
+    @Test
+    void testSpecificAccessControl_instructorOfCourse_canAccess() {
+        verifyCanAccess(params);
+    }
+
+    @Test
+    void testSpecificAccessControl_student_cannotAccess() {
+        loginAsStudent("student-googleId");
+        verifyCannotAccess(params);
+    }
+
+    @Test
+    void testSpecificAccessControl_notLoggedIn_cannotAccess() {
+        logoutUser();
+        verifyCannotAccess(params);
+    }
+
+    private FeedbackQuestion makeQuestion(int questionNumber,
+            FeedbackQuestionDetails questionDetails) {
+        return FeedbackQuestion.makeQuestion(session, questionNumber, "description",
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.STUDENTS, 1, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), questionDetails);
+    }
+
+    private FeedbackMcqResponseDetails makeMcqAnswer(String answer, boolean isOther) {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer(isOther ? "" : answer);
+        details.setOther(isOther);
+        details.setOtherFieldContent(isOther ? answer : "");
+        return details;
+    }
+
+    private FeedbackNumericalScaleResponseDetails makeNumericalScaleAnswer(double answer) {
+        FeedbackNumericalScaleResponseDetails details = new FeedbackNumericalScaleResponseDetails();
+        details.setAnswer(answer);
+        return details;
+    }
+}
@@ -8,7 +8,9 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.http.HttpStatus;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -20,8 +22,10 @@ import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
 import teammates.ui.output.StudentsData;
+import teammates.ui.webapi.ActionResult;
 import teammates.ui.webapi.GetStudentsAction;
 import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.NotModifiedResult;
 
 /**
  * SUT: {@link GetStudentsAction}.
@@ -163,6 +167,61 @@ public class GetStudentsActionTest extends BaseActionTest<GetStudentsAction> {
         verify(mockLogic, never()).getStudentsByTeamName(null, stubCourse.getId());
     }
 
+    @Test
+    void testExecuteIfModified_courseVersionUnchanged_notModified() throws Exception {
+        loginAsInstructor(stubInstructorWithAllPrivileges.getGoogleId());
+        when(mockLogic.getInstructorByGoogleId(stubCourse.getId(), stubInstructorWithAllPrivileges.getGoogleId()))
+                .thenReturn(stubInstructorWithAllPrivileges);
+        when(mockLogic.getStudentsForCourse(stubCourse.getId())).thenReturn(stubStudentListAll);
+        when(mockLogic.getCourseVersion(stubCourse.getId())).thenReturn(3L);
+
+        String[] params = {
+                Const.ParamsNames.COURSE_ID, stubCourse.getId(),
+        };
+        JsonResult jsonResult = (JsonResult) getAction(params).executeIfModified();
+        String entityTag = jsonResult.getEntityTag();
+        assertTrue(entityTag.startsWith("W/\"3-"));
+
+        Map<String, String> headers = Map.of(Const.HeaderNames.IF_NONE_MATCH, entityTag);
+        ActionResult result = getAction(null, null, headers, params).executeIfModified();
+
+        assertTrue(result instanceof NotModifiedResult);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+        assertEquals(entityTag, ((NotModifiedResult) result).getEntityTag());
+        verify(mockLogic, times(1)).getStudentsForCourse(stubCourse.getId());
+
+        ______TS("Version of course changed: executed again with new tag");
+
+        when(mockLogic.getCourseVersion(stubCourse.getId())).thenReturn(4L);
+        result = getAction(null, null, headers, params).executeIfModified();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertNotEquals(entityTag, ((JsonResult) result).getEntityTag());
+        verify(mockLogic, times(2)).getStudentsForCourse(stubCourse.getId());
+    }
+
+    @Test
+    void testExecuteIfModified_otherUser_differentTag() throws Exception {
+        when(mockLogic.getStudentsForCourse(stubCourse.getId())).thenReturn(stubStudentListAll);
+        String[] params = {
+                Const.ParamsNames.COURSE_ID, stubCourse.getId(),
+        };
+
+        loginAsInstructor(stubInstructorWithAllPrivileges.getGoogleId());
+        when(mockLogic.getInstructorByGoogleId(stubCourse.getId(), stubInstructorWithAllPrivileges.getGoogleId()))
+                .thenReturn(stubInstructorWithAllPrivileges);
+        String entityTag = ((JsonResult) getAction(params).executeIfModified()).getEntityTag();
+
+        loginAsInstructor("other-instructor");
+        when(mockLogic.getInstructorByGoogleId(stubCourse.getId(), "other-instructor"))
+                .thenReturn(stubInstructorWithCourseLevelPrivilege);
+        ActionResult result = getAction(null, null, Map.of(Const.HeaderNames.IF_NONE_MATCH, entityTag), params)
+                .executeIfModified();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertNotEquals(entityTag, ((JsonResult) result).getEntityTag());
+    }
+
     @Test
     void testExecute_instructorWithSameSectionPrivilegesAsStudents_success() {
         loginAsInstructor(stubInstructorWithOnlyViewSectionPrivileges.getGoogleId());
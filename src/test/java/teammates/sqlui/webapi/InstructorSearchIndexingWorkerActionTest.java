@@ -64,7 +64,7 @@ public class InstructorSearchIndexingWorkerActionTest extends BaseActionTest<Ins
 
         verify(mockLogic, times(1))
                 .getInstructorForEmail(typicalInstructor.getCourseId(), typicalInstructor.getEmail());
-        verify(mockLogic, times(1)).putInstructorDocument(typicalInstructor);
+        verify(mockLogic, times(1)).putInstructorDocumentWithDeferredCommit(typicalInstructor);
     }
 
     @Test
@@ -76,7 +76,7 @@ public class InstructorSearchIndexingWorkerActionTest extends BaseActionTest<Ins
 
         when(mockLogic.getInstructorForEmail(typicalInstructor.getCourseId(), typicalInstructor.getEmail()))
                 .thenReturn(typicalInstructor);
-        doThrow(SearchServiceException.class).when(mockLogic).putInstructorDocument(typicalInstructor);
+        doThrow(SearchServiceException.class).when(mockLogic).putInstructorDocumentWithDeferredCommit(typicalInstructor);
 
         InstructorSearchIndexingWorkerAction action = getAction(params);
         JsonResult r = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
@@ -86,7 +86,7 @@ public class InstructorSearchIndexingWorkerActionTest extends BaseActionTest<Ins
 
         verify(mockLogic, times(1))
                 .getInstructorForEmail(typicalInstructor.getCourseId(), typicalInstructor.getEmail());
-        verify(mockLogic, times(1)).putInstructorDocument(typicalInstructor);
+        verify(mockLogic, times(1)).putInstructorDocumentWithDeferredCommit(typicalInstructor);
     }
 
     @Test
@@ -72,7 +72,7 @@ public class StudentSearchIndexingWorkerActionTest extends BaseActionTest<Studen
 
         verify(mockLogic, times(1))
                 .getStudentForEmail(typicalStudent.getCourseId(), typicalStudent.getEmail());
-        verify(mockLogic, times(1)).putStudentDocument(typicalStudent);
+        verify(mockLogic, times(1)).putStudentDocumentWithDeferredCommit(typicalStudent);
     }
 
     @Test
@@ -85,7 +85,7 @@ public class StudentSearchIndexingWorkerActionTest extends BaseActionTest<Studen
         when(mockLogic.getStudentForEmail(typicalStudent.getCourseId(),
                 typicalStudent.getEmail())).thenReturn(typicalStudent);
         doThrow(new SearchServiceException("Failure", HttpStatus.SC_BAD_GATEWAY))
-                .when(mockLogic).putStudentDocument(typicalStudent);
+                .when(mockLogic).putStudentDocumentWithDeferredCommit(typicalStudent);
 
         StudentSearchIndexingWorkerAction action = getAction(submissionParams);
         JsonResult res = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
@@ -95,7 +95,7 @@ public class StudentSearchIndexingWorkerActionTest extends BaseActionTest<Studen
 
         verify(mockLogic, times(1))
                 .getStudentForEmail(typicalStudent.getCourseId(), typicalStudent.getEmail());
-        verify(mockLogic, times(1)).putStudentDocument(typicalStudent);
+        verify(mockLogic, times(1)).putStudentDocumentWithDeferredCommit(typicalStudent);
     }
 
     @Test
@@ -1,12 +1,15 @@
 package teammates.ui.servlets;
 
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.http.Cookie;
+
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -19,6 +22,7 @@ import com.google.cloud.datastore.DatastoreException;
 
 import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.Workload;
 import teammates.test.BaseTestCase;
 import teammates.test.MockHttpServletRequest;
 import teammates.test.MockHttpServletResponse;
@@ -140,6 +144,68 @@ public class WebApiServletTest extends BaseTestCase {
 
     }
 
+    @Test
+    public void testTransactionMode() throws Exception {
+
+        ______TS("GET request: read-only transaction, never flushed");
+
+        mockHibernateUtil.clearInvocations();
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransaction);
+        mockHibernateUtil.verify(HibernateUtil::beginTransaction, never());
+        mockHibernateUtil.verify(HibernateUtil::flushSession, never());
+        mockHibernateUtil.verify(HibernateUtil::commitTransaction);
+        mockHibernateUtil.verify(() -> HibernateUtil.setWorkload(Workload.BACKGROUND), never());
+
+        ______TS("GET request of cron job: read-write transaction with background connection pool");
+
+        mockHibernateUtil.clearInvocations();
+        setupMocks(HttpGet.METHOD_NAME, Const.CronJobURIs.AUTOMATED_FEEDBACK_OPENED_REMINDERS);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        mockHibernateUtil.verify(HibernateUtil::beginTransaction);
+        mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransaction, never());
+        mockHibernateUtil.verify(() -> HibernateUtil.setWorkload(Workload.BACKGROUND));
+        mockHibernateUtil.verify(() -> HibernateUtil.setWorkload(Workload.INTERACTIVE));
+    }
+
+    @Test
+    public void testReplicaRouting() throws Exception {
+        mockHibernateUtil.when(HibernateUtil::isReplicaAvailable).thenReturn(true);
+
+        try {
+            ______TS("GET request with replica: read from replica");
+
+            mockHibernateUtil.clearInvocations();
+            setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+            mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+
+            SERVLET.doGet(mockRequest, mockResponse);
+            assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+            mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransactionOnReplica);
+            mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransaction, never());
+            assertTrue(mockResponse.getCookies().isEmpty());
+
+            ______TS("GET request after recent write: read from primary");
+
+            mockHibernateUtil.clearInvocations();
+            setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+            mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+            mockRequest.addCookie(new Cookie(Const.SecurityConfig.PRIMARY_DB_COOKIE_NAME, "true"));
+
+            SERVLET.doGet(mockRequest, mockResponse);
+            assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+            mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransaction);
+            mockHibernateUtil.verify(HibernateUtil::beginReadOnlyTransactionOnReplica, never());
+        } finally {
+            mockHibernateUtil.when(HibernateUtil::isReplicaAvailable).thenReturn(false);
+        }
+    }
+
     @Test
     public void testGaeQueueInvokedRequests() throws Exception {
 
@@ -77,6 +77,8 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UnpublishFeedbackSessionAction.class,
                 PublishFeedbackSessionAction.class,
                 GetSessionResultsAction.class,
+                GetSessionResultsStatisticsAction.class,
+                GetSessionResultsCsvAction.class,
                 GetHasResponsesAction.class,
                 DatastoreBackupAction.class,
                 RestoreCourseAction.class,
@@ -110,6 +112,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetFeedbackQuestionRecipientsAction.class,
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
+                FeedbackSessionResultsSnapshotsWorkerAction.class,
                 SendEmailWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
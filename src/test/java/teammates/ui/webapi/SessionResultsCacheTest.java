@@ -0,0 +1,106 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.test.BaseTestCase;
+import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+import teammates.ui.request.Intent;
+
+/**
+ * SUT: {@link SessionResultsCache}.
+ */
+public class SessionResultsCacheTest extends BaseTestCase {
+
+    @Test
+    public void testGet() {
+        SessionResultsCache cache = new SessionResultsCache(100);
+        AtomicInteger numberOfBuilds = new AtomicInteger();
+        Supplier<List<QuestionOutput>> questionsBuilder = () -> {
+            numberOfBuilds.incrementAndGet();
+            return buildQuestionOutputs(2);
+        };
+
+        ______TS("results are built once for the same key");
+
+        List<QuestionOutput> questions = cache.get(getKey(0, "instructor@teammates.tmt"), questionsBuilder);
+        assertEquals(2, questions.size());
+        assertEquals(questions, cache.get(getKey(0, "instructor@teammates.tmt"), questionsBuilder));
+        assertEquals(1, numberOfBuilds.get());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+
+        ______TS("results are built again for another user");
+
+        cache.get(getKey(0, "student@teammates.tmt"), questionsBuilder);
+        assertEquals(2, numberOfBuilds.get());
+
+        ______TS("results are built again once the course version has changed");
+
+        cache.get(getKey(1, "instructor@teammates.tmt"), questionsBuilder);
+        assertEquals(3, numberOfBuilds.get());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(3, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testGet_exceedMaxResponses_resultsEvicted() {
+        SessionResultsCache cache = new SessionResultsCache(10);
+
+        for (int version = 0; version < 10; version++) {
+            cache.get(getKey(version, "instructor@teammates.tmt"), () -> buildQuestionOutputs(5));
+        }
+
+        assertTrue(cache.getStats().evictionCount() > 0);
+    }
+
+    @Test
+    public void testGet_cacheDisabled_resultsAlwaysBuilt() {
+        SessionResultsCache cache = new SessionResultsCache(0);
+        AtomicInteger numberOfBuilds = new AtomicInteger();
+
+        assertFalse(cache.isEnabled());
+        for (int i = 0; i < 3; i++) {
+            cache.get(getKey(0, "instructor@teammates.tmt"), () -> {
+                numberOfBuilds.incrementAndGet();
+                return buildQuestionOutputs(1);
+            });
+        }
+
+        assertEquals(3, numberOfBuilds.get());
+        assertEquals(0, cache.getStats().requestCount());
+    }
+
+    private SessionResultsCache.Key getKey(long courseVersion, String userEmail) {
+        return new SessionResultsCache.Key("course-id", courseVersion, "session-name", Intent.FULL_DETAIL,
+                userEmail, null, null, FeedbackResultFetchType.BOTH);
+    }
+
+    private List<QuestionOutput> buildQuestionOutputs(int numberOfQuestions) {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        List<FeedbackQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= numberOfQuestions; i++) {
+            FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+            question.setQuestionNumber(i);
+            questions.add(question);
+        }
+        SqlSessionResultsBundle bundle = new SqlSessionResultsBundle(questions,
+                new HashSet<>(), new HashSet<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+        return SessionResultsData.initForInstructor(bundle).getQuestions();
+    }
+
+}
@@ -0,0 +1,80 @@
+package teammates.ui.webapi;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * SUT: {@link SessionResultsCsvResult}.
+ */
+public class SessionResultsCsvResultTest extends BaseTestCase {
+
+    @Test
+    public void testEscape() {
+        assertEquals("plain answer", SessionResultsCsvResult.escape("plain answer"));
+        assertEquals("\"a, b\"", SessionResultsCsvResult.escape("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", SessionResultsCsvResult.escape("say \"hi\""));
+        assertEquals("\"line 1\nline 2\"", SessionResultsCsvResult.escape("line 1\nline 2"));
+
+        ______TS("values evaluated as formulas by spreadsheets are prefixed with a quote");
+        assertEquals("'=1+2", SessionResultsCsvResult.escape("=1+2"));
+        assertEquals("'+cmd", SessionResultsCsvResult.escape("+cmd"));
+        assertEquals("'-cmd", SessionResultsCsvResult.escape("-cmd"));
+        assertEquals("\"'@SUM(A1, A2)\"", SessionResultsCsvResult.escape("@SUM(A1, A2)"));
+        assertEquals("-1.5", SessionResultsCsvResult.escape("-1.5"));
+    }
+
+    @Test
+    public void testSend_responsesAndMissingResponses_oneRowForEveryResponse() throws Exception {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        FeedbackResponse response = FeedbackResponse.makeResponse(question, "giver@teammates.tmt", getTypicalSection(),
+                "recipient@teammates.tmt", getTypicalSection(), new FeedbackTextResponseDetails("Good, \"very\" good"));
+        FeedbackMissingResponse missingResponse = new FeedbackMissingResponse(question, "giver@teammates.tmt",
+                Const.DEFAULT_SECTION, "other@teammates.tmt", Const.DEFAULT_SECTION);
+        Map<FeedbackResponse, Boolean> visibilityTable = new HashMap<>();
+        visibilityTable.put(response, true);
+        SqlSessionResultsBundle bundle = new SqlSessionResultsBundle(List.of(question),
+                new HashSet<>(), new HashSet<>(), List.of(response),
+                Map.<FeedbackQuestion, Iterable<FeedbackResponse>>of(question, List.of(missingResponse)),
+                visibilityTable, visibilityTable,
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+
+        StringWriter output = new StringWriter();
+        MockHttpServletResponse resp = new MockHttpServletResponse() {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(output);
+            }
+        };
+        new SessionResultsCsvResult("results.csv",
+                consumer -> SessionResultsData.forEachQuestionForInstructor(bundle, consumer)).send(resp);
+
+        String[] rows = output.toString().split("\r\n");
+        assertEquals(3, rows.length);
+        assertEquals(String.join(",", SessionResultsCsvResult.HEADER), rows[0]);
+        assertTrue(rows[1].startsWith(question.getQuestionNumber() + ","));
+        assertTrue(rows[1].contains(",giver@teammates.tmt,"));
+        assertTrue(rows[1].contains(",\"Good, \"\"very\"\" good\","));
+        assertTrue(rows[2].contains("," + Const.MISSING_RESPONSE_TEXT + ","));
+    }
+
+}
@@ -0,0 +1,76 @@
+package teammates.ui.webapi;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * SUT: {@link SessionResultsSnapshotResult}.
+ */
+public class SessionResultsSnapshotResultTest extends BaseTestCase {
+
+    @Test
+    public void testSend_snapshotOfQuestions_sameJsonAsJsonResult() throws Exception {
+        List<QuestionOutput> questions = buildQuestionOutputs(3);
+
+        byte[] snapshotData = SessionResultsSnapshotResult.createSnapshotData(questions::forEach);
+        String expectedJson = JsonUtils.toCompactJson(SessionResultsData.fromQuestions(questions));
+        assertTrue(snapshotData.length < expectedJson.length());
+
+        StringWriter output = new StringWriter();
+        new SessionResultsSnapshotResult(snapshotData).send(new MockHttpServletResponse() {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(output);
+            }
+        });
+
+        assertEquals(expectedJson, output.toString());
+    }
+
+    @Test
+    public void testSend_snapshotWithoutQuestions_emptyQuestions() throws Exception {
+        byte[] snapshotData = SessionResultsSnapshotResult.createSnapshotData(consumer -> {});
+
+        StringWriter output = new StringWriter();
+        new SessionResultsSnapshotResult(snapshotData).send(new MockHttpServletResponse() {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(output);
+            }
+        });
+
+        assertEquals("{\"questions\":[]}", output.toString());
+    }
+
+    private List<QuestionOutput> buildQuestionOutputs(int numberOfQuestions) {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        List<FeedbackQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= numberOfQuestions; i++) {
+            FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+            question.setQuestionNumber(i);
+            questions.add(question);
+        }
+        SqlSessionResultsBundle bundle = new SqlSessionResultsBundle(questions,
+                new HashSet<>(), new HashSet<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+        return SessionResultsData.initForInstructor(bundle).getQuestions();
+    }
+
+}
@@ -0,0 +1,81 @@
+package teammates.ui.webapi;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * SUT: {@link SessionResultsStreamResult}.
+ */
+public class SessionResultsStreamResultTest extends BaseTestCase {
+
+    @Test
+    public void testSend_allQuestionsBuilt_sameJsonAsJsonResult() throws Exception {
+        List<QuestionOutput> questions = buildQuestionOutputs(3);
+        SessionResultsStreamResult result = new SessionResultsStreamResult(questions::forEach);
+        assertTrue(result.isSentInTransaction());
+
+        StringWriter output = new StringWriter();
+        result.send(getResponseWritingTo(output));
+
+        assertEquals(JsonUtils.toCompactJson(SessionResultsData.fromQuestions(questions)), output.toString());
+    }
+
+    @Test
+    public void testSend_failureAfterSomeQuestions_endsWithErrorField() {
+        List<QuestionOutput> questions = buildQuestionOutputs(3);
+        SessionResultsStreamResult result = new SessionResultsStreamResult(consumer -> {
+            consumer.accept(questions.get(0));
+            consumer.accept(questions.get(1));
+            throw new IllegalStateException("failed to build question 3");
+        });
+
+        StringWriter output = new StringWriter();
+        assertThrows(IllegalStateException.class, () -> result.send(getResponseWritingTo(output)));
+
+        String sentQuestionsJson = JsonUtils.toCompactJson(SessionResultsData.fromQuestions(questions.subList(0, 2)));
+        String expectedJson = sentQuestionsJson.substring(0, sentQuestionsJson.length() - 1)
+                + ",\"error\":\"The server encountered an error when processing your request.\"}";
+        assertEquals(expectedJson, output.toString());
+    }
+
+    private MockHttpServletResponse getResponseWritingTo(StringWriter output) {
+        return new MockHttpServletResponse() {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(output);
+            }
+        };
+    }
+
+    private List<QuestionOutput> buildQuestionOutputs(int numberOfQuestions) {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        List<FeedbackQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= numberOfQuestions; i++) {
+            FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+            question.setQuestionNumber(i);
+            questions.add(question);
+        }
+        SqlSessionResultsBundle bundle = new SqlSessionResultsBundle(questions,
+                new HashSet<>(), new HashSet<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
+        return SessionResultsData.initForInstructor(bundle).getQuestions();
+    }
+
+}